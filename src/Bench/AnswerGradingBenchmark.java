@@ -0,0 +1,139 @@
+package Bench;
+
+import Model.FillInTheBlank;
+import Model.MultipleChoiceQuestion;
+import Model.Question;
+import Model.TrueFalseQuestion;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Measures answer grading for each question type: nanoseconds and bytes allocated
+ * per answer, through {@link Question#isCorrect(String)} and through the in-place
+ * {@link Question#isCorrect(CharSequence, int, int)} reading answers out of one
+ * shared buffer. For comparison it also runs the string-copying checks the three
+ * types used before, reproduced here.
+ * Run with {@code java Bench.AnswerGradingBenchmark [answers]} (default 2000000).
+ *
+ * @author Husein
+ */
+public final class AnswerGradingBenchmark {
+
+    /** Rounds run before measuring, so the JIT has compiled the grading paths. */
+    private static final int WARMUP_ROUNDS = 5;
+
+    /** Keeps results alive so the JIT cannot drop the work. */
+    private static int sink;
+
+    private AnswerGradingBenchmark() {
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args optional number of answers graded per measurement
+     */
+    public static void main(final String[] args) {
+        final int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+
+        final Question mc = new MultipleChoiceQuestion("Largest planet?", List.of("Mars", "Jupiter", "Venus", "Earth"), 1, null);
+        final Question tf = new TrueFalseQuestion("The sun is a star.", true, null);
+        final Question fb = new FillInTheBlank("Who wrote Hamlet?", "William Shakespeare|Shakespeare", null);
+
+        run("MC", mc, count, new String[] {"B", " b ", "C", "maybe"}, LegacyCheck.MC);
+        run("TF", tf, count, new String[] {"true", " F ", "T", "yes"}, LegacyCheck.TF);
+        run("FB", fb, count, new String[] {"william shakespeare", "Shakespear", "  SHAKESPEARE!", "Marlowe"}, LegacyCheck.FB);
+        System.out.println("(" + count + " answers per row; sink " + sink + ")");
+    }
+
+    /**
+     * Warms up and measures the three grading paths for one question.
+     */
+    private static void run(final String theLabel, final Question theQuestion, final int count,
+                            final String[] theAnswers, final LegacyCheck theLegacy) {
+        // All answers back to back in one buffer, with their offsets
+        final StringBuilder buffer = new StringBuilder();
+        final int[] starts = new int[theAnswers.length + 1];
+        for (int i = 0; i < theAnswers.length; i++) {
+            starts[i] = buffer.length();
+            buffer.append(theAnswers[i]);
+        }
+        starts[theAnswers.length] = buffer.length();
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            legacy(theLegacy, theAnswers, count / 10);
+            strings(theQuestion, theAnswers, count / 10);
+            ranges(theQuestion, buffer, starts, count / 10);
+        }
+
+        report(theLabel + " legacy copy", () -> legacy(theLegacy, theAnswers, count), count);
+        report(theLabel + " isCorrect(String)", () -> strings(theQuestion, theAnswers, count), count);
+        report(theLabel + " isCorrect(range)", () -> ranges(theQuestion, buffer, starts, count), count);
+    }
+
+    private static void legacy(final LegacyCheck theCheck, final String[] theAnswers, final int theCount) {
+        for (int i = 0; i < theCount; i++) {
+            if (theCheck.isCorrect(theAnswers[i & 3])) sink++;
+        }
+    }
+
+    private static void strings(final Question theQuestion, final String[] theAnswers, final int theCount) {
+        for (int i = 0; i < theCount; i++) {
+            if (theQuestion.isCorrect(theAnswers[i & 3])) sink++;
+        }
+    }
+
+    private static void ranges(final Question theQuestion, final CharSequence theBuffer, final int[] theStarts,
+                               final int theCount) {
+        for (int i = 0; i < theCount; i++) {
+            final int a = i & 3;
+            if (theQuestion.isCorrect(theBuffer, theStarts[a], theStarts[a + 1])) sink++;
+        }
+    }
+
+    /**
+     * Times a task and reports time and heap allocated per answer on this thread.
+     */
+    @SuppressWarnings("deprecation") // getId() rather than threadId(), which needs JDK 19
+    private static void report(final String theLabel, final Runnable theTask, final int theCount) {
+        final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long thread = Thread.currentThread().getId();
+        final long bytes0 = threads.getThreadAllocatedBytes(thread);
+        final long t0 = System.nanoTime();
+        theTask.run();
+        final long elapsed = System.nanoTime() - t0;
+        final long bytes = threads.getThreadAllocatedBytes(thread) - bytes0;
+        System.out.printf("%-26s %7.1f ns/answer %8.2f B/answer%n",
+                theLabel, (double) elapsed / theCount, (double) bytes / theCount);
+    }
+
+    /**
+     * The answer checks the question types used before grading in place.
+     */
+    private enum LegacyCheck {
+        MC {
+            @Override
+            boolean isCorrect(final String theAnswer) {
+                final String a = theAnswer.trim();
+                return a.length() == 1 && Character.toUpperCase(a.charAt(0)) - 'A' == 1;
+            }
+        },
+        TF {
+            @Override
+            boolean isCorrect(final String theAnswer) {
+                final String a = theAnswer.trim().toLowerCase();
+                return a.equals("t") || a.equals("true");
+            }
+        },
+        FB {
+            @Override
+            boolean isCorrect(final String theAnswer) {
+                return theAnswer.toLowerCase().trim().equals("william shakespeare");
+            }
+        };
+
+        abstract boolean isCorrect(String theAnswer);
+    }
+}
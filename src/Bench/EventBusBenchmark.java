@@ -0,0 +1,104 @@
+package Bench;
+
+import Model.EventBus;
+import Model.GameEvent;
+import Model.GameState;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures event delivery at high rates: nanoseconds and bytes allocated per event
+ * through the {@link EventBus}, against the {@link PropertyChangeSupport} path the
+ * game used before, with a listener that dispatches on the property name the way
+ * the controller did. Both publish the same mix of state changes as the game does.
+ * Run with {@code java Bench.EventBusBenchmark [events]} (default 20000000).
+ *
+ * @author Husein
+ */
+public final class EventBusBenchmark {
+
+    /** Rounds run before measuring, so the JIT has compiled both paths. */
+    private static final int WARMUP_ROUNDS = 5;
+
+    /** Listeners per event type, like a controller plus a couple of panels. */
+    private static final int LISTENERS = 3;
+
+    /** Keeps results alive so the JIT cannot drop the work. */
+    private static long sink;
+
+    private EventBusBenchmark() {
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args optional number of events published per measurement
+     */
+    public static void main(final String[] args) {
+        final int count = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+
+        final PropertyChangeSupport pcs = new PropertyChangeSupport(new Object());
+        final EventBus bus = new EventBus();
+        for (int i = 0; i < LISTENERS; i++) {
+            pcs.addPropertyChangeListener(new StringSwitchListener());
+            bus.subscribe(GameEvent.StateChanged.class, e -> sink += e.newState().ordinal());
+        }
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            propertyChange(pcs, count / 10);
+            eventBus(bus, count / 10);
+        }
+        report("PropertyChangeSupport", () -> propertyChange(pcs, count), count);
+        report("EventBus", () -> eventBus(bus, count), count);
+        System.out.println("(" + count + " events per row, " + LISTENERS + " listeners; sink " + sink + ")");
+    }
+
+    private static void propertyChange(final PropertyChangeSupport thePcs, final int theCount) {
+        final GameState[] states = GameState.values();
+        for (int i = 0; i < theCount; i++) {
+            thePcs.firePropertyChange("state", states[i % states.length], states[(i + 1) % states.length]);
+        }
+    }
+
+    private static void eventBus(final EventBus theBus, final int theCount) {
+        final GameState[] states = GameState.values();
+        for (int i = 0; i < theCount; i++) {
+            theBus.publish(new GameEvent.StateChanged(states[i % states.length], states[(i + 1) % states.length]));
+        }
+    }
+
+    /**
+     * Times a task and reports time and heap allocated per event on this thread.
+     */
+    @SuppressWarnings("deprecation") // getId() rather than threadId(), which needs JDK 19
+    private static void report(final String theLabel, final Runnable theTask, final int theCount) {
+        final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long thread = Thread.currentThread().getId();
+        final long bytes0 = threads.getThreadAllocatedBytes(thread);
+        final long t0 = System.nanoTime();
+        theTask.run();
+        final long elapsed = System.nanoTime() - t0;
+        final long bytes = threads.getThreadAllocatedBytes(thread) - bytes0;
+        System.out.printf("%-22s %7.1f ns/event %8.2f B/event%n",
+                theLabel, (double) elapsed / theCount, (double) bytes / theCount);
+    }
+
+    /**
+     * A listener shaped like the controller's old one: a switch on the property name
+     * and a cast of the new value.
+     */
+    private static final class StringSwitchListener implements PropertyChangeListener {
+        @Override
+        public void propertyChange(final PropertyChangeEvent theEvent) {
+            switch (theEvent.getPropertyName()) {
+                case "state" -> sink += ((GameState) theEvent.getNewValue()).ordinal();
+                case "askQuestion", "playerMoved", "doorBlocked" -> sink--;
+                default -> { }
+            }
+        }
+    }
+}
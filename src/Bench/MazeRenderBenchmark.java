@@ -0,0 +1,110 @@
+package Bench;
+
+import Model.MazeGrid;
+import View.MazeCanvas;
+import View.MazeMinimap;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Measures maze drawing off screen: building and painting the old grid of one
+ * labelled panel per room, against painting a window's worth of the
+ * {@link MazeCanvas} as a game opens it (small mazes fitted, large ones zoomed in)
+ * and zoomed out as far as it goes, a one-room repaint, and building the
+ * {@link MazeMinimap} image. The panel grid is only built for mazes up to 100x100, since past that it
+ * runs into millions of components.
+ * Run with {@code java -Djava.awt.headless=true Bench.MazeRenderBenchmark [rounds]}
+ * (default 20).
+ *
+ * @author Husein
+ */
+public final class MazeRenderBenchmark {
+
+    /** Maze side lengths measured. */
+    private static final int[] SIZES = {10, 50, 100, 500, 1000};
+
+    /** Largest maze the panel grid is built for. */
+    private static final int PANEL_LIMIT = 100;
+
+    /** Size of the drawing area, about the maze area of the game window. */
+    private static final int WIDTH = 640, HEIGHT = 560;
+
+    private MazeRenderBenchmark() {
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args optional number of timed rounds per measurement
+     */
+    public static void main(final String[] args) {
+        final int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        final BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+
+        System.out.printf("%-11s %12s %12s %12s %12s %12s%n",
+                "maze", "panels", "window", "zoomed out", "1 room", "minimap");
+        for (final int size : SIZES) {
+            final String panels = size <= PANEL_LIMIT
+                    ? String.format("%9.2f ms", time(rounds, () -> paint(buildPanelGrid(size), image)))
+                    : "-";
+
+            final MazeGrid grid = new MazeGrid(size, size);
+            for (int e = 0; e < grid.getEdgeCount(); e += 7) grid.block(e);
+            final MazeCanvas canvas = new MazeCanvas();
+            canvas.setSize(WIDTH, HEIGHT);
+            canvas.setModel(grid, 0);
+            final double window = time(rounds, () -> paint(canvas, image));
+            final double one = time(rounds * 100, () -> {
+                final Graphics2D g = image.createGraphics();
+                g.clipRect(WIDTH / 2, HEIGHT / 2, WIDTH / size + 1, HEIGHT / size + 1);
+                canvas.paint(g);
+                g.dispose();
+            });
+            canvas.zoomToFit();
+            final double out = time(rounds, () -> paint(canvas, image));
+
+            final MazeMinimap minimap = new MazeMinimap();
+            final double map = time(rounds, () -> minimap.setModel(grid, 0));
+            System.out.printf("%-11s %12s %9.2f ms %9.2f ms %9.3f ms %9.2f ms%n",
+                    size + "x" + size, panels, window, out, one, map);
+        }
+    }
+
+    /**
+     * Builds a grid shaped like the old per-room panels: a panel with a compound
+     * border and a label for every room, laid out in a {@link GridLayout}.
+     */
+    private static JPanel buildPanelGrid(final int theSize) {
+        final JPanel grid = new JPanel(new GridLayout(theSize, theSize, 8, 8));
+        for (int i = 0; i < theSize * theSize; i++) {
+            final JPanel cell = new JPanel(new BorderLayout());
+            cell.setBorder(BorderFactory.createCompoundBorder(
+                    BorderFactory.createLineBorder(new Color(210, 210, 210)),
+                    new EmptyBorder(18, 18, 18, 18)));
+            cell.add(new JLabel("ROOM", SwingConstants.CENTER), BorderLayout.CENTER);
+            grid.add(cell);
+        }
+        grid.setSize(WIDTH, HEIGHT);
+        grid.validate();
+        return grid;
+    }
+
+    private static void paint(final JComponent theComponent, final BufferedImage theImage) {
+        final Graphics2D g = theImage.createGraphics();
+        theComponent.paint(g);
+        g.dispose();
+    }
+
+    /**
+     * Runs a task a few times to warm up, then returns its mean time in milliseconds.
+     */
+    private static double time(final int theRounds, final Runnable theTask) {
+        for (int i = 0; i < Math.min(theRounds, 5); i++) theTask.run();
+        final long t0 = System.nanoTime();
+        for (int i = 0; i < theRounds; i++) theTask.run();
+        return (System.nanoTime() - t0) / 1e6 / theRounds;
+    }
+}
@@ -0,0 +1,85 @@
+package Bench;
+
+import Model.Direction;
+import Model.Door;
+import Model.Maze;
+import Model.questionFactory;
+
+import java.util.Random;
+
+/**
+ * Measures how maze construction time and retained heap grow with maze size
+ * when the player only explores a fixed-size neighbourhood of the start.
+ * Run with {@code java Bench.MazeScalingBenchmark [jdbcUrl]}; every row walks
+ * the same number of steps, so the difference between rows is the cost of
+ * cells that were never visited.
+ *
+ * @author Husein
+ */
+public final class MazeScalingBenchmark {
+
+    /** Maze side lengths to measure. */
+    private static final int[] SIZES = {20, 50, 100, 250, 500, 1000};
+
+    /** Random steps taken from the start in every maze. */
+    private static final int STEPS = 500;
+
+    /** Timed constructions per size. */
+    private static final int ROUNDS = 5;
+
+    private MazeScalingBenchmark() {
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args optional JDBC url of the question database
+     */
+    public static void main(final String[] args) {
+        final String db = args.length > 0 ? args[0] : "jdbc:sqlite:lib/trivia.db";
+        final questionFactory qf = new questionFactory(db);
+
+        System.out.printf("%10s %12s %14s %14s %12s%n", "size", "build (ms)", "retained (KB)", "bytes/cell", "objects");
+        for (final int size : SIZES) {
+            // Warm-up and timing of construction alone.
+            long best = Long.MAX_VALUE;
+            for (int i = 0; i < ROUNDS; i++) {
+                final long t0 = System.nanoTime();
+                final Maze m = new Maze(size, size, qf);
+                best = Math.min(best, System.nanoTime() - t0);
+                if (m.getRows() != size) throw new AssertionError();
+            }
+
+            final long before = usedHeap();
+            final Maze maze = new Maze(size, size, qf);
+            explore(maze, new Random(size));
+            final long retained = usedHeap() - before;
+
+            final long cells = (long) size * size;
+            System.out.printf("%10s %12.3f %14.1f %14.4f %12d%n",
+                    size + "x" + size, best / 1e6, retained / 1024.0,
+                    (double) retained / cells, maze.getMaterializedCount());
+        }
+    }
+
+    /**
+     * Walks the player around, binding the question of every door it tries.
+     */
+    private static void explore(final Maze theMaze, final Random theRandom) {
+        final Direction[] dirs = Direction.values();
+        for (int i = 0; i < STEPS; i++) {
+            final Direction d = dirs[theRandom.nextInt(dirs.length)];
+            final Door door = theMaze.getDoor(d);
+            if (door == null) continue;
+            theMaze.bindQuestion(door);
+            theMaze.move(d);
+        }
+    }
+
+    /** @return heap in use after a best-effort collection */
+    private static long usedHeap() {
+        final Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
@@ -0,0 +1,147 @@
+package Bench;
+
+import Model.QuestionCatalog;
+import Model.QuestionPack;
+import Model.questionFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Measures cold start of {@link questionFactory} on a generated SQLite database.
+ * Run with {@code java Bench.QuestionLoadBenchmark [questionCount]} (default 100000)
+ * with the SQLite JDBC driver on the class path. The first round is the cold load;
+ * later rounds are what a new game pays once the catalog is shared. For comparison it
+ * also times the old one-connection-per-question hint lookup on a sample and extrapolates it,
+ * and the cold start of the same bank compiled into a memory-mapped {@link QuestionPack}.
+ *
+ * @author Husein
+ */
+public final class QuestionLoadBenchmark {
+
+    /** Questions sampled for the per-question connection baseline. */
+    private static final int BASELINE_SAMPLE = 1000;
+
+    private QuestionLoadBenchmark() {
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args optional number of questions to generate
+     * @throws Exception if the database cannot be created
+     */
+    public static void main(final String[] args) throws Exception {
+        final int count = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        final Path file = Files.createTempFile("trivia-bench", ".db");
+        final Path pack = Files.createTempFile("trivia-bench", ".pack");
+        try {
+            final String url = "jdbc:sqlite:" + file;
+            generate(url, count);
+            System.out.printf("generated %d questions (%d KB)%n", count, Files.size(file) / 1024);
+
+            for (int round = 1; round <= 3; round++) {
+                final long t0 = System.nanoTime();
+                final questionFactory qf = new questionFactory(url);
+                final long elapsed = System.nanoTime() - t0;
+                System.out.printf("round %d: factory ready in %.1f ms (first draw %s)%n",
+                        round, elapsed / 1e6, qf.getNextAvailableQuestion() != null ? "ok" : "empty");
+            }
+
+            QuestionPack.write(QuestionCatalog.forDatabase(url), pack);
+            final long p0 = System.nanoTime();
+            final questionFactory packed = new questionFactory(pack.toString());
+            final long packElapsed = System.nanoTime() - p0;
+            System.out.printf("pack (%d KB): factory ready in %.1f ms (first draw %s)%n",
+                    Files.size(pack) / 1024, packElapsed / 1e6,
+                    packed.getNextAvailableQuestion() != null ? "ok" : "empty");
+
+            final long t0 = System.nanoTime();
+            for (int id = 1; id <= BASELINE_SAMPLE; id++) {
+                hintsWithFreshConnection(url, id);
+            }
+            final double perQuestion = (System.nanoTime() - t0) / 1e6 / BASELINE_SAMPLE;
+            System.out.printf("per-question connection hint lookup: %.3f ms each, ~%.0f ms for %d questions%n",
+                    perQuestion, perQuestion * count, count);
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(pack);
+        }
+    }
+
+    /**
+     * Creates the questions and hints tables and fills them with a mix of types,
+     * giving every other question a hint.
+     */
+    private static void generate(final String theUrl, final int theCount) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(theUrl)) {
+            try (Statement st = conn.createStatement()) {
+                st.executeUpdate("""
+                        CREATE TABLE questions (
+                            id INTEGER PRIMARY KEY, type TEXT, question TEXT, correct_answer TEXT,
+                            option_a TEXT, option_b TEXT, option_c TEXT, option_d TEXT)""");
+                st.executeUpdate("CREATE TABLE hints (id INTEGER PRIMARY KEY, question_id INTEGER, hint_text TEXT)");
+            }
+            conn.setAutoCommit(false);
+            try (PreparedStatement q = conn.prepareStatement(
+                    "INSERT INTO questions VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+                 PreparedStatement h = conn.prepareStatement(
+                         "INSERT INTO hints (question_id, hint_text) VALUES (?, ?)")) {
+                for (int id = 1; id <= theCount; id++) {
+                    final String type = switch (id % 3) {
+                        case 0 -> "MC";
+                        case 1 -> "TF";
+                        default -> "FB";
+                    };
+                    q.setInt(1, id);
+                    q.setString(2, type);
+                    q.setString(3, "Generated question number " + id + "?");
+                    q.setString(4, switch (type) {
+                        case "MC" -> "B";
+                        case "TF" -> "true";
+                        default -> "answer" + id;
+                    });
+                    for (int opt = 5; opt <= 8; opt++) {
+                        q.setString(opt, "MC".equals(type) ? "Option " + (char) ('A' + opt - 5) : null);
+                    }
+                    q.addBatch();
+                    if (id % 2 == 0) {
+                        h.setInt(1, id);
+                        h.setString(2, "Hint for question " + id);
+                        h.addBatch();
+                    }
+                    if (id % 10_000 == 0) {
+                        q.executeBatch();
+                        h.executeBatch();
+                    }
+                }
+                q.executeBatch();
+                h.executeBatch();
+            }
+            conn.commit();
+        }
+    }
+
+    /**
+     * The lookup the factory used to do for every question: a new connection
+     * and a separate SELECT per id.
+     */
+    private static int hintsWithFreshConnection(final String theUrl, final int theId) throws SQLException {
+        int found = 0;
+        try (Connection conn = DriverManager.getConnection(theUrl);
+             PreparedStatement stmt = conn.prepareStatement("SELECT hint_text FROM hints WHERE question_id = ?")) {
+            stmt.setInt(1, theId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) found++;
+            }
+        }
+        return found;
+    }
+}
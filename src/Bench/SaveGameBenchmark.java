@@ -0,0 +1,101 @@
+package Bench;
+
+import Model.DifficultySettings;
+import Model.Direction;
+import Model.Game;
+import Model.GameSave;
+import Model.GameStateManager;
+import Model.Maze;
+import Model.MazeGrid;
+import Model.Player;
+import Model.QuestionCatalog;
+import Model.QuestionRecord;
+import Model.QuestionType;
+import Model.questionFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Measures how long {@link GameSave} takes to encode and decode a game in progress
+ * and how big the save is, for a range of maze sizes. Each game has a tenth of its
+ * doors opened, a fiftieth blocked, a tenth of its rooms visited and questions bound
+ * around the start room.
+ * Run with {@code java Bench.SaveGameBenchmark [iterations]} (default 200).
+ *
+ * @author Husein
+ */
+public final class SaveGameBenchmark {
+
+    /** Maze side lengths measured. */
+    private static final int[] SIZES = {5, 100, 1000};
+
+    /** Keeps results alive so the JIT cannot drop the work. */
+    private static long sink;
+
+    private SaveGameBenchmark() {
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args optional number of encode/decode rounds per size
+     * @throws IOException if a save fails to decode
+     */
+    public static void main(final String[] args) throws IOException {
+        final int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        final List<QuestionRecord> records = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            records.add(new QuestionRecord(QuestionType.TF, "Generated " + i, "true", List.of(), "hint"));
+        }
+        final QuestionCatalog catalog = QuestionCatalog.of(records);
+
+        System.out.printf("%-11s %10s %12s %12s%n", "maze", "bytes", "encode", "decode");
+        for (final int size : SIZES) {
+            final questionFactory qf = new questionFactory(catalog);
+            final Game game = buildGame(size, qf);
+
+            for (int i = 0; i < iterations; i++) {
+                sink += GameSave.decode(GameSave.encode(game), qf).getPlayer().getScore();
+            }
+            byte[] data = null;
+            long t0 = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                data = GameSave.encode(game);
+                sink += data.length;
+            }
+            final long encode = System.nanoTime() - t0;
+            t0 = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += GameSave.decode(data, qf).getMaze().getCurrentCell();
+            }
+            final long decode = System.nanoTime() - t0;
+            System.out.printf("%-11s %10d %9.1f us %9.1f us%n", size + "x" + size, data.length,
+                    encode / 1e3 / iterations, decode / 1e3 / iterations);
+        }
+        System.out.println("(" + iterations + " rounds per size; sink " + sink + ")");
+    }
+
+    private static Game buildGame(final int theSize, final questionFactory theFactory) {
+        final DifficultySettings settings = new DifficultySettings.Builder("Bench")
+                .mazeSize(theSize, theSize)
+                .largeMaze(theSize > 10)
+                .build();
+        final Maze maze = new Maze(theSize, theSize, theFactory);
+        final MazeGrid grid = maze.getGrid();
+        final SplittableRandom rnd = new SplittableRandom(7);
+        for (int e = 0; e < grid.getEdgeCount(); e++) {
+            final int roll = rnd.nextInt(100);
+            if (roll < 10) grid.open(e);
+            else if (roll < 12) grid.block(e);
+        }
+        for (int c = 0; c < grid.getCellCount(); c += 10) {
+            grid.markVisited(c);
+        }
+        maze.bindQuestion(maze.getDoor(Direction.EAST));
+        maze.bindQuestion(maze.getDoor(Direction.SOUTH));
+        return new Game(maze, new Player(), new GameStateManager(), settings);
+    }
+}
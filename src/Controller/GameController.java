@@ -4,20 +4,24 @@ import Model.*;
 import View.*;
 
 import javax.swing.*;
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import View.audio.Sounds;
 
 /**
  * This represents the controller class starts new game and rebinds listeners
  */
-public class GameController implements PropertyChangeListener {
+public class GameController {
 
     /** The current game model */
      private Game game;
-    /** Manages game states and fires state property changes*/
+    /** Manages game states and publishes state changes*/
     private GameStateManager gsm;
 
     /** The main swing window containing all panels*/
@@ -31,6 +35,15 @@ public class GameController implements PropertyChangeListener {
     /**This is a check for if player has won*/
     private boolean hasWon = false;
 
+    /** Receives every model event; one instance so it can be unsubscribed */
+    private final Consumer<GameEvent> events = this::onEvent;
+
+    /** Question factories by the settings that shape them, reshuffled and reused for each new game */
+    private final Map<List<Object>, questionFactory> factories = new HashMap<>();
+
+    /** Where the last game was saved or loaded, offered again by the file chooser */
+    private File saveFile = new File("trivia-maze.sav");
+
     /**
      * This builds a new controller around initial model and view
      *
@@ -47,8 +60,7 @@ public class GameController implements PropertyChangeListener {
         this.view = Objects.requireNonNull(view);
 
         // listening to model events
-        game.addListener(this);
-        gsm.addListener(this);
+        listen();
 
         //Wiring the UI
         wireMenus();
@@ -235,86 +247,82 @@ public class GameController implements PropertyChangeListener {
 
 
     /**
-     * This recieves property-change evernts from model and updates GUI and audio
-     * @param evt A PropertyChangeEvent object describing the event source
-     *          and the property that has changed.
+     * This subscribes to the current game's and state manager's events
      */
+    private void listen() {
+        game.getEvents().subscribe(GameEvent.QuestionAsked.class, events);
+        game.getEvents().subscribe(GameEvent.PlayerMoved.class, events);
+        game.getEvents().subscribe(GameEvent.DoorBlocked.class, events);
+        gsm.getEvents().subscribe(GameEvent.StateChanged.class, events);
+    }
 
-    @Override
-    public void propertyChange(final PropertyChangeEvent evt) {
-        final String name = evt.getPropertyName();
-        switch (name) {
-            case "state" -> {
-                // If we’ve already shown Victory, do not allow a later GAME_OVER to override it.
-                if (hasWon) return;
-
-                final GameState s = (GameState) evt.getNewValue();
-                view.getCustomMenuBar().setPaused(s == GameState.PAUSED);
-
-                if (s == GameState.PAUSED) {
-                    Sounds.stopLoop();
-                    view.showScreen(GameView.Screen.PAUSE);
-                } else if (s == GameState.PLAYING) {
-                    if (!Sounds.isLooping()) Sounds.GAME.loop();
-                    view.showScreen(GameView.Screen.MAZE);
-
-                    // 🔑 update directions because game resumed
-                    updateDirectionPanel();
-                    view.showScreen(GameView.Screen.MAZE);
-                }
-
-                 else if (s == GameState.GAME_OVER) {
-                    Sounds.stopLoop();
-                    Sounds.LOSE.play();
-                    view.showScreen(GameView.Screen.GAME_OVER);
-                }
-            }
-
-            case "askQuestion" -> {
-                final QuestionRequest req = (QuestionRequest) evt.getNewValue();
-                pendingDoor = req.door();
-                pendingQuestion = req.question();
-
-                final int attempts = game.getAttemptsLeft(pendingDoor);
-                final boolean canHint = game.canUseHint(pendingQuestion);
-                final boolean canSkip = game.canSkip();
-
-                view.getQuestionPanel().setQuestion(pendingQuestion, attempts, canHint, canSkip);
-                view.getMazePanel().setDoorAttemptsLabel(attempts);
-                view.showScreen(GameView.Screen.QUESTION);
-            }
-
-            case "playerMoved" -> {
-                view.getMazePanel().setDoorAttemptsLabel(null);
-                refreshHUDAndGrid();
+    /**
+     * This recieves events from model and updates GUI and audio
+     * @param evt the event published by the game or state manager
+     */
+    private void onEvent(final GameEvent evt) {
+        if (evt instanceof GameEvent.StateChanged changed) {
+            // If we’ve already shown Victory, do not allow a later GAME_OVER to override it.
+            if (hasWon) return;
+
+            final GameState s = changed.newState();
+            view.getCustomMenuBar().setPaused(s == GameState.PAUSED);
+
+            if (s == GameState.PAUSED) {
+                Sounds.stopLoop();
+                view.showScreen(GameView.Screen.PAUSE);
+            } else if (s == GameState.PLAYING) {
+                if (!Sounds.isLooping()) Sounds.GAME.loop();
+                view.showScreen(GameView.Screen.MAZE);
 
-                // 🔑 update available directions now that the player moved
+                // 🔑 update directions because game resumed
                 updateDirectionPanel();
-
-                if (game.getMaze().isAtExit()) {
-                    hasWon = true;
-                    Sounds.stopLoop();
-                    Sounds.WIN.play();
-                    JOptionPane.showMessageDialog(view, "Congrats! You won the game 🎉",
-                            "Victory", JOptionPane.INFORMATION_MESSAGE);
-                    view.showScreen(GameView.Screen.VICTORY);
-                } else {
-                    view.showScreen(GameView.Screen.MAZE);
-                }
+                view.showScreen(GameView.Screen.MAZE);
             }
 
-
-            case "doorBlocked" -> {
-                view.getMazePanel().setDoorAttemptsLabel(null);
-                refreshHUDAndGrid();
-
-                // 🔑 door state changed, so update directions too
-                updateDirectionPanel();
-
+             else if (s == GameState.GAME_OVER) {
+                Sounds.stopLoop();
+                Sounds.LOSE.play();
+                view.showScreen(GameView.Screen.GAME_OVER);
+            }
+        } else if (evt instanceof GameEvent.QuestionAsked asked) {
+            pendingDoor = asked.door();
+            pendingQuestion = asked.question();
+
+            final int attempts = game.getAttemptsLeft(pendingDoor);
+            final boolean canHint = game.canUseHint(pendingQuestion);
+            final boolean canSkip = game.canSkip();
+
+            view.getQuestionPanel().setQuestion(pendingQuestion, attempts, canHint, canSkip);
+            view.getMazePanel().setDoorAttemptsLabel(attempts);
+            view.showScreen(GameView.Screen.QUESTION);
+        } else if (evt instanceof GameEvent.PlayerMoved) {
+            view.getMazePanel().setDoorAttemptsLabel(null);
+            refreshHUD();
+            view.getMazePanel().playerMoved(game.getMaze(), game.getPlayer());
+
+            // 🔑 update available directions now that the player moved
+            updateDirectionPanel();
+
+            if (game.getMaze().isAtExit()) {
+                hasWon = true;
+                Sounds.stopLoop();
+                Sounds.WIN.play();
+                JOptionPane.showMessageDialog(view, "Congrats! You won the game 🎉",
+                        "Victory", JOptionPane.INFORMATION_MESSAGE);
+                view.showScreen(GameView.Screen.VICTORY);
+            } else {
                 view.showScreen(GameView.Screen.MAZE);
             }
+        } else if (evt instanceof GameEvent.DoorBlocked blocked) {
+            view.getMazePanel().setDoorAttemptsLabel(null);
+            refreshHUD();
+            view.getMazePanel().doorChanged(game.getMaze(), game.getPlayer(), blocked.door());
 
+            // 🔑 door state changed, so update directions too
+            updateDirectionPanel();
 
+            view.showScreen(GameView.Screen.MAZE);
         }
     }
 
@@ -322,7 +330,7 @@ public class GameController implements PropertyChangeListener {
      * This opens new game difficulty chooser and starts fresh new game
      */
     private void handleNewGame() {
-        final Object[] options = {"Easy (3x3)", "Normal (4x4)", "Hard (5x5)"};
+        final Object[] options = {"Easy (3x3)", "Normal (4x4)", "Hard (5x5)", "Large..."};
         final int choice = JOptionPane.showOptionDialog(
                 view, "Choose Difficulty", "New Game",
                 JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE,
@@ -331,19 +339,53 @@ public class GameController implements PropertyChangeListener {
         final DifficultySettings settings = switch (choice) {
             case 0 -> DifficultyPresets.easy();
             case 2 -> DifficultyPresets.hard();
+            case 3 -> askLargeMaze();
             default -> DifficultyPresets.normal();
         };
+        if (settings == null) return;
 
         startNewGame(settings);
     }
 
     /**
-     * This is a placeholder for loading game (serliazation)
+     * This asks for the side of a large maze
+     * @return the large-maze settings, or null if the player cancelled or typed an invalid size
+     */
+    private DifficultySettings askLargeMaze() {
+        final String max = String.valueOf(DifficultySettings.MAX_LARGE_MAZE_SIZE);
+        final String input = JOptionPane.showInputDialog(view,
+                "Rooms per side (3 - " + max + "):", "Large Maze", JOptionPane.QUESTION_MESSAGE);
+        if (input == null) return null;
+        try {
+            return DifficultyPresets.large(Integer.parseInt(input.trim()));
+        } catch (final IllegalArgumentException e) { // includes NumberFormatException
+            JOptionPane.showMessageDialog(view, "Enter a whole number from 3 to " + max + ".",
+                    "Large Maze", JOptionPane.ERROR_MESSAGE);
+            return null;
+        }
+    }
+
+    /**
+     * This asks for a saved game file and resumes the game in it
      */
     private void handleLoadGame() {
-        JOptionPane.showMessageDialog(view,
-                "Load game not implemented yet (use serialization).",
-                "Load", JOptionPane.INFORMATION_MESSAGE);
+        final JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(saveFile);
+        if (chooser.showOpenDialog(view) != JFileChooser.APPROVE_OPTION) return;
+
+        final File file = chooser.getSelectedFile();
+        final Game loaded;
+        try {
+            loaded = GameSave.load(file.toPath(), this::factoryFor);
+        } catch (final IOException e) {
+            System.err.println("❌ Could not load game from " + file + ": " + e.getMessage());
+            JOptionPane.showMessageDialog(view, "Could not load game:\n" + e.getMessage(),
+                    "Load Game", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        saveFile = file;
+        attachGame(loaded);
+        if (gsm.get() == GameState.PAUSED) gsm.resume();
     }
 
     /**
@@ -384,12 +426,23 @@ public class GameController implements PropertyChangeListener {
     }
 
     /**
-     * This is a placeholder for saving the game
+     * This asks where to save and writes the current game there
      */
     private void saveGame() {
-        JOptionPane.showMessageDialog(view,
-                "Save not implemented yet (wire serialization here).",
-                "Save Game", JOptionPane.INFORMATION_MESSAGE);
+        if (game == null) return;
+        final JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(saveFile);
+        if (chooser.showSaveDialog(view) != JFileChooser.APPROVE_OPTION) return;
+
+        final File file = chooser.getSelectedFile();
+        try {
+            GameSave.save(game, file.toPath());
+            saveFile = file;
+        } catch (final IOException e) {
+            System.err.println("❌ Could not save game to " + file + ": " + e.getMessage());
+            JOptionPane.showMessageDialog(view, "Could not save game:\n" + e.getMessage(),
+                    "Save Game", JOptionPane.ERROR_MESSAGE);
+        }
     }
 
     /**
@@ -404,20 +457,42 @@ public class GameController implements PropertyChangeListener {
 
     /** This builds a fresh model from chosen difficulty and rebind listeners. */
     public void startNewGame(final DifficultySettings settings) {
-        // Detach listeners
-        if (game != null) game.removeListener(this);
-        if (gsm != null)  gsm.removeListener(this);
-
         // Build new model
-        final questionFactory qf = new questionFactory("jdbc:sqlite:lib/trivia.db");
+        final questionFactory qf = factoryFor(settings);
         final Maze maze = new Maze(settings.getMazeHeight(), settings.getMazeWidth(), qf);
-        final Player player = new Player();
-        gsm = new GameStateManager();
-        game = new Game(maze, player, gsm, settings);
+        attachGame(new Game(maze, new Player(), new GameStateManager(), settings));
+    }
+
+    /**
+     * This gives the reshuffled question factory for a difficulty, creating it on first use.
+     * Factories are shared by every settings with the same question filter and large-maze
+     * mode (which decides whether questions recycle), whatever their name.
+     */
+    private questionFactory factoryFor(final DifficultySettings settings) {
+        final List<Object> key = List.of(
+                settings.getQuestionDifficultyMin(), settings.getQuestionDifficultyMax(),
+                settings.getQuestionFallback(),
+                settings.getQuestionTypeWeight(QuestionType.MC),
+                settings.getQuestionTypeWeight(QuestionType.TF),
+                settings.getQuestionTypeWeight(QuestionType.FB),
+                settings.isLargeMaze());
+        final questionFactory qf = factories.computeIfAbsent(key,
+                k -> new questionFactory(QuestionCatalog.defaultSource(), settings));
+        qf.reset();
+        return qf;
+    }
+
+    /** This swaps in a new or loaded game, rebinds listeners and shows the maze. */
+    private void attachGame(final Game theGame) {
+        // Detach listeners
+        if (game != null) game.getEvents().unsubscribe(events);
+        if (gsm != null)  gsm.getEvents().unsubscribe(events);
+
+        game = theGame;
+        gsm = theGame.getStateManager();
 
         // Listen again
-        game.addListener(this);
-        gsm.addListener(this);
+        listen();
 
         // Reset context/flags
         pendingDoor = null;
@@ -437,11 +512,18 @@ public class GameController implements PropertyChangeListener {
      * This pushes HUD values pos/hints and paints grid for current game state.
      */
     private void refreshHUDAndGrid() {
+        refreshHUD();
+        view.getMazePanel().render(game.getMaze(), game.getPlayer());
+    }
+
+    /**
+     * This pushes HUD values pos/hints only; the grid repaints what changed itself.
+     */
+    private void refreshHUD() {
         view.getMazePanel().setHud(
                 game.getPlayer().getX(),
                 game.getPlayer().getY(),
                 game.getHintsLeft()
         );
-        view.getMazePanel().render(game.getMaze(), game.getPlayer());
     }
 }
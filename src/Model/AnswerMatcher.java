@@ -0,0 +1,357 @@
+package Model;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Grades typed answers against a fill-in-the-blank answer that is compiled once,
+ * when the question is built, so checking an answer allocates nothing.
+ * <p>
+ * Both sides are compared in a normalized form: lower case, accents folded
+ * ("Café" matches "cafe", whether the accent is precomposed or a combining mark), and any run of punctuation or whitespace treated as one
+ * space. On top of that an answer is accepted if it
+ * <ul>
+ *   <li>matches any of the accepted alternates, written {@code "Washington|George Washington"},</li>
+ *   <li>is numerically equal to a numeric answer: "1,000" and "1000.0" both match
+ *       1000, and single number words ("seven", "forty", "hundred") match their value, or</li>
+ *   <li>is within a small edit distance of a text answer: none for answers of up to
+ *       {@value #EXACT_LENGTH} characters, one typo up to {@value #ONE_TYPO_LENGTH}
+ *       characters and two beyond that. Numeric answers must match exactly.</li>
+ * </ul>
+ * The edit distance is a banded Levenshtein that gives up as soon as every cell
+ * in a row exceeds the tolerance; it and the normalization run in per-thread
+ * scratch arrays.
+ *
+ * @author Husein
+ */
+public final class AnswerMatcher {
+
+    /** Separator between accepted alternates in a stored answer. */
+    public static final char ALTERNATE_SEPARATOR = '|';
+
+    /** Answers up to this normalized length must match exactly. */
+    public static final int EXACT_LENGTH = 3;
+
+    /** Answers up to this normalized length tolerate one edit; longer ones two. */
+    public static final int ONE_TYPO_LENGTH = 7;
+
+    /** Highest code point with a precomputed accent fold (end of Latin Extended-B). */
+    private static final int FOLD_LIMIT = 0x250;
+
+    /** Lower-case, accent-free form of each char below {@link #FOLD_LIMIT}; 0 for separators. */
+    private static final char[] FOLD = new char[FOLD_LIMIT];
+
+    /** Number words and their values, normalized. */
+    private static final char[][] NUMBER_WORDS;
+    private static final int[] NUMBER_VALUES;
+
+    /** Scratch space of the calling thread. */
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    static {
+        for (int c = 0; c < FOLD_LIMIT; c++) {
+            if (!Character.isLetterOrDigit(c)) continue;
+            final String base = Normalizer.normalize(String.valueOf((char) c), Normalizer.Form.NFKD);
+            char folded = Character.toLowerCase(base.charAt(0));
+            if (!Character.isLetterOrDigit(folded)) folded = Character.toLowerCase((char) c);
+            FOLD[c] = folded;
+        }
+        final String[] words = {"zero", "one", "two", "three", "four", "five", "six", "seven", "eight",
+                "nine", "ten", "eleven", "twelve", "thirteen", "fourteen", "fifteen", "sixteen",
+                "seventeen", "eighteen", "nineteen", "twenty", "thirty", "forty", "fifty", "sixty",
+                "seventy", "eighty", "ninety", "hundred", "thousand", "million"};
+        NUMBER_WORDS = new char[words.length][];
+        NUMBER_VALUES = new int[words.length];
+        for (int i = 0; i < words.length; i++) {
+            NUMBER_WORDS[i] = words[i].toCharArray();
+            NUMBER_VALUES[i] = i <= 20 ? i : i <= 27 ? (i - 18) * 10 : i == 28 ? 100 : i == 29 ? 1000 : 1_000_000;
+        }
+    }
+
+    /** Normalized text of each alternate. */
+    private final char[][] myAlternates;
+
+    /** Numeric value of each alternate, or NaN if it is not a number. */
+    private final double[] myValues;
+
+    /** Edit tolerance of each alternate. */
+    private final int[] myTolerances;
+
+    /** The first alternate as written, for display. */
+    private final String myPrimary;
+
+    /**
+     * Compiles a stored answer.
+     *
+     * @param theAnswer the answer, optionally with alternates separated by {@code |}
+     * @return the compiled matcher
+     * @throws IllegalArgumentException if the answer is null
+     */
+    public static AnswerMatcher compile(final String theAnswer) {
+        if (theAnswer == null) {
+            throw new IllegalArgumentException("Answer cannot be null.");
+        }
+        final List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= theAnswer.length(); i++) {
+            if (i == theAnswer.length() || theAnswer.charAt(i) == ALTERNATE_SEPARATOR) {
+                final String part = theAnswer.substring(start, i).trim();
+                if (!part.isEmpty()) parts.add(part);
+                start = i + 1;
+            }
+        }
+        if (parts.isEmpty()) {
+            // Keep a blank answer gradable, as the old exact comparison was
+            parts.add(theAnswer.trim());
+        }
+        return new AnswerMatcher(parts);
+    }
+
+    private AnswerMatcher(final List<String> theAlternates) {
+        myPrimary = theAlternates.get(0);
+        final int n = theAlternates.size();
+        myAlternates = new char[n][];
+        myValues = new double[n];
+        myTolerances = new int[n];
+        final Scratch scratch = new Scratch();
+        for (int i = 0; i < n; i++) {
+            final String alt = theAlternates.get(i);
+            final int len = normalize(alt, scratch);
+            myAlternates[i] = Arrays.copyOf(scratch.myText, len);
+            myValues[i] = numericValue(alt, scratch.myText, len);
+            myTolerances[i] = !Double.isNaN(myValues[i]) || len <= EXACT_LENGTH ? 0
+                    : len <= ONE_TYPO_LENGTH ? 1 : 2;
+        }
+    }
+
+    /**
+     * @return the first accepted answer, as written
+     */
+    public String getPrimary() {
+        return myPrimary;
+    }
+
+    /**
+     * Checks a typed answer.
+     *
+     * @param theAnswer the player's answer
+     * @return true if it matches an accepted alternate
+     */
+    public boolean matches(final CharSequence theAnswer) {
+        if (theAnswer == null) return false;
+        return matches(theAnswer, 0, theAnswer.length());
+    }
+
+    /**
+     * Checks part of a character sequence as a typed answer, without copying it.
+     *
+     * @param theText  the text holding the answer
+     * @param theStart index of the first character of the answer
+     * @param theEnd   index after the last character of the answer
+     * @return true if it matches an accepted alternate
+     */
+    public boolean matches(final CharSequence theText, final int theStart, final int theEnd) {
+        Objects.checkFromToIndex(theStart, theEnd, theText.length());
+        final Scratch scratch = SCRATCH.get();
+        final int len = normalize(theText, theStart, theEnd, scratch);
+        final char[] input = scratch.myText;
+
+        double value = Double.NaN;
+        boolean valueParsed = false;
+        for (int i = 0; i < myAlternates.length; i++) {
+            final char[] alt = myAlternates[i];
+            if (equal(alt, input, len)) return true;
+            if (!Double.isNaN(myValues[i])) {
+                if (!valueParsed) {
+                    value = parseNumber(theText, theStart, theEnd);
+                    if (Double.isNaN(value)) value = numberWord(input, len);
+                    valueParsed = true;
+                }
+                if (value == myValues[i]) return true;
+            } else if (myTolerances[i] > 0 && withinDistance(alt, input, len, myTolerances[i], scratch)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Normalizes text into the scratch buffer.
+     *
+     * @return the normalized length
+     */
+    private static int normalize(final CharSequence theText, final Scratch theScratch) {
+        return normalize(theText, 0, theText.length(), theScratch);
+    }
+
+    /**
+     * Writes the lower-case, accent-folded words of the text into the scratch
+     * buffer separated by single spaces.
+     *
+     * @return the normalized length
+     */
+    private static int normalize(final CharSequence theText, final int theStart, final int theEnd,
+                                 final Scratch theScratch) {
+        char[] out = theScratch.ensureText(theEnd - theStart);
+        int len = 0;
+        boolean gap = false;
+        for (int i = theStart; i < theEnd; i++) {
+            final char c = theText.charAt(i);
+            final char folded;
+            if (c < FOLD_LIMIT) {
+                folded = FOLD[c];
+            } else if (Character.isLetterOrDigit(c)) {
+                folded = Character.toLowerCase(c);
+            } else if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue; // a combining accent of decomposed text belongs to the letter before it
+            } else {
+                folded = 0;
+            }
+            if (folded == 0) {
+                gap = true;
+                continue;
+            }
+            if (gap && len > 0) out[len++] = ' ';
+            gap = false;
+            out[len++] = folded;
+        }
+        return len;
+    }
+
+    /**
+     * Parses a plain decimal number such as "-1,234.5", ignoring surrounding
+     * whitespace, without creating a string.
+     *
+     * @return the value, or NaN if the text is not a number
+     */
+    private static double parseNumber(final CharSequence theText, final int theStart, final int theEnd) {
+        int i = theStart;
+        int end = theEnd;
+        while (i < end && Character.isWhitespace(theText.charAt(i))) i++;
+        while (end > i && Character.isWhitespace(theText.charAt(end - 1))) end--;
+        if (i == end) return Double.NaN;
+
+        boolean negative = false;
+        final char first = theText.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+        double value = 0;
+        double scale = 0;
+        int digits = 0;
+        for (; i < end; i++) {
+            final char c = theText.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (scale == 0) {
+                    value = value * 10 + (c - '0');
+                } else {
+                    value += (c - '0') * scale;
+                    scale /= 10;
+                }
+                digits++;
+            } else if (c == '.' && scale == 0) {
+                scale = 0.1;
+            } else if (c == ',' && scale == 0 && digits > 0) {
+                continue; // thousands separator
+            } else {
+                return Double.NaN;
+            }
+        }
+        if (digits == 0) return Double.NaN;
+        return negative ? -value : value;
+    }
+
+    /**
+     * @return the value of a normalized number word, or NaN if the text is not one
+     */
+    private static double numberWord(final char[] theText, final int theLength) {
+        for (int w = 0; w < NUMBER_WORDS.length; w++) {
+            if (equal(NUMBER_WORDS[w], theText, theLength)) return NUMBER_VALUES[w];
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * @return the numeric value of a stored alternate, as digits or a number word
+     */
+    private static double numericValue(final String theAlternate, final char[] theNormalized, final int theLength) {
+        final double value = parseNumber(theAlternate, 0, theAlternate.length());
+        return Double.isNaN(value) ? numberWord(theNormalized, theLength) : value;
+    }
+
+    private static boolean equal(final char[] theA, final char[] theB, final int theBLength) {
+        if (theA.length != theBLength) return false;
+        for (int i = 0; i < theBLength; i++) {
+            if (theA[i] != theB[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Banded Levenshtein distance check: only cells within the tolerance of the
+     * diagonal are filled, and the scan stops once a whole band row exceeds it.
+     *
+     * @return true if the distance between the two texts is at most the tolerance
+     */
+    private static boolean withinDistance(final char[] theA, final char[] theB, final int theBLength,
+                                          final int theMax, final Scratch theScratch) {
+        final int n = theA.length;
+        final int m = theBLength;
+        if (Math.abs(n - m) > theMax) return false;
+
+        final int big = theMax + 1;
+        int[] prev = theScratch.ensureRow(0, m + 1);
+        int[] cur = theScratch.ensureRow(1, m + 1);
+        for (int j = 0; j <= m; j++) prev[j] = j <= theMax ? j : big;
+
+        for (int i = 1; i <= n; i++) {
+            final int from = Math.max(1, i - theMax);
+            final int to = Math.min(m, i + theMax);
+            cur[0] = i <= theMax ? i : big;
+            if (from > 1) cur[from - 1] = big;
+            int rowMin = cur[0];
+            final char a = theA[i - 1];
+            for (int j = from; j <= to; j++) {
+                final int cost = a == theB[j - 1] ? 0 : 1;
+                int d = prev[j - 1] + cost;
+                final int del = prev[j] + 1;
+                final int ins = cur[j - 1] + 1;
+                if (del < d) d = del;
+                if (ins < d) d = ins;
+                if (d > big) d = big;
+                cur[j] = d;
+                if (d < rowMin) rowMin = d;
+            }
+            if (to < m) cur[to + 1] = big;
+            if (rowMin > theMax) return false;
+            final int[] swap = prev;
+            prev = cur;
+            cur = swap;
+        }
+        return prev[m] <= theMax;
+    }
+
+    /**
+     * Per-thread buffers, grown on demand and then reused.
+     */
+    private static final class Scratch {
+        private char[] myText = new char[64];
+        private final int[][] myRows = {new int[64], new int[64]};
+
+        char[] ensureText(final int theLength) {
+            if (myText.length < theLength) myText = new char[Math.max(theLength, myText.length * 2)];
+            return myText;
+        }
+
+        int[] ensureRow(final int theRow, final int theLength) {
+            if (myRows[theRow].length < theLength) {
+                myRows[theRow] = new int[Math.max(theLength, myRows[theRow].length * 2)];
+            }
+            return myRows[theRow];
+        }
+    }
+}
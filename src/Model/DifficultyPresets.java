@@ -70,6 +70,29 @@ public final class DifficultyPresets {
                 .build();
     }
 
+    /**
+     * Creates a large-maze difficulty setting with a square maze of the given side.
+     * Features: Big maze to explore, no time limit, generous hints, normal scoring.
+     * Its questions are recycled once the bank runs out, since such a maze has far
+     * more doors than there are questions.
+     *
+     * @param theSize the number of rooms along each side
+     * @return DifficultySettings configured for large-maze gameplay.
+     * @throws IllegalArgumentException if the side is below 3 or above
+     *         {@link DifficultySettings#MAX_LARGE_MAZE_SIZE}
+     */
+    public static DifficultySettings large(final int theSize) {
+        return new DifficultySettings.Builder("Large")
+                .largeMaze(true)
+                .mazeSize(theSize, theSize)
+                .timeLimit(0) // no time limit
+                .maxHints(10)
+                .scoring(10, 5, 5, 10)
+                .allowSkipping(true)
+                .maxAttemptsPerDoor(2)
+                .questionDifficultyRange(1, 3)
+                .build();
+    }
 
     /**
      * Creates a base custom difficulty setting.
@@ -13,6 +13,11 @@ public class DifficultySettings implements Serializable {
     /** Serial version UID for serialization compatibility. */
     private static final long serialVersionUID = 1L;
 
+    /** Largest width or height accepted for a standard maze. */
+    public static final int MAX_MAZE_SIZE = 20;
+    /** Largest width or height accepted when large-maze mode is on. */
+    public static final int MAX_LARGE_MAZE_SIZE = 1000;
+
     // Game settings fields
     /** The display name of this difficulty level. */
     private final String myDifficultyName;
@@ -40,6 +45,12 @@ public class DifficultySettings implements Serializable {
     private final int myQuestionDifficultyMin;
     /** Maximum difficulty level for questions. */
     private final int myQuestionDifficultyMax;
+    /** Whether mazes beyond the standard size cap are allowed. */
+    private final boolean myLargeMaze;
+    /** Relative draw weights of MC, TF and FB questions. */
+    private final int myMcWeight, myTfWeight, myFbWeight;
+    /** What to serve once the questions inside the difficulty range run out. */
+    private final QuestionFallback myQuestionFallback;
 
     /**
      * Private constructor - only Builder can create instances.
@@ -60,6 +71,11 @@ public class DifficultySettings implements Serializable {
         myMaxAttemptsPerDoor    = theBuilder.myMaxAttemptsPerDoor;
         myQuestionDifficultyMin = theBuilder.myQuestionDifficultyMin;
         myQuestionDifficultyMax = theBuilder.myQuestionDifficultyMax;
+        myLargeMaze = theBuilder.myLargeMaze;
+        myMcWeight = theBuilder.myMcWeight;
+        myTfWeight = theBuilder.myTfWeight;
+        myFbWeight = theBuilder.myFbWeight;
+        myQuestionFallback = theBuilder.myQuestionFallback;
     }
 
     // Getters following the naming convention
@@ -139,6 +155,31 @@ public class DifficultySettings implements Serializable {
      */
     public int getQuestionDifficultyMax() { return myQuestionDifficultyMax; }
 
+    /**
+     * Checks if large-maze mode is on.
+     * @return True if the maze may exceed the standard size cap.
+     */
+    public boolean isLargeMaze() { return myLargeMaze; }
+
+    /**
+     * Gets the relative draw weight of a question type.
+     * @param theType The question type.
+     * @return The weight, 0 if questions of that type are never drawn.
+     */
+    public int getQuestionTypeWeight(final QuestionType theType) {
+        return switch (theType) {
+            case MC -> myMcWeight;
+            case TF -> myTfWeight;
+            case FB -> myFbWeight;
+        };
+    }
+
+    /**
+     * Gets the policy for running out of questions inside the difficulty range.
+     * @return The question fallback policy.
+     */
+    public QuestionFallback getQuestionFallback() { return myQuestionFallback; }
+
     /**
      * Checks if there is a time limit.
      * @return True if time limit is enabled.
@@ -193,6 +234,12 @@ public class DifficultySettings implements Serializable {
         private int myQuestionDifficultyMin = 1;
         /** Default maximum question difficulty. */
         private int myQuestionDifficultyMax = 3;
+        /** Default large-maze mode (off). */
+        private boolean myLargeMaze = false;
+        /** Default question type weights (uniform). */
+        private int myMcWeight = 1, myTfWeight = 1, myFbWeight = 1;
+        /** Default question fallback (nearest difficulty). */
+        private QuestionFallback myQuestionFallback = QuestionFallback.NEAREST;
 
         /**
          * Constructs a new Builder with the required difficulty name.
@@ -203,6 +250,35 @@ public class DifficultySettings implements Serializable {
             myDifficultyName = theDifficultyName;
         }
 
+        /**
+         * Creates a Builder starting from every value of existing settings,
+         * so a variant can change a few of them.
+         *
+         * @param theBase The settings to copy.
+         * @return A new builder holding the base settings' values.
+         */
+        public static Builder from(final DifficultySettings theBase) {
+            final Builder b = new Builder(theBase.myDifficultyName);
+            b.myMazeWidth = theBase.myMazeWidth;
+            b.myMazeHeight = theBase.myMazeHeight;
+            b.myTimeLimit = theBase.myTimeLimit;
+            b.myMaxHints = theBase.myMaxHints;
+            b.myCorrectAnswerPoints = theBase.myCorrectAnswerPoints;
+            b.myWrongAnswerPenalty = theBase.myWrongAnswerPenalty;
+            b.myHintPenalty = theBase.myHintPenalty;
+            b.mySkipQuestionPenalty = theBase.mySkipQuestionPenalty;
+            b.myAllowSkipping = theBase.myAllowSkipping;
+            b.myMaxAttemptsPerDoor = theBase.myMaxAttemptsPerDoor;
+            b.myQuestionDifficultyMin = theBase.myQuestionDifficultyMin;
+            b.myQuestionDifficultyMax = theBase.myQuestionDifficultyMax;
+            b.myLargeMaze = theBase.myLargeMaze;
+            b.myMcWeight = theBase.myMcWeight;
+            b.myTfWeight = theBase.myTfWeight;
+            b.myFbWeight = theBase.myFbWeight;
+            b.myQuestionFallback = theBase.myQuestionFallback;
+            return b;
+        }
+
         /**
          * Sets the maze dimensions.
          *
@@ -288,6 +364,48 @@ public class DifficultySettings implements Serializable {
             return this;
         }
 
+        /**
+         * Sets whether mazes larger than {@link #MAX_MAZE_SIZE} are allowed,
+         * up to {@link #MAX_LARGE_MAZE_SIZE} on each side.
+         *
+         * @param theLarge True to enable large-maze mode.
+         * @return This builder instance for method chaining.
+         */
+        public Builder largeMaze(final boolean theLarge) {
+            myLargeMaze = theLarge;
+            return this;
+        }
+
+        /**
+         * Sets the relative draw weights of the question types, e.g. (2, 1, 1)
+         * makes half of all questions multiple choice. A weight of 0 turns a type off.
+         *
+         * @param theMc Weight of multiple-choice questions.
+         * @param theTf Weight of true/false questions.
+         * @param theFb Weight of fill-in-the-blank questions.
+         * @return This builder instance for method chaining.
+         */
+        public Builder questionTypeWeights(final int theMc, final int theTf, final int theFb) {
+            myMcWeight = Math.max(0, theMc);
+            myTfWeight = Math.max(0, theTf);
+            myFbWeight = Math.max(0, theFb);
+            return this;
+        }
+
+        /**
+         * Sets what happens once every question inside the difficulty range has been used.
+         *
+         * @param theFallback The fallback policy.
+         * @return This builder instance for method chaining.
+         */
+        public Builder questionFallback(final QuestionFallback theFallback) {
+            if (theFallback == null) {
+                throw new IllegalArgumentException("Question fallback cannot be null");
+            }
+            myQuestionFallback = theFallback;
+            return this;
+        }
+
         /**
          * Builds and returns a new DifficultySettings instance.
          *
@@ -302,11 +420,26 @@ public class DifficultySettings implements Serializable {
             if (myMazeWidth < 3 || myMazeHeight < 3) {
                 throw new IllegalArgumentException("Maze must be at least 3x3");
             }
-            if (myMazeWidth > 20 || myMazeHeight > 20) {
-                throw new IllegalArgumentException("Maze cannot be larger than 20x20");
+            final int maxSize = myLargeMaze ? MAX_LARGE_MAZE_SIZE : MAX_MAZE_SIZE;
+            if (myMazeWidth > maxSize || myMazeHeight > maxSize) {
+                throw new IllegalArgumentException("Maze cannot be larger than " + maxSize + "x" + maxSize);
+            }
+            if (myMcWeight + myTfWeight + myFbWeight == 0) {
+                throw new IllegalArgumentException("At least one question type must have a positive weight");
             }
 
             return new DifficultySettings(this);
         }
     }
+
+    /**
+     * What the question factory serves once the questions inside the
+     * configured difficulty range are used up.
+     */
+    public enum QuestionFallback {
+        /** Move outwards to the closest difficulties, easier ones first on a tie. */
+        NEAREST,
+        /** Serve nothing outside the range. */
+        NONE
+    }
 }
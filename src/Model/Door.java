@@ -10,6 +10,9 @@ import java.util.Objects;
  * Each door is associated with a {@link Question} that must be answered
  * correctly to open it. A door can be in a locked (blocked) state and can be
  * permanently blocked after an incorrect answer.
+ * <p>
+ * Doors handed out by a {@link Maze} are lightweight views over an edge of its
+ * {@link MazeGrid}; a door built with the public constructor keeps its own state.
  *
  * @author Husein & Chan
  */
@@ -17,15 +20,21 @@ public class Door implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
-    /** The first {@link Room} connected by this door. */
+    /** The first {@link Room} connected by this door, or null for a maze view. */
     private final Room myRoomA;
 
-    /** The second {@link Room} connected by this door. */
+    /** The second {@link Room} connected by this door, or null for a maze view. */
     private final Room myRoomB;
 
-    /** The {@link Question} that must be answered to open this door. */
+    /** The {@link Question} that must be answered to open this door, or null for a maze view. */
     private final Question myQuestion;
 
+    /** The maze this door is a view of, or null for a stand-alone door. */
+    private final Maze myMaze;
+
+    /** The edge id of this door within the maze grid. */
+    private final int myEdge;
+
     /**
      * The locked state of the door. A door starts as locked and can be
      * permanently blocked after an incorrect answer.
@@ -50,12 +59,41 @@ public class Door implements Serializable {
         this.myRoomA = theRoomA;
         this.myRoomB = theRoomB;
         this.myQuestion = theQuestion;
+        this.myMaze = null;
+        this.myEdge = -1;
+    }
+
+    /**
+     * Constructs a view of an edge owned by a maze.
+     *
+     * @param theMaze The owning maze.
+     * @param theEdge The edge id within the maze grid.
+     */
+    Door(final Maze theMaze, final int theEdge) {
+        this.myRoomA = null;
+        this.myRoomB = null;
+        this.myQuestion = null;
+        this.myMaze = theMaze;
+        this.myEdge = theEdge;
+    }
+
+    /**
+     * Returns the edge id of this door within its maze grid.
+     *
+     * @return The edge id, or -1 for a stand-alone door.
+     */
+    public int getEdgeId() {
+        return myEdge;
     }
 
     /**
      * Unlocks the door, allowing passage.
      */
     public void open() {
+        if (myMaze != null) {
+            myMaze.getGrid().open(myEdge);
+            return;
+        }
         this.myLocked = false;
     }
 
@@ -64,6 +102,10 @@ public class Door implements Serializable {
      * This is typically called after a player fails to answer the question correctly.
      */
     public void block() {
+        if (myMaze != null) {
+            myMaze.getGrid().block(myEdge);
+            return;
+        }
         this.myLocked = true;
     }
 
@@ -74,6 +116,7 @@ public class Door implements Serializable {
      * {@code false} otherwise.
      */
     public boolean isBlocked() {
+        if (myMaze != null) return myMaze.getGrid().isBlocked(myEdge);
         return myLocked;
     }
 
@@ -87,23 +130,45 @@ public class Door implements Serializable {
      */
     public Room getNextRoom(Room theCurrentRoom) {
         Objects.requireNonNull(theCurrentRoom, "The current room cannot be null");
-        if (theCurrentRoom.equals(myRoomA)) {
-            return myRoomB;
+        final Room roomA = getRoomA();
+        final Room roomB = getRoomB();
+        if (theCurrentRoom.equals(roomA)) {
+            return roomB;
         }
-        if (theCurrentRoom.equals(myRoomB)) {
-            return myRoomA;
+        if (theCurrentRoom.equals(roomB)) {
+            return roomA;
         }
         throw new IllegalArgumentException("Room " + theCurrentRoom + " is not connected by this door");
     }
 
     /**
-     * Returns the trivia question associated with this door.
+     * Returns the trivia question associated with this door. Maze doors get their
+     * question from {@link Maze#bindQuestion(Door)} the first time the player tries them.
      *
-     * @return The {@link Question} connected to this door.
+     * @return The {@link Question} connected to this door, or null if none is bound yet.
      */
     public Question getQuestion() {
+        if (myMaze != null) return myMaze.questionAt(myEdge);
         return myQuestion;
     }
 
+    /**
+     * Returns the west/north room connected by this door.
+     *
+     * @return The first {@link Room}.
+     */
+    private Room getRoomA() {
+        if (myMaze != null) return myMaze.roomAt(myMaze.getGrid().edgeCellA(myEdge));
+        return myRoomA;
+    }
 
+    /**
+     * Returns the east/south room connected by this door.
+     *
+     * @return The second {@link Room}.
+     */
+    private Room getRoomB() {
+        if (myMaze != null) return myMaze.roomAt(myMaze.getGrid().edgeCellB(myEdge));
+        return myRoomB;
+    }
 }
\ No newline at end of file
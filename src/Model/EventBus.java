@@ -0,0 +1,148 @@
+package Model;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Delivers {@link GameEvent}s to listeners subscribed to their type.
+ * Each event type has its own array of listeners, replaced wholesale when someone
+ * subscribes or unsubscribes, so publishing is a plain array walk with no lookup,
+ * no boxing and no event wrapper. Publishers ask {@link #hasListeners(Class)} first,
+ * so an event nobody listens to is never built. By default listeners run on the
+ * publishing thread; a bus built with an {@link Executor} hands each event to it
+ * instead (a worker pool, or {@code SwingUtilities::invokeLater} to land on the EDT).
+ * Such a bus is given to a game with {@link Game#setEvents(EventBus)} and
+ * {@link GameStateManager#setEvents(EventBus)}.
+ *
+ * @author Husein & Chan
+ */
+public final class EventBus {
+
+    /** Number of event types, one listener array each. */
+    private static final int TYPES = 4;
+
+    /** Shared empty listener array. */
+    private static final Consumer<?>[] NONE = new Consumer<?>[0];
+
+    /**
+     * Listener arrays by event type. Neither the table nor its arrays are modified once
+     * published; changes build a new table, so publishing needs one volatile read and no lock.
+     */
+    private volatile Consumer<?>[][] myListeners;
+
+    /** Where events are dispatched, or {@code null} to dispatch on the publishing thread. */
+    private final Executor myDispatcher;
+
+    /**
+     * Creates a bus that calls listeners on the publishing thread.
+     */
+    public EventBus() {
+        this(null);
+    }
+
+    /**
+     * Creates a bus that dispatches each event through an executor.
+     *
+     * @param theDispatcher where listeners are run, or {@code null} for the publishing thread
+     */
+    public EventBus(final Executor theDispatcher) {
+        myDispatcher = theDispatcher;
+        final Consumer<?>[][] empty = new Consumer<?>[TYPES][];
+        Arrays.fill(empty, NONE);
+        myListeners = empty;
+    }
+
+    /**
+     * Adds a listener for one type of event.
+     *
+     * @param theType     the event type
+     * @param theListener called with each event of that type
+     * @param <E>         the event type
+     */
+    public synchronized <E extends GameEvent> void subscribe(final Class<E> theType,
+                                                             final Consumer<? super E> theListener) {
+        Objects.requireNonNull(theListener);
+        final int slot = slot(theType);
+        final Consumer<?>[] old = myListeners[slot];
+        final Consumer<?>[] grown = Arrays.copyOf(old, old.length + 1);
+        grown[old.length] = theListener;
+        publishArray(slot, grown);
+    }
+
+    /**
+     * Removes a listener from every event type it was subscribed to.
+     *
+     * @param theListener the listener to remove
+     */
+    public synchronized void unsubscribe(final Consumer<?> theListener) {
+        for (int slot = 0; slot < TYPES; slot++) {
+            final Consumer<?>[] old = myListeners[slot];
+            int kept = 0;
+            final Consumer<?>[] left = new Consumer<?>[old.length];
+            for (final Consumer<?> l : old) {
+                if (l != theListener) left[kept++] = l;
+            }
+            if (kept != old.length) publishArray(slot, kept == 0 ? NONE : Arrays.copyOf(left, kept));
+        }
+    }
+
+    /**
+     * Returns whether anyone listens for a type of event, so a publisher can skip
+     * building events nobody will see.
+     *
+     * @param theType the event type
+     * @return true if it has at least one listener
+     */
+    public boolean hasListeners(final Class<? extends GameEvent> theType) {
+        return myListeners[slot(theType)].length > 0;
+    }
+
+    /**
+     * Delivers an event to the listeners of its type.
+     *
+     * @param theEvent the event
+     */
+    public void publish(final GameEvent theEvent) {
+        final Consumer<?>[] listeners = myListeners[slot(theEvent)];
+        if (listeners.length == 0) return;
+        if (myDispatcher == null) {
+            deliver(listeners, theEvent);
+        } else {
+            myDispatcher.execute(() -> deliver(listeners, theEvent));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void deliver(final Consumer<?>[] theListeners, final GameEvent theEvent) {
+        for (final Consumer<?> l : theListeners) {
+            ((Consumer<GameEvent>) l).accept(theEvent);
+        }
+    }
+
+    /**
+     * Swaps in a new listener array for one type. Callers hold the bus's monitor.
+     */
+    private void publishArray(final int theSlot, final Consumer<?>[] theArray) {
+        final Consumer<?>[][] table = myListeners.clone();
+        table[theSlot] = theArray;
+        myListeners = table;
+    }
+
+    private static int slot(final GameEvent theEvent) {
+        if (theEvent instanceof GameEvent.QuestionAsked) return 0;
+        if (theEvent instanceof GameEvent.PlayerMoved) return 1;
+        if (theEvent instanceof GameEvent.DoorBlocked) return 2;
+        if (theEvent instanceof GameEvent.StateChanged) return 3;
+        throw new IllegalArgumentException("Not an event: " + theEvent);
+    }
+
+    private static int slot(final Class<? extends GameEvent> theType) {
+        if (theType == GameEvent.QuestionAsked.class) return 0;
+        if (theType == GameEvent.PlayerMoved.class) return 1;
+        if (theType == GameEvent.DoorBlocked.class) return 2;
+        if (theType == GameEvent.StateChanged.class) return 3;
+        throw new IllegalArgumentException("Not an event type: " + theType);
+    }
+}
@@ -0,0 +1,126 @@
+package Model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Caches the shortest-path distance, in doors, from every cell to a target cell
+ * (the exit), so the view can show the true distance every frame without a BFS.
+ * <p>
+ * While no door is blocked the distance is the Manhattan distance and nothing is
+ * stored. Otherwise one BFS from the target fills a distance table, and door changes
+ * only invalidate it when they can actually change a distance: blocking a door the
+ * farther room does not depend on, or opening one between rooms already a step
+ * apart, leaves every distance as it was.
+ *
+ * @author Husein
+ */
+final class ExitDistances implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** Cached directions so traversal loops do not clone {@code values()}. */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /** The grid being measured. */
+    private final MazeGrid myGrid;
+
+    /** The cell every distance is measured to. */
+    private final int myTarget;
+
+    /** Distance of each cell, or -1 if it cannot reach the target; rebuilt after deserialization. */
+    private transient int[] myDist;
+
+    /** BFS queue, kept between rebuilds. */
+    private transient int[] myQueue;
+
+    /** Whether the table matches the grid's current doors. */
+    private transient boolean myValid;
+
+    /**
+     * Starts measuring distances to a target cell. Nothing is computed until needed.
+     *
+     * @param theGrid   the grid to measure
+     * @param theTarget the target cell id
+     */
+    ExitDistances(final MazeGrid theGrid, final int theTarget) {
+        myGrid = theGrid;
+        myTarget = theTarget;
+    }
+
+    /**
+     * @return the number of doors on a shortest path from the cell to the target,
+     *         or -1 if there is none
+     */
+    int distance(final int theCell) {
+        if (!myGrid.hasBlockedEdges()) {
+            return Math.abs(myGrid.rowOf(theCell) - myGrid.rowOf(myTarget))
+                    + Math.abs(myGrid.colOf(theCell) - myGrid.colOf(myTarget));
+        }
+        if (!myValid) rebuild();
+        return myDist[theCell];
+    }
+
+    /**
+     * Updates the table after an edge became blocked.
+     *
+     * @param theEdge the edge that was just blocked
+     */
+    void edgeRemoved(final int theEdge) {
+        if (!myValid) return;
+        final int a = myGrid.edgeCellA(theEdge);
+        final int b = myGrid.edgeCellB(theEdge);
+        if (myDist[a] < 0) return; // the edge was passable, so both sides were cut off
+
+        // the farther room keeps its distance if another neighbour is one step closer,
+        // and then every path through the edge can go that way instead
+        final int far = myDist[a] > myDist[b] ? a : b;
+        final int want = myDist[far] - 1;
+        for (final Direction d : DIRECTIONS) {
+            if (myGrid.canPass(far, d) && myDist[myGrid.neighbor(far, d)] == want) return;
+        }
+        myValid = false;
+    }
+
+    /**
+     * Updates the table after an edge became passable.
+     *
+     * @param theEdge the edge that was just opened
+     */
+    void edgeAdded(final int theEdge) {
+        if (!myValid) return;
+        final int da = myDist[myGrid.edgeCellA(theEdge)];
+        final int db = myDist[myGrid.edgeCellB(theEdge)];
+        if (da < 0 && db < 0) return; // joins two pieces that are both cut off
+        if (da >= 0 && db >= 0 && Math.abs(da - db) <= 1) return; // no shortcut
+        myValid = false;
+    }
+
+    /**
+     * Fills the table with one BFS from the target.
+     */
+    private void rebuild() {
+        final int n = myGrid.getCellCount();
+        if (myDist == null) {
+            myDist = new int[n];
+            myQueue = new int[n];
+        }
+        Arrays.fill(myDist, -1);
+        int head = 0, tail = 0;
+        myDist[myTarget] = 0;
+        myQueue[tail++] = myTarget;
+        while (head < tail) {
+            final int cell = myQueue[head++];
+            final int next = myDist[cell] + 1;
+            for (final Direction d : DIRECTIONS) {
+                if (!myGrid.canPass(cell, d)) continue;
+                final int nxt = myGrid.neighbor(cell, d);
+                if (myDist[nxt] >= 0) continue;
+                myDist[nxt] = next;
+                myQueue[tail++] = nxt;
+            }
+        }
+        myValid = true;
+    }
+}
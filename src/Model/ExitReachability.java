@@ -0,0 +1,220 @@
+package Model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Keeps the set of cells that can still reach a target cell (the exit) up to date
+ * as doors are blocked or opened, so "is the exit reachable from here" is a single
+ * bit lookup instead of a fresh BFS.
+ * <p>
+ * When a door on the target's component is blocked, two searches start from its
+ * two sides and are expanded one cell at a time in turn. If they meet, nothing was
+ * disconnected; otherwise the side that runs out first is the piece that broke off.
+ * The work is bounded by the smaller side, which keeps the cost low when blocking
+ * shaves small pockets off a large maze.
+ * <p>
+ * Only the cells that have been cut off are stored, so tracking a fresh maze of any
+ * size costs nothing until doors start getting blocked.
+ *
+ * @author Husein
+ */
+final class ExitReachability implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** Cached directions so traversal loops do not clone {@code values()}. */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /** The grid being tracked. */
+    private final MazeGrid myGrid;
+
+    /** The cell every query is measured against. */
+    private final int myTarget;
+
+    /** Cells that can no longer reach the target. */
+    private final BitSet myCutOff = new BitSet();
+
+    /** Scratch state for the two searches, rebuilt lazily after deserialization. */
+    private transient Search mySideA, mySideB;
+
+    /**
+     * Starts tracking reachability of a target cell.
+     *
+     * @param theGrid   the grid to track
+     * @param theTarget the target cell id
+     */
+    ExitReachability(final MazeGrid theGrid, final int theTarget) {
+        myGrid = theGrid;
+        myTarget = theTarget;
+        if (theGrid.hasBlockedEdges()) {
+            myCutOff.set(0, theGrid.getCellCount());
+            reconnect(theTarget);
+        }
+    }
+
+    /**
+     * Resumes tracking from a saved set of cut-off cells, without searching the grid.
+     *
+     * @param theGrid   the grid to track
+     * @param theTarget the target cell id
+     * @param theCutOff cells that could not reach the target when saved
+     */
+    ExitReachability(final MazeGrid theGrid, final int theTarget, final BitSet theCutOff) {
+        myGrid = theGrid;
+        myTarget = theTarget;
+        myCutOff.or(theCutOff);
+    }
+
+    /**
+     * @return the live set of cut-off cells, for saving; callers must not modify it
+     */
+    BitSet cutOff() {
+        return myCutOff;
+    }
+
+    /**
+     * @return true if the target can be reached from the cell
+     */
+    boolean isReachable(final int theCell) {
+        return !myCutOff.get(theCell);
+    }
+
+    /**
+     * Updates the reachable set after an edge became blocked.
+     *
+     * @param theEdge the edge that was just blocked
+     */
+    void edgeRemoved(final int theEdge) {
+        final int a = myGrid.edgeCellA(theEdge);
+        final int b = myGrid.edgeCellB(theEdge);
+        if (myCutOff.get(a)) return; // both sides were already cut off
+
+        if (mySideA == null) {
+            mySideA = new Search();
+            mySideB = new Search();
+        }
+        mySideA.start(a);
+        mySideB.start(b);
+        try {
+            while (true) {
+                if (mySideA.exhausted()) {
+                    split(mySideA);
+                    return;
+                }
+                if (mySideA.expand(mySideB)) return;
+                if (mySideB.exhausted()) {
+                    split(mySideB);
+                    return;
+                }
+                if (mySideB.expand(mySideA)) return;
+            }
+        } finally {
+            mySideA.reset();
+            mySideB.reset();
+        }
+    }
+
+    /**
+     * Updates the reachable set after an edge became passable.
+     *
+     * @param theEdge the edge that was just opened
+     */
+    void edgeAdded(final int theEdge) {
+        final int a = myGrid.edgeCellA(theEdge);
+        final int b = myGrid.edgeCellB(theEdge);
+        final boolean cutA = myCutOff.get(a);
+        if (cutA == myCutOff.get(b)) return;
+        reconnect(cutA ? a : b);
+    }
+
+    /**
+     * Applies the result of a search that ran out of cells: that side is now
+     * a separate component.
+     *
+     * @param theClosed the exhausted search
+     */
+    private void split(final Search theClosed) {
+        if (theClosed.contains(myTarget)) {
+            myCutOff.set(0, myGrid.getCellCount());
+            for (int i = 0; i < theClosed.mySize; i++) myCutOff.clear(theClosed.myCells[i]);
+        } else {
+            for (int i = 0; i < theClosed.mySize; i++) myCutOff.set(theClosed.myCells[i]);
+        }
+    }
+
+    /**
+     * Marks every cut-off cell connected to the start as reachable again.
+     *
+     * @param theStart the cut-off cell to flood from
+     */
+    private void reconnect(final int theStart) {
+        int[] queue = new int[16];
+        int head = 0, tail = 0;
+        myCutOff.clear(theStart);
+        queue[tail++] = theStart;
+        while (head < tail) {
+            final int cell = queue[head++];
+            for (final Direction d : DIRECTIONS) {
+                if (!myGrid.canPass(cell, d)) continue;
+                final int nxt = myGrid.neighbor(cell, d);
+                if (!myCutOff.get(nxt)) continue;
+                myCutOff.clear(nxt);
+                if (tail == queue.length) queue = Arrays.copyOf(queue, tail * 2);
+                queue[tail++] = nxt;
+            }
+        }
+    }
+
+    /**
+     * One side of the interleaved search. The visit order doubles as the BFS queue,
+     * so clearing the seen bits afterwards only touches cells that were visited.
+     */
+    private final class Search {
+        private final BitSet mySeen = new BitSet();
+        private int[] myCells = new int[16];
+        private int mySize, myHead;
+
+        void start(final int theCell) {
+            add(theCell);
+        }
+
+        boolean exhausted() {
+            return myHead == mySize;
+        }
+
+        boolean contains(final int theCell) {
+            return mySeen.get(theCell);
+        }
+
+        /**
+         * Visits the next queued cell.
+         *
+         * @return true if this side touched a cell already seen by the other side
+         */
+        boolean expand(final Search theOther) {
+            final int cell = myCells[myHead++];
+            for (final Direction d : DIRECTIONS) {
+                if (!myGrid.canPass(cell, d)) continue;
+                final int nxt = myGrid.neighbor(cell, d);
+                if (theOther.mySeen.get(nxt)) return true;
+                if (!mySeen.get(nxt)) add(nxt);
+            }
+            return false;
+        }
+
+        void reset() {
+            for (int i = 0; i < mySize; i++) mySeen.clear(myCells[i]);
+            mySize = 0;
+            myHead = 0;
+        }
+
+        private void add(final int theCell) {
+            mySeen.set(theCell);
+            if (mySize == myCells.length) myCells = Arrays.copyOf(myCells, mySize * 2);
+            myCells[mySize++] = theCell;
+        }
+    }
+}
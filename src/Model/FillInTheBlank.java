@@ -2,7 +2,9 @@ package Model;
 
 /**
  * Represents a fill-in-the-blank trivia question.
- * The player must type the exact correct answer to solve it. This class extends
+ * The player must type the correct answer to solve it; small typos, accents,
+ * punctuation, accepted alternates and equivalent numbers are forgiven by the
+ * {@link AnswerMatcher} compiled when the question is built. This class extends
  * the abstract {@link Question} class, providing specific implementations for
  * checking the correctness of an answer and retrieving the correct answer.
  *
@@ -10,32 +12,51 @@ package Model;
  */
 public class FillInTheBlank extends Question {
 
-    /** The correct answer to the question, stored in lowercase for case-insensitive comparison. */
+    /** The correct answer to the question, stored in lowercase for display. */
     private final String myCorrectAnswer;
 
+    /** The compiled matcher every typed answer is graded with. */
+    private final AnswerMatcher myMatcher;
+
     /**
      * Constructs a new fill-in-the-blank question.
      *
      * @param thePrompt        The question prompt to display to the player.
-     * @param theCorrectAnswer The correct answer string. It will be stored in lowercase
+     * @param theCorrectAnswer The correct answer string, optionally followed by accepted
+     * alternates separated by {@code |}. The first one is stored in lowercase
      * and trimmed of leading/trailing whitespace.
      * @param theHint          An optional {@link Hint} to show the player. Can be null.
      */
     public FillInTheBlank(final String thePrompt, final String theCorrectAnswer, final Hint theHint) {
         super(thePrompt, theHint);
-        this.myCorrectAnswer = theCorrectAnswer.toLowerCase().trim();
+        this.myMatcher = AnswerMatcher.compile(theCorrectAnswer);
+        this.myCorrectAnswer = myMatcher.getPrimary().toLowerCase();
     }
 
     /**
      * Checks if the user's typed answer is correct.
-     * The comparison is case-insensitive and ignores leading/trailing whitespace.
+     * The comparison is case- and accent-insensitive, ignores punctuation and
+     * extra whitespace, and tolerates small typos (see {@link AnswerMatcher}).
      *
      * @param theAnswer The user's typed answer.
      * @return {@code true} if the answer is correct; {@code false} otherwise.
      */
     @Override
     public boolean isCorrect(final String theAnswer) {
-        return theAnswer != null && theAnswer.toLowerCase().trim().equals(myCorrectAnswer);
+        return myMatcher.matches(theAnswer);
+    }
+
+    /**
+     * Checks part of a character sequence as the user's typed answer, in place.
+     *
+     * @param theText  The text holding the answer.
+     * @param theStart Index of the first character of the answer.
+     * @param theEnd   Index after the last character of the answer.
+     * @return {@code true} if the answer is correct; {@code false} otherwise.
+     */
+    @Override
+    public boolean isCorrect(final CharSequence theText, final int theStart, final int theEnd) {
+        return myMatcher.matches(theText, theStart, theEnd);
     }
 
     /**
@@ -1,9 +1,8 @@
 package Model;
 
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -12,7 +11,7 @@ import java.util.Objects;
  * The core game model that orchestrates all game logic.
  * This class manages the state of the maze, player, and game. It handles
  * player movement, question flow, hint and skip rules, and win/loss conditions.
- * It also serves as a central hub for firing property change events to notify
+ * It also serves as a central hub for publishing {@link GameEvent}s to notify
  * the view and controller of state changes.
  */
 public class Game implements Serializable {
@@ -20,10 +19,11 @@ public class Game implements Serializable {
     private static final long serialVersionUID = 1L;
 
     /**
-     * The event bus used to fire property change events to listeners (e.g., the view).
-     * This field is marked as {@code transient} to prevent serialization.
+     * The bus game events are published on, created the first time someone asks for it,
+     * so a game nobody listens to builds no events. This field is marked as
+     * {@code transient} to prevent serialization.
      */
-    private transient PropertyChangeSupport pcs = new PropertyChangeSupport(this);
+    private transient EventBus myEvents;
 
     // World & actors
     /** The maze containing the rooms and doors. */
@@ -123,26 +123,42 @@ public class Game implements Serializable {
 
     /**
      * Attempts to move the player in the given direction.
-     * If the move is valid and the door is not blocked, it fires a property change
-     * event to request a question from the view/controller.
+     * If the move is valid and the door is not blocked, it binds the door's question
+     * (on the first attempt) and publishes a {@link GameEvent.QuestionAsked} to request it from the view/controller.
      *
      * @param theDir The desired direction of movement.
      */
     public void attemptMove(final Direction theDir) {
-        if (myGSM.get() != GameState.PLAYING) return;
+        final QuestionRequest request = requestQuestion(theDir);
+        if (request != null && request.question() != null && listening(GameEvent.QuestionAsked.class)) {
+            myEvents.publish(new GameEvent.QuestionAsked(request.door(), request.question()));
+        }
+    }
+
+    /**
+     * Returns the question guarding the door in the given direction, binding it on the
+     * first attempt, without firing any event. This is the synchronous half of
+     * {@link #attemptMove(Direction)} for callers such as {@link GameEngine}.
+     *
+     * @param theDir The desired direction of movement.
+     * @return The door and its question, or {@code null} if the game is not being played
+     *         or there is no open door that way. The question is {@code null} once the
+     *         question pool has run out.
+     */
+    public QuestionRequest requestQuestion(final Direction theDir) {
+        if (myGSM.get() != GameState.PLAYING) return null;
 
         final Door door = myMaze.getDoor(theDir);
-        if (door == null || door.isBlocked()) return;
+        if (door == null || door.isBlocked()) return null;
 
-        final Question q = door.getQuestion();
-        pcs.firePropertyChange("askQuestion", null, new QuestionRequest(door, q));
+        return new QuestionRequest(door, myMaze.bindQuestion(door));
     }
 
     // --- Resolving an answered question ---
 
     /**
      * Handles the outcome of a question answer.
-     * If the answer is correct, the player moves through the door.
+     * If the answer is correct, the door is opened and the player moves through it.
      * If incorrect, an attempt is consumed, and the door may become blocked.
      *
      * @param theDoor    The door associated with the question.
@@ -158,7 +174,7 @@ public class Game implements Serializable {
             final boolean outOfTries = attemptsLeft(theDoor) <= 0;
             if (outOfTries) {
                 theDoor.block();
-                pcs.firePropertyChange("doorBlocked", null, theDoor);
+                if (listening(GameEvent.DoorBlocked.class)) myEvents.publish(new GameEvent.DoorBlocked(theDoor));
             }
 
             // If the maze is now impossible, end the game
@@ -169,7 +185,8 @@ public class Game implements Serializable {
             return;
         }
 
-        // Move through the door on correct answer
+        // Open the door and move through it on correct answer
+        theDoor.open();
         final Direction stepDir = directionOfDoorFromCurrent(theDoor);
         final Room before = myMaze.getCurrentRoom();
         final Room after = myMaze.step(stepDir);
@@ -177,7 +194,7 @@ public class Game implements Serializable {
         myPlayer.setX(after.getRow());
         myPlayer.setY(after.getCol());
 
-        pcs.firePropertyChange("playerMoved", before, after);
+        if (listening(GameEvent.PlayerMoved.class)) myEvents.publish(new GameEvent.PlayerMoved(before, after));
 
         if (myMaze.isAtExit()) {
             myGSM.gameOver(); // or a WIN state if you add one later
@@ -233,7 +250,7 @@ public class Game implements Serializable {
         if (!mySettings.isAllowSkipping()) return;
 
         door.block();
-        pcs.firePropertyChange("doorBlocked", null, door);
+        if (listening(GameEvent.DoorBlocked.class)) myEvents.publish(new GameEvent.DoorBlocked(door));
 
         if (!myMaze.hasPathToExitFromCurrent()) {
             myGSM.gameOver();
@@ -293,34 +310,65 @@ public class Game implements Serializable {
         throw new IllegalStateException("Door is not connected to the current room.");
     }
 
-    // --- Property change plumbing ---
+    // --- Saving ---
 
     /**
-     * Adds a {@link PropertyChangeListener} to the game model.
+     * Returns the number of hints used so far, for saving.
      *
-     * @param l The listener to add.
+     * @return The hints used.
      */
-    public void addListener(final PropertyChangeListener l) {
-        pcs.addPropertyChangeListener(l);
+    int getHintsUsed() {
+        return myHintsUsed;
     }
 
     /**
-     * Removes a {@link PropertyChangeListener} from the game model.
+     * Returns the attempts left on every door tried so far, for saving.
      *
-     * @param l The listener to remove.
+     * @return An unmodifiable view of attempts left by door.
      */
-    public void removeListener(final PropertyChangeListener l) {
-        pcs.removePropertyChangeListener(l);
+    Map<Door, Integer> getAttemptsByDoor() {
+        return Collections.unmodifiableMap(myAttemptsLeft);
     }
 
     /**
-     * A method for deserialization that re-initializes the transient {@link PropertyChangeSupport} object.
+     * Puts back the counters of a saved game.
      *
-     * @return The deserialized {@code Game} instance.
+     * @param theHintsUsed The hints used.
+     * @param theAttempts  Attempts left by door.
      */
-    @Serial
-    private Object readResolve() {
-        pcs = new PropertyChangeSupport(this);
-        return this;
+    void restoreCounters(final int theHintsUsed, final Map<Door, Integer> theAttempts) {
+        myHintsUsed = theHintsUsed;
+        myAttemptsLeft.clear();
+        myAttemptsLeft.putAll(theAttempts);
+    }
+
+    // --- Events ---
+
+    /**
+     * Returns the bus this game publishes {@link GameEvent}s on, creating it on first use.
+     *
+     * @return The game's {@link EventBus}.
+     */
+    public EventBus getEvents() {
+        if (myEvents == null) myEvents = new EventBus();
+        return myEvents;
+    }
+
+    /**
+     * Publishes this game's events on the given bus from now on, for example one
+     * built with an executor so listeners run off the game's thread.
+     *
+     * @param theEvents The bus to publish on.
+     */
+    public void setEvents(final EventBus theEvents) {
+        myEvents = Objects.requireNonNull(theEvents);
+    }
+
+    /**
+     * Returns whether an event of the given type would reach anyone, so no event
+     * is built when nobody listens.
+     */
+    private boolean listening(final Class<? extends GameEvent> theType) {
+        return myEvents != null && myEvents.hasListeners(theType);
     }
-}
\ No newline at end of file
+}
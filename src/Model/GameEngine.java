@@ -0,0 +1,255 @@
+package Model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A synchronous, headless front end to a {@link Game}, for play without Swing
+ * (a server session, a bot, a test). Every call returns a typed result describing
+ * what happened instead of publishing {@link GameEvent}s, so no listener has to be
+ * registered and nothing from AWT is loaded.
+ *
+ * <p>The engine remembers the question the player is currently facing: {@link #move}
+ * asks it, and {@link #answer}, {@link #hint} and {@link #skip} act on it. An engine
+ * belongs to one session and is not thread-safe.
+ *
+ * @author Husein & Chan
+ */
+public final class GameEngine {
+
+    /** What a call did, or why it did nothing. */
+    public enum Status {
+        /** The call took effect. */
+        OK,
+        /** The game is paused or over. */
+        NOT_PLAYING,
+        /** There is no open door in that direction. */
+        NO_DOOR,
+        /** A question is already waiting for an answer; the result carries it. */
+        QUESTION_PENDING,
+        /** There is no question waiting for an answer. */
+        NO_QUESTION,
+        /** The settings or the question do not allow this (no hint left, skipping disabled). */
+        NOT_ALLOWED,
+        /** The question pool has run out, so the door has no question to ask. */
+        OUT_OF_QUESTIONS
+    }
+
+    /**
+     * What the player sees of a question: never the correct answer.
+     *
+     * @param type         the kind of question
+     * @param prompt       the question text
+     * @param options      the choices for a multiple choice question, otherwise empty
+     * @param hasHint      whether a hint can be used on it right now
+     * @param attemptsLeft tries left on the door, {@link Integer#MAX_VALUE} if unlimited
+     */
+    public record QuestionView(QuestionType type, String prompt, List<String> options,
+                               boolean hasHint, int attemptsLeft) { }
+
+    /**
+     * The position and progress of the game after a call.
+     *
+     * @param row               the player's row
+     * @param col               the player's column
+     * @param state             the game state
+     * @param won               whether the player reached the exit
+     * @param hintsLeft         hints left, {@link Integer#MAX_VALUE} if unlimited
+     * @param questionsAnswered answers given so far
+     */
+    public record Snapshot(int row, int col, GameState state, boolean won,
+                           int hintsLeft, int questionsAnswered) { }
+
+    /**
+     * The result of {@link #move}.
+     *
+     * @param status   {@link Status#OK} when a question now guards the move
+     * @param question the question to answer, or {@code null} if none
+     */
+    public record MoveResult(Status status, QuestionView question) { }
+
+    /**
+     * The result of {@link #answer}.
+     *
+     * @param status       {@link Status#OK} when the answer was graded
+     * @param correct      whether it was right; the player has moved through the door
+     * @param attemptsLeft tries left on the door after a wrong answer
+     * @param doorBlocked  whether a wrong answer used the last try and blocked the door
+     * @param state        the game after the answer
+     */
+    public record AnswerResult(Status status, boolean correct, int attemptsLeft,
+                               boolean doorBlocked, Snapshot state) { }
+
+    /**
+     * The result of {@link #hint}.
+     *
+     * @param status    {@link Status#OK} when a hint was used
+     * @param hint      the hint text, or {@code null} if none
+     * @param hintsLeft hints left afterwards, {@link Integer#MAX_VALUE} if unlimited
+     */
+    public record HintResult(Status status, String hint, int hintsLeft) { }
+
+    /**
+     * The result of {@link #skip}.
+     *
+     * @param status {@link Status#OK} when the question was skipped and its door blocked
+     * @param state  the game after the skip
+     */
+    public record SkipResult(Status status, Snapshot state) { }
+
+    /** The game being played. */
+    private final Game myGame;
+
+    /** The question being asked, or {@code null} between moves. */
+    private QuestionRequest myPending;
+
+    /**
+     * Wraps an existing game.
+     *
+     * @param theGame the game to drive
+     * @throws NullPointerException if the game is {@code null}
+     */
+    public GameEngine(final Game theGame) {
+        myGame = Objects.requireNonNull(theGame);
+    }
+
+    /**
+     * Builds a new game for the settings, drawing door questions from the factory
+     * when each door is first tried. Nothing is prefetched in the background, so
+     * many engines can run side by side without queuing work on a shared thread.
+     *
+     * @param theSettings the difficulty settings
+     * @param theFactory  where door questions come from
+     * @return an engine at the start of the new game
+     */
+    public static GameEngine startGame(final DifficultySettings theSettings, final questionFactory theFactory) {
+        final Maze maze = new Maze(theSettings.getMazeHeight(), theSettings.getMazeWidth(), theFactory, null);
+        return new GameEngine(new Game(maze, new Player(), new GameStateManager(), theSettings));
+    }
+
+    /**
+     * Returns the game being driven.
+     *
+     * @return the {@link Game}
+     */
+    public Game getGame() {
+        return myGame;
+    }
+
+    /**
+     * Tries to move through the door in a direction, which asks its question.
+     * The player only moves once the question is answered correctly.
+     *
+     * @param theDir the direction to move
+     * @return the question to answer, or why there is none
+     */
+    public MoveResult move(final Direction theDir) {
+        if (myPending != null) {
+            return new MoveResult(Status.QUESTION_PENDING, view(myPending));
+        }
+        if (myGame.getStateManager().get() != GameState.PLAYING) {
+            return new MoveResult(Status.NOT_PLAYING, null);
+        }
+        final QuestionRequest request = myGame.requestQuestion(theDir);
+        if (request == null) {
+            return new MoveResult(Status.NO_DOOR, null);
+        }
+        if (request.question() == null) {
+            return new MoveResult(Status.OUT_OF_QUESTIONS, null);
+        }
+        myPending = request;
+        return new MoveResult(Status.OK, view(request));
+    }
+
+    /**
+     * Answers the pending question. A right answer moves the player; a wrong one
+     * uses up a try and keeps the question pending until the door is blocked.
+     *
+     * @param theAnswer the player's answer
+     * @return whether it was right and what it did to the game
+     */
+    public AnswerResult answer(final String theAnswer) {
+        if (myPending == null) {
+            return new AnswerResult(Status.NO_QUESTION, false, 0, false, state());
+        }
+        final Door door = myPending.door();
+        final boolean correct = theAnswer != null && myPending.question().isCorrect(theAnswer);
+        myGame.handleAnswer(door, correct);
+
+        final boolean blocked = !correct && door.isBlocked();
+        if (correct || blocked || myGame.getStateManager().get() != GameState.PLAYING) {
+            myPending = null;
+        }
+        return new AnswerResult(Status.OK, correct, correct ? 0 : myGame.getAttemptsLeft(door), blocked, state());
+    }
+
+    /**
+     * Uses a hint on the pending question.
+     *
+     * @return the hint text, or why there is none
+     */
+    public HintResult hint() {
+        if (myPending == null) {
+            return new HintResult(Status.NO_QUESTION, null, myGame.getHintsLeft());
+        }
+        final String text = myGame.useHint(myPending.question());
+        return new HintResult(text == null ? Status.NOT_ALLOWED : Status.OK, text, myGame.getHintsLeft());
+    }
+
+    /**
+     * Skips the pending question, which blocks its door for good.
+     *
+     * @return the game after the skip, or why it was refused
+     */
+    public SkipResult skip() {
+        if (myPending == null) {
+            return new SkipResult(Status.NO_QUESTION, state());
+        }
+        if (!myGame.canSkip()) {
+            return new SkipResult(Status.NOT_ALLOWED, state());
+        }
+        myGame.skipQuestion(myPending.door());
+        myPending = null;
+        return new SkipResult(Status.OK, state());
+    }
+
+    /**
+     * Returns the question waiting for an answer.
+     *
+     * @return its view, or {@code null} if none
+     */
+    public QuestionView pendingQuestion() {
+        return myPending == null ? null : view(myPending);
+    }
+
+    /**
+     * Returns the current position and progress.
+     *
+     * @return a snapshot of the game
+     */
+    public Snapshot state() {
+        final Player player = myGame.getPlayer();
+        final Maze maze = myGame.getMaze();
+        return new Snapshot(player.getX(), player.getY(), myGame.getStateManager().get(),
+                maze.isAtExit(), myGame.getHintsLeft(), player.getQuestionsAnswered());
+    }
+
+    /**
+     * Describes a question without giving its answer away.
+     */
+    private QuestionView view(final QuestionRequest theRequest) {
+        final Question q = theRequest.question();
+        final QuestionType type;
+        List<String> options = List.of();
+        if (q instanceof MultipleChoiceQuestion mc) {
+            type = QuestionType.MC;
+            options = mc.getOptions();
+        } else if (q instanceof TrueFalseQuestion) {
+            type = QuestionType.TF;
+        } else {
+            type = QuestionType.FB;
+        }
+        return new QuestionView(type, q.getPrompt(), options, myGame.canUseHint(q),
+                myGame.getAttemptsLeft(theRequest.door()));
+    }
+}
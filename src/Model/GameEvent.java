@@ -0,0 +1,41 @@
+package Model;
+
+/**
+ * Something that happened in a game, published on an {@link EventBus}.
+ * The set of events is closed, so a listener that checks each of the four types handles them all.
+ *
+ * @author Husein & Chan
+ */
+public sealed interface GameEvent {
+
+    /**
+     * The player tried a door and must answer its question to pass.
+     *
+     * @param door     the door being tried
+     * @param question the question guarding it
+     */
+    record QuestionAsked(Door door, Question question) implements GameEvent { }
+
+    /**
+     * The player answered correctly and moved through a door.
+     *
+     * @param from the room left
+     * @param to   the room entered
+     */
+    record PlayerMoved(Room from, Room to) implements GameEvent { }
+
+    /**
+     * A door was blocked for good, by a skip or by running out of attempts.
+     *
+     * @param door the blocked door
+     */
+    record DoorBlocked(Door door) implements GameEvent { }
+
+    /**
+     * The game moved between playing, paused and over.
+     *
+     * @param oldState the previous state
+     * @param newState the new state
+     */
+    record StateChanged(GameState oldState, GameState newState) implements GameEvent { }
+}
@@ -0,0 +1,336 @@
+package Model;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Saves and loads games in progress in a compact, versioned binary format.
+ * Instead of serializing the object graph, a save holds only what the game cannot
+ * rebuild: the settings, the player's position and progress, the maze's door and
+ * visited state as bitsets, attempts left per door, and each bound question as its
+ * catalog id. Everything is big-endian:
+ * <pre>
+ *   header    int magic "TMSV", short version, short reserved
+ *   settings  name (u16 length + UTF-8), 8 ints (size, time, hints, scoring),
+ *             skipping byte, attempts, min and max difficulty, large-maze byte,
+ *             3 type weights, fallback byte
+ *   game      state byte, hints used, score, answered, current cell
+ *   maze      blocked edges, opened edges, visited cells, cells cut off from the
+ *             exit: each an int word count + longs
+ *   attempts  int count, then (edge, attempts left) int pairs
+ *   questions int count, then (edge, catalog id, prompt hash, hint used byte)
+ * </pre>
+ * Later versions only append fields, so a reader can load every older version. A
+ * question whose id no longer matches its prompt (the bank changed since the save)
+ * is replaced by a fresh one from the factory.
+ *
+ * @author Husein & Chan
+ */
+public final class GameSave {
+
+    /** "TMSV" in ASCII. */
+    public static final int MAGIC = 0x544D5356;
+
+    /** Current format version. */
+    public static final short VERSION = 1;
+
+    /** Bytes in the fixed part of the header. */
+    private static final int HEADER_SIZE = 8;
+
+    private static final GameState[] STATES = GameState.values();
+
+    private static final DifficultySettings.QuestionFallback[] FALLBACKS =
+            DifficultySettings.QuestionFallback.values();
+
+    private GameSave() {
+    }
+
+    /**
+     * Encodes a game.
+     *
+     * @param theGame the game to save
+     * @return the encoded bytes
+     */
+    public static byte[] encode(final Game theGame) {
+        final DifficultySettings s = theGame.getSettings();
+        final Maze maze = theGame.getMaze();
+        final MazeGrid grid = maze.getGrid();
+        final byte[] name = s.getDifficultyName().getBytes(StandardCharsets.UTF_8);
+        final long[] blocked = grid.blockedEdges().toLongArray();
+        final long[] opened = grid.openedEdges().toLongArray();
+        final long[] visited = grid.visitedCells().toLongArray();
+        final long[] cutOff = grid.exitCutOff().toLongArray();
+        final Map<Door, Integer> attempts = theGame.getAttemptsByDoor();
+        final Map<Integer, Question> questions = maze.boundQuestions();
+
+        final int size = HEADER_SIZE
+                + 2 + name.length + 8 * 4 + 1 + 3 * 4 + 1 + 3 * 4 + 1
+                + 1 + 4 * 4
+                + 4 * 4 + 8 * (blocked.length + opened.length + visited.length + cutOff.length)
+                + 4 + 8 * attempts.size()
+                + 4 + 13 * questions.size();
+        final ByteBuffer out = ByteBuffer.allocate(size);
+
+        out.putInt(MAGIC).putShort(VERSION).putShort((short) 0);
+
+        out.putShort((short) name.length).put(name);
+        out.putInt(s.getMazeWidth()).putInt(s.getMazeHeight()).putInt(s.getTimeLimit()).putInt(s.getMaxHints());
+        out.putInt(s.getCorrectAnswerPoints()).putInt(s.getWrongAnswerPenalty())
+                .putInt(s.getHintPenalty()).putInt(s.getSkipQuestionPenalty());
+        out.put((byte) (s.isAllowSkipping() ? 1 : 0)).putInt(s.getMaxAttemptsPerDoor());
+        out.putInt(s.getQuestionDifficultyMin()).putInt(s.getQuestionDifficultyMax());
+        out.put((byte) (s.isLargeMaze() ? 1 : 0));
+        out.putInt(s.getQuestionTypeWeight(QuestionType.MC)).putInt(s.getQuestionTypeWeight(QuestionType.TF))
+                .putInt(s.getQuestionTypeWeight(QuestionType.FB));
+        out.put((byte) s.getQuestionFallback().ordinal());
+
+        final Player p = theGame.getPlayer();
+        out.put((byte) theGame.getStateManager().get().ordinal());
+        out.putInt(theGame.getHintsUsed()).putInt(p.getScore()).putInt(p.getQuestionsAnswered());
+        out.putInt(maze.getCurrentCell());
+
+        putBits(out, blocked);
+        putBits(out, opened);
+        putBits(out, visited);
+        putBits(out, cutOff);
+
+        out.putInt(attempts.size());
+        for (final Map.Entry<Door, Integer> e : attempts.entrySet()) {
+            out.putInt(e.getKey().getEdgeId()).putInt(e.getValue());
+        }
+
+        out.putInt(questions.size());
+        for (final Map.Entry<Integer, Question> e : questions.entrySet()) {
+            final Question q = e.getValue();
+            out.putInt(e.getKey());
+            out.putInt(q == null ? -1 : q.getCatalogId());
+            out.putInt(q == null ? 0 : q.getPrompt().hashCode());
+            out.put((byte) (q != null && q.getHint() != null && q.getHint().isUsed() ? 1 : 0));
+        }
+        return out.array();
+    }
+
+    /**
+     * Decodes a saved game. Doors tried after loading draw their questions from the factory.
+     *
+     * @param theData    the encoded bytes
+     * @param theFactory the question factory for the restored game
+     * @return the restored game
+     * @throws IOException if the data is not a save, is from a newer version, or is corrupt
+     */
+    public static Game decode(final byte[] theData, final questionFactory theFactory) throws IOException {
+        return decode(theData, settings -> theFactory);
+    }
+
+    /**
+     * Decodes a saved game, picking its question factory once the saved settings are known.
+     *
+     * @param theData      the encoded bytes
+     * @param theFactories gives the question factory for the saved settings
+     * @return the restored game
+     * @throws IOException if the data is not a save, is from a newer version, or is corrupt
+     */
+    public static Game decode(final byte[] theData,
+                              final Function<DifficultySettings, questionFactory> theFactories) throws IOException {
+        final ByteBuffer in = ByteBuffer.wrap(theData);
+        try {
+            if (theData.length < HEADER_SIZE || in.getInt() != MAGIC) {
+                throw new IOException("Not a saved game");
+            }
+            final short version = in.getShort();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unsupported saved game version " + version);
+            }
+            in.getShort(); // reserved
+
+            final DifficultySettings settings = readSettings(in);
+            final GameState state = STATES[index(in.get(), STATES.length, "game state")];
+            final int hintsUsed = in.getInt();
+            final int score = in.getInt();
+            final int answered = in.getInt();
+            final int cell = in.getInt();
+
+            final BitSet blocked = getBits(in);
+            final BitSet opened = getBits(in);
+            final BitSet visited = getBits(in);
+            final BitSet cutOff = getBits(in);
+
+            final int[] attemptEdges = new int[count(in, 8)];
+            final int[] attemptCounts = new int[attemptEdges.length];
+            for (int i = 0; i < attemptEdges.length; i++) {
+                attemptEdges[i] = in.getInt();
+                attemptCounts[i] = in.getInt();
+            }
+
+            final int questionCount = count(in, 13);
+            final int[] questionEdges = new int[questionCount];
+            final Question[] questions = new Question[questionCount];
+            final questionFactory qf = theFactories.apply(settings);
+            final QuestionCatalog catalog = qf == null ? null : qf.getCatalog();
+            for (int i = 0; i < questionCount; i++) {
+                questionEdges[i] = in.getInt();
+                final int id = in.getInt();
+                final int promptHash = in.getInt();
+                final boolean hintUsed = in.get() != 0;
+                final Question q = restoreQuestion(catalog, qf, id, promptHash);
+                if (q != null && hintUsed && q.getHint() != null) q.getHint().useHint();
+                questions[i] = q;
+            }
+            // fields added by later versions are read here, guarded by the version
+
+            // the restored questions are out of the factory's decks before the maze draws any
+            final Maze maze = new Maze(settings.getMazeHeight(), settings.getMazeWidth(), qf);
+            final MazeGrid grid = maze.getGrid();
+            checkBits(blocked, grid.getEdgeCount(), "blocked edges");
+            checkBits(opened, grid.getEdgeCount(), "opened edges");
+            checkBits(visited, grid.getCellCount(), "visited cells");
+            checkBits(cutOff, grid.getCellCount(), "cut-off cells");
+            maze.restore(cell, blocked, opened, visited, cutOff);
+
+            final Map<Door, Integer> attempts = new HashMap<>(attemptEdges.length * 2);
+            for (int i = 0; i < attemptEdges.length; i++) {
+                final int edge = index(attemptEdges[i], grid.getEdgeCount(), "door");
+                attempts.put(maze.doorAt(edge), attemptCounts[i]);
+            }
+            for (int i = 0; i < questionCount; i++) {
+                maze.restoreQuestion(index(questionEdges[i], grid.getEdgeCount(), "door"), questions[i]);
+            }
+
+            final Player player = new Player();
+            player.restoreProgress(score, answered);
+            final GameStateManager gsm = new GameStateManager();
+            gsm.set(state);
+            final Game game = new Game(maze, player, gsm, settings);
+            game.restoreCounters(hintsUsed, attempts);
+            return game;
+        } catch (final BufferUnderflowException e) {
+            throw new IOException("Saved game is truncated", e);
+        } catch (final IllegalArgumentException e) {
+            throw new IOException("Corrupt saved game: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes a game to a file, replacing it atomically so a crash never leaves half a save.
+     *
+     * @param theGame the game to save
+     * @param theFile where to save it
+     * @throws IOException if the file cannot be written
+     */
+    public static void save(final Game theGame, final Path theFile) throws IOException {
+        final byte[] data = encode(theGame);
+        final Path dir = theFile.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        final Path tmp = Files.createTempFile(dir, "save", ".tmp");
+        try {
+            Files.write(tmp, data);
+            Files.move(tmp, theFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Reads a game from a file.
+     *
+     * @param theFile    the saved game
+     * @param theFactory the question factory for the restored game
+     * @return the restored game
+     * @throws IOException if the file cannot be read or is not a valid save
+     */
+    public static Game load(final Path theFile, final questionFactory theFactory) throws IOException {
+        return decode(Files.readAllBytes(theFile), theFactory);
+    }
+
+    /**
+     * Reads a game from a file, picking its question factory once the saved settings are known.
+     *
+     * @param theFile      the saved game
+     * @param theFactories gives the question factory for the saved settings
+     * @return the restored game
+     * @throws IOException if the file cannot be read or is not a valid save
+     */
+    public static Game load(final Path theFile,
+                            final Function<DifficultySettings, questionFactory> theFactories) throws IOException {
+        return decode(Files.readAllBytes(theFile), theFactories);
+    }
+
+    private static DifficultySettings readSettings(final ByteBuffer theIn) {
+        final byte[] name = new byte[Short.toUnsignedInt(theIn.getShort())];
+        theIn.get(name);
+        final DifficultySettings.Builder b = new DifficultySettings.Builder(new String(name, StandardCharsets.UTF_8));
+        final int width = theIn.getInt();
+        final int height = theIn.getInt();
+        b.timeLimit(theIn.getInt()).maxHints(theIn.getInt());
+        b.scoring(theIn.getInt(), theIn.getInt(), theIn.getInt(), theIn.getInt());
+        b.allowSkipping(theIn.get() != 0).maxAttemptsPerDoor(theIn.getInt());
+        b.questionDifficultyRange(theIn.getInt(), theIn.getInt());
+        b.largeMaze(theIn.get() != 0).mazeSize(width, height);
+        b.questionTypeWeights(theIn.getInt(), theIn.getInt(), theIn.getInt());
+        b.questionFallback(FALLBACKS[index(theIn.get(), FALLBACKS.length, "question fallback")]);
+        return b.build();
+    }
+
+    /**
+     * Recreates a saved question from its catalog id and takes it out of the factory's
+     * decks, or draws a replacement when the id is unknown or now names a different question.
+     */
+    private static Question restoreQuestion(final QuestionCatalog theCatalog, final questionFactory theFactory,
+                                            final int theId, final int thePromptHash) {
+        if (theCatalog != null && theId >= 0 && theId < theCatalog.size()
+                && theCatalog.get(theId).prompt().hashCode() == thePromptHash) {
+            if (theFactory != null) theFactory.withdraw(theId);
+            return theCatalog.create(theId);
+        }
+        return theFactory == null ? null : theFactory.getNextAvailableQuestion();
+    }
+
+    private static void putBits(final ByteBuffer theOut, final long[] theWords) {
+        theOut.putInt(theWords.length);
+        theOut.asLongBuffer().put(theWords);
+        theOut.position(theOut.position() + 8 * theWords.length);
+    }
+
+    private static BitSet getBits(final ByteBuffer theIn) {
+        final long[] words = new long[count(theIn, 8)];
+        theIn.asLongBuffer().get(words);
+        theIn.position(theIn.position() + 8 * words.length);
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Checks that no bit of a decoded bitset lies past the given limit.
+     */
+    private static void checkBits(final BitSet theBits, final int theLimit, final String theWhat) {
+        if (theBits.length() > theLimit) {
+            throw new IllegalArgumentException(theWhat + " out of range");
+        }
+    }
+
+    /**
+     * Reads a count and checks that that many entries of the given size can follow.
+     */
+    private static int count(final ByteBuffer theIn, final int theEntrySize) {
+        final int n = theIn.getInt();
+        if (n < 0 || (long) n * theEntrySize > theIn.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return n;
+    }
+
+    private static int index(final int theValue, final int theLimit, final String theWhat) {
+        if (theValue < 0 || theValue >= theLimit) {
+            throw new IllegalArgumentException(theWhat + " " + theValue + " out of range");
+        }
+        return theValue;
+    }
+}
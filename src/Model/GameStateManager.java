@@ -1,19 +1,19 @@
 package Model;
 
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Objects;
 
 /**
  * Manages state of game (plauing, paused, game over),
- * fires property change events when state changes
+ * publishes a {@link GameEvent.StateChanged} when state changes
  */
 public class GameStateManager implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
-    private transient PropertyChangeSupport pcs = new PropertyChangeSupport(this);
+    /** Created the first time someone asks for it, so headless games never need it. */
+    private transient EventBus myEvents;
     /**
      * The current state of game
      */
@@ -27,7 +27,7 @@ public class GameStateManager implements Serializable {
     }
 
     /**
-     * This sets game state, and fires property change event if change happens.
+     * This sets game state, and publishes a state change event if change happens.
      *
      * @param theNewState the new game state.
      */
@@ -35,7 +35,9 @@ public class GameStateManager implements Serializable {
         if (theNewState != myState) {
             final GameState old = myState;
             myState = theNewState;
-            pcs.firePropertyChange("state", old, theNewState);
+            if (myEvents != null && myEvents.hasListeners(GameEvent.StateChanged.class)) {
+                myEvents.publish(new GameEvent.StateChanged(old, theNewState));
+            }
         }
     }
 
@@ -64,23 +66,20 @@ public class GameStateManager implements Serializable {
     }
 
     /**
-     * This adds listener for game state changes
+     * This returns the bus state changes are published on, creating it on first use.
      */
-    public void addListener(final PropertyChangeListener l) {
-        pcs.addPropertyChangeListener(l);
+    public EventBus getEvents() {
+        if (myEvents == null) myEvents = new EventBus();
+        return myEvents;
     }
 
     /**
-     * This removes listener for game state changes.
+     * This publishes state changes on the given bus from now on, e.g. one that
+     * dispatches through an executor.
+     *
+     * @param theEvents the bus to publish on
      */
-    public void removeListener(final PropertyChangeListener l) {
-        pcs.removePropertyChangeListener(l);
-    }
-
-    /** Recreate PropertyChangeSupport after deserialization. */
-    @Serial
-    private Object readResolve() {
-        pcs = new PropertyChangeSupport(this);
-        return this;
+    public void setEvents(final EventBus theEvents) {
+        myEvents = Objects.requireNonNull(theEvents);
     }
 }
@@ -2,23 +2,46 @@ package Model;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  *
  * Represents rectangular grid composed of rooms connected by doors making up trivia maze
- * supports movement, state tracking, and reset
+ * supports movement, state tracking, and reset.
+ * Door and visited state live in a packed {@link MazeGrid}; {@link Room} and {@link Door}
+ * objects are views created the first time they are asked for. Door questions are bound
+ * when the player first tries a door (see {@link #bindQuestion(Door)}), drawn from a
+ * {@link QuestionPrefetcher} that keeps a few ready, so construction does no question work
+ * and untouched parts of a large maze cost only their bits in the grid. Headless games
+ * can build the maze without a refill executor and draw each question on demand instead.
  *
  * @author Husein
  */
 public class Maze implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
-    private final Room[][] myGrid;
+
+    private final MazeGrid myGrid;
     private final int myRows, myCols;
-    private final Room myStartRoom, myExitRoom;
-    private Room myCurrentPosition;
+    private final int myStartCell, myExitCell;
+    private int myCurrentCell;
     private final questionFactory myQuestionFactory;
 
+    /** Keeps a few questions ready for the next door the player tries. */
+    private transient QuestionPrefetcher myPrefetcher;
+    /** Where the prefetcher refills, or null to draw on demand; a deserialized maze draws on demand. */
+    private final transient Executor myRefiller;
+    /** Questions bound so far, keyed by edge id. */
+    private final Map<Integer, Question> myQuestions = new HashMap<>();
+    /** Room views, keyed by cell id and created on first access. */
+    private final Map<Integer, Room> myRoomViews = new HashMap<>();
+    /** Door views, keyed by edge id and created on first access. */
+    private final Map<Integer, Door> myDoorViews = new HashMap<>();
+
     /**
      *
      * Constructs new maze with specified amount of rows and colunms
@@ -28,21 +51,44 @@ public class Maze implements Serializable {
      * @throws IllegalArgumentException if rows and cols are less then 1
      */
     public Maze(final int theRows, final int theCols, questionFactory theQuestionFactory) {
+        this(theRows, theCols, theQuestionFactory, QuestionPrefetcher.sharedRefiller());
+    }
+
+    /**
+     * Constructs new maze whose questions are prefetched on the given executor
+     * @param theRows number of rows in maze
+     * @param theCols number of colunms in maze
+     * @param theQuestionFactory where door questions come from
+     * @param theRefiller where questions are drawn ahead of time, or null to draw each one
+     *                    when its door is first tried, with no background work
+     * @throws IllegalArgumentException if rows and cols are less then 1
+     */
+    public Maze(final int theRows, final int theCols, final questionFactory theQuestionFactory,
+                final Executor theRefiller) {
         validateMazeDimensions(theRows, theCols);
         this.myRows = theRows;
         this.myCols = theCols;
         myQuestionFactory = theQuestionFactory;
-        myGrid = new Room[myRows][myCols];
-        createRooms();
-        connectDoors();
-        myStartRoom = myGrid[0][0];
-        myExitRoom = myGrid[myRows - 1][myCols - 1];
+        myRefiller = theRefiller;
+        myGrid = new MazeGrid(myRows, myCols);
+        prefetcher().prime();
+        myStartCell = 0;
+        myExitCell = myGrid.getCellCount() - 1;
+        myGrid.trackExit(myExitCell);
 
-        myCurrentPosition = myStartRoom;
-        myStartRoom.markVisited();
+        myCurrentCell = myStartCell;
+        myGrid.markVisited(myStartCell);
 
     }
 
+    /**
+     * Returns the packed grid backing this maze
+     * @return the maze grid
+     */
+    public MazeGrid getGrid() {
+        return myGrid;
+    }
+
     /**
      * Returns number of rows in maze
      * @return the row count
@@ -67,26 +113,22 @@ public class Maze implements Serializable {
      * @throws  IndexOutOfBoundsException if coordinates are outside maze bounds
      */
     public Room getRoom(final int theRow, final int theCol) {
-        if (theRow < 0 || theRow >= myRows || theCol < 0 || theCol >= myCols) {
-            throw new IndexOutOfBoundsException("Invalid room coordinates: (" + theRow + ", " + theCol + ")");
-        }
-        return myGrid[theRow][theCol];
+        return roomAt(myGrid.cellId(theRow, theCol));
     }
     public Room getStartRoom() {
-        return myStartRoom;
+        return roomAt(myStartCell);
     }
     public Room getExitRoom()  {
-        return myExitRoom;
+        return roomAt(myExitCell);
     }
 
 
     public Door getDoor(final Direction theDir) {
-        return myCurrentPosition.getDoor(theDir);
+        return doorAt(myGrid.edgeId(myCurrentCell, theDir));
     }
 
     public boolean canMove(final Direction theDir) {
-        final Door door = getDoor(theDir);
-        return door != null && !door.isBlocked();
+        return myGrid.canPass(myCurrentCell, theDir);
     }
 
     /**
@@ -94,11 +136,11 @@ public class Maze implements Serializable {
      * Returns the new current room.
      */
     public Room step(final Direction theDir) {
-        Door door = getDoor(theDir);
-        if (door == null || door.isBlocked()) return myCurrentPosition;
-        myCurrentPosition = door.getNextRoom(myCurrentPosition);
-        myCurrentPosition.markVisited();
-        return myCurrentPosition;
+        if (myGrid.canPass(myCurrentCell, theDir)) {
+            myCurrentCell = myGrid.neighbor(myCurrentCell, theDir);
+            myGrid.markVisited(myCurrentCell);
+        }
+        return roomAt(myCurrentCell);
     }
 
 //    /**
@@ -118,7 +160,15 @@ public boolean move(final Direction theDir) {
      * @return current room of player
      */
     public Room getCurrentRoom() {
-        return myCurrentPosition;
+        return roomAt(myCurrentCell);
+    }
+
+    /**
+     * Returns the grid cell id player is currently in
+     * @return current cell id
+     */
+    public int getCurrentCell() {
+        return myCurrentCell;
     }
 
     /**
@@ -126,101 +176,144 @@ public boolean move(final Direction theDir) {
      * @return true if player at exit room, false otherwise
      */
     public boolean isAtExit() {
-        return myCurrentPosition == myExitRoom;
+        return myCurrentCell == myExitCell;
     }
 
     /**
      * Resets maze to starting point, player back at start point and all rooms marked unvisited
      */
     public void reset() {
-        myCurrentPosition = myStartRoom;
-        for (final Room[] row : myGrid) {
-            for (final Room room : row) {
-                room.clearVisited();
-            }
-        }
-        myStartRoom.markVisited();
+        myCurrentCell = myStartCell;
+        myGrid.clearVisited();
+        myGrid.markVisited(myStartCell);
     }
 
-    /** Connectivity check from current position to exit using only unblocked doors. */
+    /**
+     * Connectivity check from current position to exit using only unblocked doors.
+     * The grid updates exit reachability whenever a door is blocked, so this is a bit lookup.
+     */
     public boolean hasPathToExitFromCurrent() {
-        return hasPath(myCurrentPosition, myExitRoom);
+        return myGrid.canReachExit(myCurrentCell);
     }
 
     /**
-     * This validates given height and width are acceptable for maze
-     *
-     * @throws  IllegalArgumentException if row or colunm less than 1
+     * Returns how many doors the shortest open path from the current room to the exit has
+     * @return the distance, or -1 if the exit cannot be reached
      */
-    private void validateMazeDimensions(final int theR, final int theC) {
-        if (theR < 1 || theC < 1) {
-            throw new IllegalArgumentException("Rows and columns must be greater than or equal to 1.");
-        }
+    public int distanceToExitFromCurrent() {
+        return myGrid.distanceToExit(myCurrentCell);
     }
 
     /**
-     * This instantiates and storing room objects into grid
+     * Returns the room view for a cell, creating it on first use
+     * @param theCell cell id within the grid
+     * @return the room view
      */
-    private void createRooms() {
-        for (int r = 0; r < myRows; r++) {
-            for (int c = 0; c < myCols; c++) {
-                myGrid[r][c] = new Room(r, c);
-            }
-        }
+    Room roomAt(final int theCell) {
+        return myRoomViews.computeIfAbsent(theCell, cell -> new Room(this, cell));
     }
 
     /**
-     * Connects every pair of adjacent rooms with doors.
+     * Returns the door view for an edge, creating it on first use
+     * @param theEdge edge id within the grid, or -1
+     * @return the door view, or null if theEdge is -1
      */
-    private void connectDoors() {
-        for (int r = 0; r < myRows; r++) {
-            for (int c = 0; c < myCols; c++) {
-                final Room room = myGrid[r][c];
+    Door doorAt(final int theEdge) {
+        if (theEdge < 0) return null;
+        return myDoorViews.computeIfAbsent(theEdge, edge -> new Door(this, edge));
+    }
 
-                // Connect to the room above (North)
-                if (r > 0) {
-                     Room upNeighbor = myGrid[r - 1][c];
-                     Question question = myQuestionFactory.getNextAvailableQuestion();
-                     Door door = new Door(room, upNeighbor, question);
-                     room.setDoor(Direction.NORTH, door);
-                     upNeighbor.setDoor(Direction.SOUTH, door);
-                    }
+    /**
+     * Binds a question to a door the first time the player tries it; later calls
+     * return the same question
+     * @param theDoor a door of this maze
+     * @return the door's question, or null if the question pool has run out
+     * @throws IllegalArgumentException if the door does not belong to this maze
+     */
+    public Question bindQuestion(final Door theDoor) {
+        final int edge = theDoor.getEdgeId();
+        if (edge < 0 || doorAt(edge) != theDoor) {
+            throw new IllegalArgumentException("Door is not part of this maze");
+        }
+        Question q = myQuestions.get(edge);
+        if (q == null) {
+            q = prefetcher().next();
+            if (q != null) myQuestions.put(edge, q);
+        }
+        return q;
+    }
 
-                // Connect to the room to the left (West)
-                if (c > 0) {
-                    Room leftNeighbor = myGrid[r][c - 1];
-                    final Question question = myQuestionFactory.getNextAvailableQuestion();
-                    Door door = new Door(room, leftNeighbor, question);
-                    room.setDoor(Direction.WEST, door);
-                    leftNeighbor.setDoor(Direction.EAST, door);
+    /**
+     * Returns every question bound so far, keyed by edge id, for saving
+     * @return an unmodifiable view of the bound questions
+     */
+    Map<Integer, Question> boundQuestions() {
+        return Collections.unmodifiableMap(myQuestions);
+    }
 
-                    }
-                }
-            }
-        }
+    /**
+     * Binds a saved question to an edge
+     * @param theEdge edge id within the grid
+     * @param theQuestion the question, or null if the pool had run out
+     */
+    void restoreQuestion(final int theEdge, final Question theQuestion) {
+        myQuestions.put(theEdge, theQuestion);
+    }
 
-    // BFS over rooms via unblocked doors
-    private boolean hasPath(final Room start, final Room goal) {
-        if (start == goal) return true;
-
-        final java.util.Set<Room> visited = new java.util.HashSet<>();
-        final java.util.ArrayDeque<Room> q = new java.util.ArrayDeque<>();
-        visited.add(start);
-        q.add(start);
-
-        while (!q.isEmpty()) {
-            final Room r = q.poll();
-            for (final Direction d : r.getAvailableDirections()) {
-                final Door door = r.getDoor(d);
-                if (door == null || door.isBlocked()) continue;
-                final Room nxt = door.getNextRoom(r);
-                if (nxt == goal) return true;
-                if (visited.add(nxt)) q.add(nxt);
-            }
+    /**
+     * Puts the maze back in a saved state: player position, door states and visited rooms
+     * @param theCell the player's cell
+     * @param theBlocked blocked edges
+     * @param theOpened opened edges
+     * @param theVisited visited cells
+     * @param theCutOff cells that cannot reach the exit
+     * @throws IllegalArgumentException if the cell is outside the maze
+     */
+    void restore(final int theCell, final BitSet theBlocked, final BitSet theOpened, final BitSet theVisited,
+                 final BitSet theCutOff) {
+        if (theCell < 0 || theCell >= myGrid.getCellCount()) {
+            throw new IllegalArgumentException("Cell " + theCell + " is outside the maze");
         }
-        return false;
+        myGrid.restore(theBlocked, theOpened, theVisited, myExitCell, theCutOff);
+        myCurrentCell = theCell;
     }
+
+    /**
+     * Returns the question bound to an edge
+     * @param theEdge edge id within the grid
+     * @return the bound question, or null if the door has not been tried yet
+     */
+    Question questionAt(final int theEdge) {
+        return myQuestions.get(theEdge);
     }
 
+    /**
+     * Returns how many rooms, doors and questions have been materialized so far
+     * @return the number of view objects and bound questions held by this maze
+     */
+    public int getMaterializedCount() {
+        return myRoomViews.size() + myDoorViews.size() + myQuestions.size();
+    }
 
+    /**
+     * This validates given height and width are acceptable for maze
+     *
+     * @throws  IllegalArgumentException if row or colunm less than 1
+     */
+    private void validateMazeDimensions(final int theR, final int theC) {
+        if (theR < 1 || theC < 1) {
+            throw new IllegalArgumentException("Rows and columns must be greater than or equal to 1.");
+        }
+    }
 
+    /**
+     * Returns the question prefetcher, creating it after deserialization
+     * @return the prefetcher over this maze's question factory
+     */
+    private QuestionPrefetcher prefetcher() {
+        if (myPrefetcher == null) {
+            myPrefetcher = new QuestionPrefetcher(myQuestionFactory, QuestionPrefetcher.DEFAULT_BUFFER, myRefiller);
+        }
+        return myPrefetcher;
+    }
+}
@@ -0,0 +1,317 @@
+package Model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.BitSet;
+
+/**
+ * Compact, primitive core of a maze. Cells are numbered row-major
+ * ({@code cell = row * cols + col}) and every door is an edge id owned by the
+ * cell to its west or north: {@code 2 * cell} is the door to the east neighbour,
+ * {@code 2 * cell + 1} the door to the south neighbour. Door and visited state
+ * live in bitsets indexed by those ids, so a maze costs a few bits per cell
+ * instead of a graph of {@link Room} and {@link Door} objects.
+ *
+ * @author Husein
+ */
+public final class MazeGrid implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** Cached directions so traversal loops do not clone {@code values()}. */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /** Number of rows and columns in the grid. */
+    private final int myRows, myCols;
+
+    /** Edges that have been permanently blocked. */
+    private final BitSet myBlocked;
+
+    /** Edges whose question has been answered correctly. */
+    private final BitSet myOpened;
+
+    /** Cells the player has entered. */
+    private final BitSet myVisited;
+
+    /** Incrementally maintained reachability of the exit cell, if tracked. */
+    private ExitReachability myExitTracker;
+
+    /** Cached shortest distances to the exit cell, tracked along with reachability. */
+    private ExitDistances myExitDistances;
+
+    /**
+     * Creates a grid with every door present and passable.
+     *
+     * @param theRows number of rows in the grid
+     * @param theCols number of columns in the grid
+     * @throws IllegalArgumentException if rows or columns are less than 1
+     */
+    public MazeGrid(final int theRows, final int theCols) {
+        if (theRows < 1 || theCols < 1) {
+            throw new IllegalArgumentException("Rows and columns must be greater than or equal to 1.");
+        }
+        if ((long) theRows * theCols * 2 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Maze is too large: " + theRows + "x" + theCols);
+        }
+        myRows = theRows;
+        myCols = theCols;
+        myBlocked = new BitSet();
+        myOpened = new BitSet();
+        myVisited = new BitSet();
+    }
+
+    /** @return the row count */
+    public int getRows() {
+        return myRows;
+    }
+
+    /** @return the column count */
+    public int getCols() {
+        return myCols;
+    }
+
+    /** @return the number of cells in the grid */
+    public int getCellCount() {
+        return myRows * myCols;
+    }
+
+    /** @return the size of the edge id space (some ids on the border are unused) */
+    public int getEdgeCount() {
+        return getCellCount() * 2;
+    }
+
+    /**
+     * Returns the cell id for the given coordinates.
+     *
+     * @throws IndexOutOfBoundsException if coordinates are outside the grid
+     */
+    public int cellId(final int theRow, final int theCol) {
+        if (theRow < 0 || theRow >= myRows || theCol < 0 || theCol >= myCols) {
+            throw new IndexOutOfBoundsException("Invalid room coordinates: (" + theRow + ", " + theCol + ")");
+        }
+        return theRow * myCols + theCol;
+    }
+
+    /** @return the row of the given cell */
+    public int rowOf(final int theCell) {
+        return theCell / myCols;
+    }
+
+    /** @return the column of the given cell */
+    public int colOf(final int theCell) {
+        return theCell % myCols;
+    }
+
+    /**
+     * Returns the neighbouring cell in a direction.
+     *
+     * @return the neighbour's id, or -1 if the cell sits on that border
+     */
+    public int neighbor(final int theCell, final Direction theDir) {
+        final int col = theCell % myCols;
+        return switch (theDir) {
+            case NORTH -> theCell >= myCols ? theCell - myCols : -1;
+            case SOUTH -> theCell + myCols < getCellCount() ? theCell + myCols : -1;
+            case WEST  -> col > 0 ? theCell - 1 : -1;
+            case EAST  -> col < myCols - 1 ? theCell + 1 : -1;
+        };
+    }
+
+    /**
+     * Returns the id of the door leading out of a cell in a direction.
+     *
+     * @return the edge id, or -1 if there is no door that way
+     */
+    public int edgeId(final int theCell, final Direction theDir) {
+        final int col = theCell % myCols;
+        return switch (theDir) {
+            case NORTH -> theCell >= myCols ? 2 * (theCell - myCols) + 1 : -1;
+            case SOUTH -> theCell + myCols < getCellCount() ? 2 * theCell + 1 : -1;
+            case WEST  -> col > 0 ? 2 * (theCell - 1) : -1;
+            case EAST  -> col < myCols - 1 ? 2 * theCell : -1;
+        };
+    }
+
+    /** @return the west/north cell joined by an edge */
+    public int edgeCellA(final int theEdge) {
+        return theEdge >> 1;
+    }
+
+    /** @return the east/south cell joined by an edge */
+    public int edgeCellB(final int theEdge) {
+        final int a = theEdge >> 1;
+        return (theEdge & 1) == 0 ? a + 1 : a + myCols;
+    }
+
+    /** @return the cell on the other side of an edge from the given one */
+    public int across(final int theEdge, final int theCell) {
+        final int a = edgeCellA(theEdge);
+        return theCell == a ? edgeCellB(theEdge) : a;
+    }
+
+    /** @return true if a door leads out of the cell in that direction */
+    public boolean hasDoor(final int theCell, final Direction theDir) {
+        return edgeId(theCell, theDir) >= 0;
+    }
+
+    /** @return true if the cell has a door in that direction and it is not blocked */
+    public boolean canPass(final int theCell, final Direction theDir) {
+        final int edge = edgeId(theCell, theDir);
+        return edge >= 0 && !myBlocked.get(edge);
+    }
+
+    /** @return true if the edge has been blocked */
+    public boolean isBlocked(final int theEdge) {
+        return myBlocked.get(theEdge);
+    }
+
+    /** @return true if any edge has been blocked */
+    public boolean hasBlockedEdges() {
+        return !myBlocked.isEmpty();
+    }
+
+    /** @return true if the edge's question has been answered */
+    public boolean isOpened(final int theEdge) {
+        return myOpened.get(theEdge);
+    }
+
+    /** Permanently blocks an edge. */
+    public void block(final int theEdge) {
+        if (myBlocked.get(theEdge)) return;
+        myBlocked.set(theEdge);
+        if (myExitTracker != null) myExitTracker.edgeRemoved(theEdge);
+        if (myExitDistances != null) myExitDistances.edgeRemoved(theEdge);
+    }
+
+    /** Marks an edge as opened and clears any block on it. */
+    public void open(final int theEdge) {
+        myOpened.set(theEdge);
+        if (!myBlocked.get(theEdge)) return;
+        myBlocked.clear(theEdge);
+        if (myExitTracker != null) myExitTracker.edgeAdded(theEdge);
+        if (myExitDistances != null) myExitDistances.edgeAdded(theEdge);
+    }
+
+    /**
+     * Starts keeping track of which cells can reach the given exit cell.
+     * After this, {@link #canReachExit(int)} answers in constant time and
+     * {@link #distanceToExit(int)} from a cached table.
+     *
+     * @param theExit the exit cell id
+     */
+    public void trackExit(final int theExit) {
+        myExitTracker = new ExitReachability(this, theExit);
+        myExitDistances = new ExitDistances(this, theExit);
+    }
+
+    /**
+     * Checks whether the tracked exit can be reached from a cell.
+     *
+     * @return true if an unblocked path exists
+     * @throws IllegalStateException if {@link #trackExit(int)} was never called
+     */
+    public boolean canReachExit(final int theCell) {
+        if (myExitTracker == null) {
+            throw new IllegalStateException("Exit reachability is not being tracked");
+        }
+        return myExitTracker.isReachable(theCell);
+    }
+
+    /**
+     * Returns the number of doors on a shortest unblocked path from a cell to the
+     * tracked exit. The distances are cached and only recomputed after a door change
+     * that can alter them.
+     *
+     * @return the distance, or -1 if the exit cannot be reached
+     * @throws IllegalStateException if {@link #trackExit(int)} was never called
+     */
+    public int distanceToExit(final int theCell) {
+        if (!canReachExit(theCell)) return -1;
+        return myExitDistances.distance(theCell);
+    }
+
+    /** @return true if the player has entered the cell */
+    public boolean isVisited(final int theCell) {
+        return myVisited.get(theCell);
+    }
+
+    /** Marks a cell as visited. */
+    public void markVisited(final int theCell) {
+        myVisited.set(theCell);
+    }
+
+    /** Clears the visited flag of a single cell. */
+    public void clearVisited(final int theCell) {
+        myVisited.clear(theCell);
+    }
+
+    /** Clears the visited flag of every cell. */
+    public void clearVisited() {
+        myVisited.clear();
+    }
+
+    /** @return the live set of blocked edges, for saving; callers must not modify it */
+    BitSet blockedEdges() {
+        return myBlocked;
+    }
+
+    /** @return the live set of opened edges, for saving; callers must not modify it */
+    BitSet openedEdges() {
+        return myOpened;
+    }
+
+    /** @return the live set of visited cells, for saving; callers must not modify it */
+    BitSet visitedCells() {
+        return myVisited;
+    }
+
+    /** @return the cells that cannot reach the tracked exit, for saving; callers must not modify it */
+    BitSet exitCutOff() {
+        return myExitTracker == null ? new BitSet() : myExitTracker.cutOff();
+    }
+
+    /**
+     * Replaces door and visited state with saved state and resumes exit tracking
+     * from the saved cut-off cells, so a large maze is not searched again on load.
+     */
+    void restore(final BitSet theBlocked, final BitSet theOpened, final BitSet theVisited,
+                 final int theExit, final BitSet theCutOff) {
+        myBlocked.clear();
+        myBlocked.or(theBlocked);
+        myOpened.clear();
+        myOpened.or(theOpened);
+        myVisited.clear();
+        myVisited.or(theVisited);
+        myExitTracker = new ExitReachability(this, theExit, theCutOff);
+        myExitDistances = new ExitDistances(this, theExit);
+    }
+
+    /**
+     * BFS over unblocked edges between two cells.
+     *
+     * @return true if the goal can be reached from the start
+     */
+    public boolean hasPath(final int theStart, final int theGoal) {
+        if (theStart == theGoal) return true;
+
+        final BitSet seen = new BitSet(getCellCount());
+        final int[] queue = new int[getCellCount()];
+        int head = 0, tail = 0;
+        seen.set(theStart);
+        queue[tail++] = theStart;
+
+        while (head < tail) {
+            final int cell = queue[head++];
+            for (final Direction d : DIRECTIONS) {
+                if (!canPass(cell, d)) continue;
+                final int nxt = neighbor(cell, d);
+                if (nxt == theGoal) return true;
+                if (!seen.get(nxt)) {
+                    seen.set(nxt);
+                    queue[tail++] = nxt;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -1,6 +1,7 @@
 package Model;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Multiple-choice question that validates answers strictly as letters A/B/C/D.
@@ -35,11 +36,18 @@ public class MultipleChoiceQuestion extends Question {
     /** Accept only letters A/B/C/D (case-insensitive). */
     @Override
     public boolean isCorrect(final String answer) {
-        if (answer == null) return false;
-        final String a = answer.trim();
-        if (a.length() != 1) return false;
+        return answer != null && isCorrect(answer, 0, answer.length());
+    }
+
+    /** Same as {@link #isCorrect(String)}, reading the letter in place. */
+    @Override
+    public boolean isCorrect(final CharSequence theText, final int theStart, final int theEnd) {
+        Objects.checkFromToIndex(theStart, theEnd, theText.length());
+        final int start = trimStart(theText, theStart, theEnd);
+        final int end = trimEnd(theText, start, theEnd);
+        if (end - start != 1) return false;
 
-        final char ch = Character.toUpperCase(a.charAt(0));
+        final char ch = Character.toUpperCase(theText.charAt(start));
         final int idx = ch - 'A';            // A->0, B->1, C->2, D->3
         return idx >= 0 && idx < myOptions.size() && idx == myCorrectIndex;
     }
@@ -138,4 +138,15 @@ public class Player implements Serializable {
     public void incrementQuestionsAnswered() {
         this.myQuestionsAnswered++;
     }
+
+    /**
+     * Puts back the score and answer count of a saved game.
+     *
+     * @param theScore    The saved score.
+     * @param theAnswered The saved number of answered questions.
+     */
+    void restoreProgress(final int theScore, final int theAnswered) {
+        this.myScore = theScore;
+        this.myQuestionsAnswered = theAnswered;
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package Model;
 
+import java.util.Objects;
+
 /**
  * This abstract class represents a trivia question with a question prompt and an optional hint.
  * Subclasses will implement the logic for checking correctness and providing the correct answer.
@@ -11,6 +13,8 @@ public abstract class Question {
     protected final String myPrompt;
     /** The hint associated with the question to help the player, can be null. */
     protected final Hint myHint;
+    /** Position of this question in the catalog it was created from, or -1 if none. */
+    private int myCatalogId = -1;
 
 
     /**
@@ -46,6 +50,24 @@ public abstract class Question {
         return myHint;
     }
 
+    /**
+     * Returns where this question came from, so a saved game can refer to it by id.
+     *
+     * @return The catalog id, or -1 if the question was not created by a catalog.
+     */
+    public int getCatalogId() {
+        return myCatalogId;
+    }
+
+    /**
+     * Records the catalog id this question was created from.
+     *
+     * @param theId The catalog id.
+     */
+    void setCatalogId(final int theId) {
+        myCatalogId = theId;
+    }
+
     /**
      * Checks if the given answer for this question is correct.
      * This method must be implemented by concrete subclasses.
@@ -55,6 +77,23 @@ public abstract class Question {
      */
     public abstract boolean isCorrect(final String theAnswer);
 
+    /**
+     * Checks part of a character sequence as the player's answer without copying it,
+     * for callers that grade answers in bulk from a shared buffer.
+     * The built-in question types grade the range in place without allocating;
+     * this default copies the range and calls {@link #isCorrect(String)}.
+     *
+     * @param theText  The text holding the answer.
+     * @param theStart Index of the first character of the answer.
+     * @param theEnd   Index after the last character of the answer.
+     * @return True if the answer is correct, false otherwise.
+     * @throws IndexOutOfBoundsException if the range is not inside the text.
+     */
+    public boolean isCorrect(final CharSequence theText, final int theStart, final int theEnd) {
+        Objects.checkFromToIndex(theStart, theEnd, theText.length());
+        return isCorrect(theText.subSequence(theStart, theEnd).toString());
+    }
+
     /**
      * Returns the correct answer for this question.
      * This method must be implemented by concrete subclasses.
@@ -63,6 +102,28 @@ public abstract class Question {
      */
     public abstract String getCorrectAnswer();
 
+    /**
+     * Skips whitespace at the start of a range.
+     *
+     * @return the index of the first non-whitespace character, or the end
+     */
+    protected static int trimStart(final CharSequence theText, final int theStart, final int theEnd) {
+        int i = theStart;
+        while (i < theEnd && Character.isWhitespace(theText.charAt(i))) i++;
+        return i;
+    }
+
+    /**
+     * Skips whitespace at the end of a range.
+     *
+     * @return the index after the last non-whitespace character, or the start
+     */
+    protected static int trimEnd(final CharSequence theText, final int theStart, final int theEnd) {
+        int i = theEnd;
+        while (i > theStart && Character.isWhitespace(theText.charAt(i - 1))) i--;
+        return i;
+    }
+
     /** This shows the answer when player presses cheat. */
     public String cheatToken() {
         // Default: whatever the correct answer string is
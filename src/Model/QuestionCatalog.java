@@ -0,0 +1,358 @@
+package Model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable question bank shared by every game in the process. It is loaded
+ * once per database or compiled {@link QuestionPack} and then only read: games
+ * keep their own shuffled decks of ids over it (see {@link questionFactory}) and
+ * build {@link Question} objects just for the questions they draw. Ids are ordered
+ * by type and difficulty, so each bucket is a contiguous id range and no draw ever
+ * filters records. A pack-backed catalog holds no records at all; each one is
+ * decoded from the mapped file when it is drawn.
+ *
+ * @author Husein & Chan
+ */
+public final class QuestionCatalog {
+
+    /**
+     * Every question with its hints, one row per hint, grouped by question id.
+     * All question columns are selected so an optional {@code difficulty} column
+     * is picked up when the bank has one.
+     */
+    private static final String LOAD_QUERY = """
+            SELECT q.*, h.hint_text
+            FROM questions q
+            LEFT JOIN hints h ON h.question_id = q.id
+            ORDER BY q.id, h.rowid""";
+
+    /** The bundled question database. */
+    public static final String DEFAULT_DB = "lib/trivia.db";
+
+    /** Where the bundled database is compiled to by {@link QuestionPack#main(String[])}. */
+    public static final String DEFAULT_PACK = "lib/trivia.pack";
+
+    /** Catalogs loaded so far, by JDBC url or pack file path. */
+    private static final Map<String, QuestionCatalog> CATALOGS = new ConcurrentHashMap<>();
+
+    /** Number of difficulty levels per type. */
+    private static final int LEVELS = QuestionRecord.MAX_DIFFICULTY - QuestionRecord.MIN_DIFFICULTY + 1;
+
+    /** All questions, indexed by catalog id, or null if the catalog is backed by a pack. */
+    private final QuestionRecord[] myRecords;
+
+    /** The mapped pack the questions are decoded from, or null for an in-memory catalog. */
+    private final QuestionPack myPack;
+
+    /**
+     * First catalog id of each (type, difficulty) bucket in type-major order, plus the
+     * size at the end. Ids are sorted by type and then difficulty, so bucket {@code b}
+     * holds ids {@code myBucketStart[b]} up to {@code myBucketStart[b + 1]}.
+     */
+    private final int[] myBucketStart;
+
+    /**
+     * Builds a catalog over a fixed list of records, ordering them by type
+     * and difficulty (keeping the list order within a bucket).
+     *
+     * @param theRecords the records
+     */
+    private QuestionCatalog(final List<QuestionRecord> theRecords) {
+        final int[] counts = new int[QuestionType.values().length * LEVELS];
+        for (final QuestionRecord r : theRecords) counts[bucket(r.type(), r.difficulty())]++;
+        myBucketStart = starts(counts);
+
+        myRecords = new QuestionRecord[theRecords.size()];
+        final int[] fill = Arrays.copyOf(myBucketStart, counts.length);
+        for (final QuestionRecord r : theRecords) myRecords[fill[bucket(r.type(), r.difficulty())]++] = r;
+        myPack = null;
+    }
+
+    /**
+     * Builds a catalog over a mapped pack, whose records are already in bucket order.
+     *
+     * @param thePack the opened pack
+     */
+    private QuestionCatalog(final QuestionPack thePack) {
+        final int[] counts = new int[QuestionType.values().length * LEVELS];
+        for (final QuestionType type : QuestionType.values()) {
+            for (int d = QuestionRecord.MIN_DIFFICULTY; d <= QuestionRecord.MAX_DIFFICULTY; d++) {
+                counts[bucket(type, d)] = thePack.count(type, d);
+            }
+        }
+        myBucketStart = starts(counts);
+        myRecords = null;
+        myPack = thePack;
+    }
+
+    /**
+     * @return the running start index of each bucket, with the total at the end
+     */
+    private static int[] starts(final int[] theCounts) {
+        final int[] starts = new int[theCounts.length + 1];
+        for (int b = 0; b < theCounts.length; b++) starts[b + 1] = starts[b] + theCounts[b];
+        return starts;
+    }
+
+    /**
+     * @return the index of a (type, difficulty) bucket in type-major order
+     */
+    private static int bucket(final QuestionType theType, final int theDifficulty) {
+        return theType.ordinal() * LEVELS + theDifficulty - QuestionRecord.MIN_DIFFICULTY;
+    }
+
+    /**
+     * Returns the shared catalog for a database, loading it the first time.
+     * A database that cannot be read yields an empty catalog, which is not
+     * cached so a later call can try again.
+     *
+     * @param theUrl JDBC url of the question database
+     * @return the catalog for that database
+     */
+    public static QuestionCatalog forDatabase(final String theUrl) {
+        final QuestionCatalog cached = CATALOGS.get(theUrl);
+        if (cached != null) return cached;
+        try {
+            return CATALOGS.computeIfAbsent(theUrl, url -> {
+                try {
+                    return load(url);
+                } catch (SQLException e) {
+                    throw new CatalogLoadException(e);
+                }
+            });
+        } catch (CatalogLoadException e) {
+            System.err.println("❌ Error preloading questions: " + e.getCause().getMessage());
+            return new QuestionCatalog(List.of());
+        }
+    }
+
+    /**
+     * Returns the shared catalog for a compiled {@link QuestionPack}, mapping it the
+     * first time. Only the pack header is read, so this is fast for any bank size.
+     * A pack that cannot be opened yields an empty catalog, which is not cached.
+     *
+     * @param theFile the pack file
+     * @return the catalog for that pack
+     */
+    public static QuestionCatalog forPack(final Path theFile) {
+        final String key = theFile.toAbsolutePath().normalize().toString();
+        final QuestionCatalog cached = CATALOGS.get(key);
+        if (cached != null) return cached;
+        try {
+            return CATALOGS.computeIfAbsent(key, k -> {
+                try {
+                    return new QuestionCatalog(QuestionPack.open(theFile));
+                } catch (IOException e) {
+                    throw new CatalogLoadException(e);
+                }
+            });
+        } catch (CatalogLoadException e) {
+            System.err.println("❌ Error opening question pack: " + e.getCause().getMessage());
+            return new QuestionCatalog(List.of());
+        }
+    }
+
+    /**
+     * Returns the shared catalog for a question source: a compiled pack if the
+     * source ends in {@code .pack}, a JDBC url otherwise.
+     *
+     * @param theSource a pack file path or a JDBC url
+     * @return the catalog for that source
+     */
+    public static QuestionCatalog forSource(final String theSource) {
+        return theSource.endsWith(".pack") ? forPack(Path.of(theSource)) : forDatabase(theSource);
+    }
+
+    /**
+     * Drops the cached catalog of a source, e.g. after new questions were imported,
+     * so the next game loads it again. Games already running keep the old catalog.
+     *
+     * @param theSource the JDBC url or pack path the catalog was loaded from
+     */
+    public static void forget(final String theSource) {
+        CATALOGS.remove(theSource.endsWith(".pack")
+                ? Path.of(theSource).toAbsolutePath().normalize().toString() : theSource);
+    }
+
+    /**
+     * Returns the question source the game should use: the compiled pack
+     * {@code lib/trivia.pack} if it exists and is at least as new as
+     * {@code lib/trivia.db}, the database otherwise.
+     *
+     * @return a pack file path or a JDBC url, for {@link #forSource(String)}
+     */
+    public static String defaultSource() {
+        final File pack = new File(DEFAULT_PACK);
+        final File db = new File(DEFAULT_DB);
+        return pack.isFile() && pack.lastModified() >= db.lastModified() ? DEFAULT_PACK : "jdbc:sqlite:" + DEFAULT_DB;
+    }
+
+    /**
+     * Builds a catalog from records held in memory, e.g. for simulations.
+     *
+     * @param theRecords the records; invalid ones are skipped
+     * @return a new catalog
+     */
+    public static QuestionCatalog of(final List<QuestionRecord> theRecords) {
+        final List<QuestionRecord> valid = new ArrayList<>(theRecords.size());
+        for (final QuestionRecord r : theRecords) {
+            if (r.isValid()) valid.add(r);
+        }
+        return new QuestionCatalog(valid);
+    }
+
+    /**
+     * @return the number of questions in the catalog
+     */
+    public int size() {
+        return myBucketStart[myBucketStart.length - 1];
+    }
+
+    /**
+     * Returns the data of a question, decoding it from the pack if the catalog has one.
+     *
+     * @param theId the catalog id
+     * @return the question's record
+     */
+    public QuestionRecord get(final int theId) {
+        return myPack != null ? myPack.record(theId) : myRecords[theId];
+    }
+
+    /**
+     * Builds a new {@link Question} object for a catalog entry.
+     *
+     * @param theId the catalog id
+     * @return a fresh question owned by the caller
+     */
+    public Question create(final int theId) {
+        final Question q = get(theId).create();
+        q.setCatalogId(theId);
+        return q;
+    }
+
+    /**
+     * Returns a fresh copy of the catalog ids of one type, for the caller to shuffle.
+     *
+     * @param theType the question type
+     * @return the ids of that type
+     */
+    public int[] idsOfType(final QuestionType theType) {
+        return idsOf(theType, QuestionRecord.MIN_DIFFICULTY, QuestionRecord.MAX_DIFFICULTY);
+    }
+
+    /**
+     * Returns the number of questions of one type and difficulty.
+     *
+     * @param theType       the question type
+     * @param theDifficulty the difficulty level
+     * @return the bucket size, 0 for a level outside the supported range
+     */
+    public int count(final QuestionType theType, final int theDifficulty) {
+        if (theDifficulty < QuestionRecord.MIN_DIFFICULTY || theDifficulty > QuestionRecord.MAX_DIFFICULTY) return 0;
+        final int b = bucket(theType, theDifficulty);
+        return myBucketStart[b + 1] - myBucketStart[b];
+    }
+
+    /**
+     * Returns a fresh array of the catalog ids of one type within a difficulty range,
+     * for the caller to shuffle. Levels outside the supported range are ignored.
+     *
+     * @param theType the question type
+     * @param theMin  the lowest difficulty, inclusive
+     * @param theMax  the highest difficulty, inclusive
+     * @return the ids of that type in the range, grouped by difficulty
+     */
+    public int[] idsOf(final QuestionType theType, final int theMin, final int theMax) {
+        final int lo = Math.max(theMin, QuestionRecord.MIN_DIFFICULTY);
+        final int hi = Math.min(theMax, QuestionRecord.MAX_DIFFICULTY);
+        if (lo > hi) return new int[0];
+        // Adjacent levels of one type are adjacent buckets, so the range is one run of ids
+        final int from = myBucketStart[bucket(theType, lo)];
+        final int to = myBucketStart[bucket(theType, hi) + 1];
+        final int[] ids = new int[to - from];
+        for (int i = 0; i < ids.length; i++) ids[i] = from + i;
+        return ids;
+    }
+
+    /**
+     * Reads the questions table through the shared {@link QuestionStore}.
+     */
+    private static QuestionCatalog load(final String theUrl) throws SQLException {
+        final List<QuestionRecord> records = new ArrayList<>();
+        QuestionStore.forUrl(theUrl).withConnection(conn -> {
+            try (ResultSet rs = conn.prepare(LOAD_QUERY).executeQuery()) {
+                readRecords(rs, records);
+            }
+            return null;
+        });
+        return new QuestionCatalog(records);
+    }
+
+    /**
+     * Turns each question row into a record, keeping the first hint of each question.
+     * Rows come back ordered by question id with one row per hint, so repeated ids
+     * after the first are skipped; rows with an unknown type or missing fields are dropped.
+     */
+    private static void readRecords(final ResultSet rs, final List<QuestionRecord> theOut) throws SQLException {
+        final boolean rated = hasColumn(rs, "difficulty");
+        boolean first = true;
+        int lastId = 0;
+        while (rs.next()) {
+            final int id = rs.getInt("id");
+            if (!first && id == lastId) continue; // extra hints for the same question
+            first = false;
+            lastId = id;
+
+            final QuestionType type = QuestionType.fromCode(rs.getString("type"));
+            if (type == null) continue;
+
+            final List<String> options = type == QuestionType.MC
+                    ? Arrays.asList(rs.getString("option_a"), rs.getString("option_b"),
+                                    rs.getString("option_c"), rs.getString("option_d"))
+                    : List.of();
+            int difficulty = rated ? rs.getInt("difficulty") : 0;
+            if (difficulty == 0) difficulty = QuestionRecord.DEFAULT_DIFFICULTY; // unrated or NULL
+            final QuestionRecord record = new QuestionRecord(type, rs.getString("question"),
+                    rs.getString("correct_answer"), options, rs.getString("hint_text"), difficulty);
+            if (!record.isValid()) continue;
+            theOut.add(type == QuestionType.MC
+                    ? new QuestionRecord(type, record.prompt(), record.correct(), List.copyOf(options),
+                                         record.hint(), difficulty)
+                    : record);
+        }
+    }
+
+    /**
+     * Checks whether a result set has a column, so older banks without it still load.
+     */
+    private static boolean hasColumn(final ResultSet rs, final String theName) throws SQLException {
+        final ResultSetMetaData meta = rs.getMetaData();
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            if (theName.equalsIgnoreCase(meta.getColumnLabel(i))) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Carries a load failure out of {@link Map#computeIfAbsent}.
+     */
+    private static final class CatalogLoadException extends RuntimeException {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        CatalogLoadException(final Exception theCause) {
+            super(theCause);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package Model;
+
+import java.util.Random;
+
+/**
+ * A shuffled deck of catalog ids dealt one at a time. The ids live in one int
+ * array that is shuffled in place and read with a position, so dealing allocates
+ * nothing and starting over is a reshuffle of the same array.
+ * <p>
+ * A deck may be split into consecutive tiers (for example the questions inside the
+ * difficulty range, then the nearest levels outside it). Each tier is shuffled on its
+ * own, so the tiers are always dealt in order.
+ *
+ * @author Husein & Chan
+ */
+public final class QuestionDeck {
+
+    /** The ids, shuffled within each tier. */
+    private final int[] myIds;
+
+    /** End index (exclusive) of each tier, ascending; the last one is the deck size. */
+    private final int[] myTierEnds;
+
+    /** The random source used for shuffling. */
+    private final Random myRandom;
+
+    /** Index of the next id to deal. */
+    private int myPosition;
+
+    /**
+     * Creates a single-tier deck and shuffles it.
+     *
+     * @param theIds    the ids to deal; the deck takes ownership of the array
+     * @param theRandom the random source used for shuffling
+     */
+    public QuestionDeck(final int[] theIds, final Random theRandom) {
+        this(theIds, new int[] {theIds.length}, theRandom);
+    }
+
+    /**
+     * Creates a deck split into tiers and shuffles each tier.
+     *
+     * @param theIds      the ids to deal, grouped by tier; the deck takes ownership of the array
+     * @param theTierEnds end index (exclusive) of each tier, ascending, ending at the array length
+     * @param theRandom   the random source used for shuffling
+     * @throws IllegalArgumentException if the tier ends do not cover the ids in order
+     */
+    public QuestionDeck(final int[] theIds, final int[] theTierEnds, final Random theRandom) {
+        int previous = 0;
+        for (final int end : theTierEnds) {
+            if (end < previous) {
+                throw new IllegalArgumentException("Tier ends must be ascending");
+            }
+            previous = end;
+        }
+        if (previous != theIds.length) {
+            throw new IllegalArgumentException("Tiers must end at the deck size");
+        }
+        myIds = theIds;
+        myTierEnds = theTierEnds.clone();
+        myRandom = theRandom;
+        shuffle();
+    }
+
+    /**
+     * @return true if there are ids left to deal
+     */
+    public boolean hasNext() {
+        return myPosition < myIds.length;
+    }
+
+    /**
+     * Deals the next id.
+     *
+     * @return the catalog id
+     * @throws IllegalStateException if the deck is exhausted
+     */
+    public int next() {
+        if (myPosition == myIds.length) {
+            throw new IllegalStateException("Deck is exhausted");
+        }
+        return myIds[myPosition++];
+    }
+
+    /**
+     * Deals the next id, starting a reshuffled round first if the deck is exhausted.
+     *
+     * @return the catalog id
+     * @throws IllegalStateException if the deck is empty
+     */
+    public int nextRecycling() {
+        if (myPosition == myIds.length) {
+            if (myIds.length == 0) {
+                throw new IllegalStateException("Deck is empty");
+            }
+            reset();
+        }
+        return myIds[myPosition++];
+    }
+
+    /**
+     * Takes an id out of the ids not dealt yet in this round, as if it had been dealt,
+     * keeping the others in their order.
+     *
+     * @param theId the catalog id
+     * @return true if the id was waiting to be dealt
+     */
+    public boolean withdraw(final int theId) {
+        for (int i = myPosition; i < myIds.length; i++) {
+            if (myIds[i] != theId) continue;
+            System.arraycopy(myIds, myPosition, myIds, myPosition + 1, i - myPosition);
+            myIds[myPosition++] = theId;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reshuffles every tier and starts dealing from the top again.
+     */
+    public void reset() {
+        shuffle();
+        myPosition = 0;
+    }
+
+    /**
+     * @return the number of ids in the deck
+     */
+    public int size() {
+        return myIds.length;
+    }
+
+    /**
+     * @return the number of ids not dealt yet in this round
+     */
+    public int remaining() {
+        return myIds.length - myPosition;
+    }
+
+    /**
+     * Fisher-Yates shuffle of each tier in place.
+     */
+    private void shuffle() {
+        int from = 0;
+        for (final int to : myTierEnds) {
+            for (int i = to - 1; i > from; i--) {
+                final int j = from + myRandom.nextInt(i - from + 1);
+                final int tmp = myIds[i];
+                myIds[i] = myIds[j];
+                myIds[j] = tmp;
+            }
+            from = to;
+        }
+    }
+}
@@ -0,0 +1,715 @@
+package Model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streams large CSV or JSON Lines trivia dumps into a question database.
+ * <p>
+ * Rows are read one at a time and written straight to the database, committing
+ * every {@link #DEFAULT_BATCH_SIZE} rows, so memory stays flat however large the
+ * file is. Each row is checked with the same rules {@link QuestionRecord#isValid()}
+ * applies when the bank is loaded (four options and a letter in range for MC, a
+ * non-blank prompt and an answer for every type), plus a true/false answer for TF.
+ * Duplicates are detected by a normalized form of the prompt stored in an indexed
+ * {@code prompt_key} column, so they are skipped against the existing bank as well
+ * as within the file, without keeping any keys in memory.
+ * <p>
+ * Recognized columns (CSV header or JSON keys, case-insensitive): {@code type},
+ * {@code question} or {@code prompt}, {@code correct_answer} or {@code answer},
+ * {@code option_a} to {@code option_d} (or a JSON {@code options} array), {@code hint}
+ * and {@code difficulty}. An MC answer may be the letter or the text of an option.
+ *
+ * @author Husein & Chan
+ */
+public final class QuestionImporter {
+
+    /** Rows written per transaction. */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /** Rejected rows reported with a reason; later ones are only counted. */
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private static final String[] QUESTION_SCHEMA = {
+            """
+            CREATE TABLE IF NOT EXISTS questions (
+                id INTEGER PRIMARY KEY, type TEXT NOT NULL, question TEXT NOT NULL,
+                correct_answer TEXT NOT NULL, option_a TEXT, option_b TEXT, option_c TEXT,
+                option_d TEXT, difficulty INTEGER, prompt_key TEXT)""",
+            "CREATE TABLE IF NOT EXISTS hints (id INTEGER PRIMARY KEY, question_id INTEGER NOT NULL, hint_text TEXT)"
+    };
+
+    private static final String KEY_INDEX =
+            "CREATE INDEX IF NOT EXISTS questions_prompt_key ON questions (prompt_key)";
+
+    private static final String UNKEYED = "SELECT id, question FROM questions WHERE prompt_key IS NULL LIMIT 1000";
+
+    private static final String SET_KEY = "UPDATE questions SET prompt_key = ? WHERE id = ?";
+
+    /** Inserts a question unless one with the same prompt key exists. */
+    private static final String INSERT_QUESTION = """
+            INSERT INTO questions (id, type, question, correct_answer,
+                                   option_a, option_b, option_c, option_d, difficulty, prompt_key)
+            SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, ?
+            WHERE NOT EXISTS (SELECT 1 FROM questions WHERE prompt_key = ?)""";
+
+    private static final String INSERT_HINT = "INSERT INTO hints (question_id, hint_text) VALUES (?, ?)";
+
+    /** JDBC url of the target database. */
+    private final String myUrl;
+
+    /** Rows written per transaction. */
+    private final int myBatchSize;
+
+    /**
+     * Creates an importer with the default batch size.
+     *
+     * @param theUrl JDBC url of the database to import into
+     */
+    public QuestionImporter(final String theUrl) {
+        this(theUrl, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates an importer.
+     *
+     * @param theUrl       JDBC url of the database to import into
+     * @param theBatchSize rows written per transaction
+     * @throws IllegalArgumentException if the batch size is less than 1
+     */
+    public QuestionImporter(final String theUrl, final int theBatchSize) {
+        if (theBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        myUrl = theUrl;
+        myBatchSize = theBatchSize;
+    }
+
+    /**
+     * Imports a file, picking the format from its extension:
+     * {@code .csv}, or {@code .jsonl} / {@code .ndjson}.
+     *
+     * @param theFile the dump to import
+     * @return what was imported
+     * @throws IOException  if the file cannot be read
+     * @throws SQLException if the database cannot be written
+     * @throws IllegalArgumentException if the extension is not recognized
+     */
+    public Result importFile(final Path theFile) throws IOException, SQLException {
+        final String name = theFile.getFileName().toString().toLowerCase(Locale.ROOT);
+        try (BufferedReader in = Files.newBufferedReader(theFile, StandardCharsets.UTF_8)) {
+            if (name.endsWith(".csv")) return importCsv(in);
+            if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) return importJsonl(in);
+        }
+        throw new IllegalArgumentException("Unknown question dump format: " + theFile);
+    }
+
+    /**
+     * Imports CSV with a header row. Quoted fields may contain commas,
+     * doubled quotes and line breaks.
+     *
+     * @param theIn the CSV text
+     * @return what was imported
+     * @throws IOException  if the text cannot be read or has no header
+     * @throws SQLException if the database cannot be written
+     */
+    public Result importCsv(final Reader theIn) throws IOException, SQLException {
+        return run(new CsvRows(theIn));
+    }
+
+    /**
+     * Imports JSON Lines: one flat JSON object per line.
+     *
+     * @param theIn the JSONL text
+     * @return what was imported
+     * @throws IOException  if the text cannot be read
+     * @throws SQLException if the database cannot be written
+     */
+    public Result importJsonl(final Reader theIn) throws IOException, SQLException {
+        return run(new JsonRows(theIn));
+    }
+
+    /**
+     * Normalizes a prompt for duplicate detection: Unicode compatibility form,
+     * lower case, and runs of punctuation or whitespace collapsed to one space, so
+     * "What is 2+2?" and "  what is 2 + 2 " collide.
+     *
+     * @param thePrompt the prompt text
+     * @return the dedup key
+     */
+    public static String normalizePrompt(final String thePrompt) {
+        final String folded = Normalizer.normalize(thePrompt, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        final StringBuilder sb = new StringBuilder(folded.length());
+        boolean space = false;
+        for (int i = 0; i < folded.length(); i++) {
+            final char c = folded.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (space && sb.length() > 0) sb.append(' ');
+                sb.append(c);
+                space = false;
+            } else {
+                space = true; // whitespace and punctuation both separate words
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes every row of a source, committing in batches.
+     */
+    private Result run(final Rows theRows) throws IOException, SQLException {
+        final Result.Counter counter = new Result.Counter();
+        try {
+            QuestionStore.forUrl(myUrl).withConnection(conn -> importRows(conn, theRows, counter));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            QuestionCatalog.forget(myUrl);
+        }
+        return counter.toResult();
+    }
+
+    /**
+     * Writes the rows on one connection; the uncommitted batch is rolled back on failure.
+     */
+    private Void importRows(final QuestionStore.PooledConnection theConn, final Rows theRows,
+                            final Result.Counter theCounter) throws SQLException {
+        final Connection c = theConn.connection();
+        prepareSchema(theConn);
+        int nextId = maxId(c) + 1;
+        c.setAutoCommit(false);
+        try {
+            final PreparedStatement insert = theConn.prepare(INSERT_QUESTION);
+            final PreparedStatement hint = theConn.prepare(INSERT_HINT);
+            int pending = 0;
+            Map<String, String> row;
+            while (true) {
+                try {
+                    row = theRows.next();
+                } catch (IllegalArgumentException e) {
+                    theCounter.read++;
+                    theCounter.reject(theRows.line(), e.getMessage());
+                    continue;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (row == null) break;
+                theCounter.read++;
+
+                final QuestionRecord record;
+                try {
+                    record = toRecord(row);
+                } catch (IllegalArgumentException e) {
+                    theCounter.reject(theRows.line(), e.getMessage());
+                    continue;
+                }
+                final String key = normalizePrompt(record.prompt());
+                bind(insert, nextId, record, row.get("difficulty"), key);
+                if (insert.executeUpdate() == 0) {
+                    theCounter.duplicates++;
+                } else {
+                    if (record.hint() != null) {
+                        hint.setInt(1, nextId);
+                        hint.setString(2, record.hint());
+                        hint.executeUpdate();
+                    }
+                    nextId++;
+                    theCounter.imported++;
+                }
+                if (++pending == myBatchSize) {
+                    c.commit();
+                    pending = 0;
+                }
+            }
+            c.commit();
+        } catch (SQLException | RuntimeException e) {
+            c.rollback();
+            throw e;
+        } finally {
+            c.setAutoCommit(true);
+        }
+        return null;
+    }
+
+    /**
+     * Creates the tables if needed, adds the {@code difficulty} and {@code prompt_key}
+     * columns to an older bank, and keys any rows that have no prompt key yet.
+     */
+    private static void prepareSchema(final QuestionStore.PooledConnection theConn) throws SQLException {
+        final Connection c = theConn.connection();
+        try (Statement st = c.createStatement()) {
+            for (final String ddl : QUESTION_SCHEMA) st.executeUpdate(ddl);
+            final Set<String> columns = new HashSet<>();
+            try (ResultSet rs = st.executeQuery("PRAGMA table_info(questions)")) {
+                while (rs.next()) columns.add(rs.getString("name").toLowerCase(Locale.ROOT));
+            }
+            if (!columns.contains("difficulty")) st.executeUpdate("ALTER TABLE questions ADD COLUMN difficulty INTEGER");
+            if (!columns.contains("prompt_key")) st.executeUpdate("ALTER TABLE questions ADD COLUMN prompt_key TEXT");
+            st.executeUpdate(KEY_INDEX);
+        }
+
+        // Key existing rows a chunk at a time
+        c.setAutoCommit(false);
+        try (PreparedStatement select = c.prepareStatement(UNKEYED);
+             PreparedStatement update = c.prepareStatement(SET_KEY)) {
+            boolean more = true;
+            while (more) {
+                more = false;
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        final String prompt = rs.getString(2);
+                        update.setString(1, prompt == null ? "" : normalizePrompt(prompt));
+                        update.setInt(2, rs.getInt(1));
+                        update.addBatch();
+                        more = true;
+                    }
+                }
+                update.executeBatch();
+                c.commit();
+            }
+        } finally {
+            c.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * @return the largest question id in the bank, 0 if it is empty
+     */
+    private static int maxId(final Connection theConn) throws SQLException {
+        try (Statement st = theConn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT COALESCE(MAX(id), 0) FROM questions")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Fills the question insert for one record.
+     */
+    private static void bind(final PreparedStatement theInsert, final int theId, final QuestionRecord theRecord,
+                             final String theDifficulty, final String theKey) throws SQLException {
+        theInsert.setInt(1, theId);
+        theInsert.setString(2, theRecord.type().name());
+        theInsert.setString(3, theRecord.prompt());
+        theInsert.setString(4, theRecord.correct());
+        for (int i = 0; i < 4; i++) {
+            theInsert.setString(5 + i, i < theRecord.options().size() ? theRecord.options().get(i) : null);
+        }
+        if (isBlank(theDifficulty)) {
+            theInsert.setNull(9, Types.INTEGER);
+        } else {
+            theInsert.setInt(9, theRecord.difficulty());
+        }
+        theInsert.setString(10, theKey);
+        theInsert.setString(11, theKey);
+    }
+
+    /**
+     * Turns a parsed row into a record in the form the database stores:
+     * a letter for MC, "true"/"false" for TF and the trimmed text for FB.
+     *
+     * @throws IllegalArgumentException with the reason if the row is not a valid question
+     */
+    static QuestionRecord toRecord(final Map<String, String> theRow) {
+        final QuestionType type = QuestionType.fromCode(theRow.get("type"));
+        if (type == null) {
+            throw new IllegalArgumentException("unknown type '" + theRow.get("type") + "'");
+        }
+        final String prompt = trim(first(theRow, "question", "prompt"));
+        String correct = trim(first(theRow, "correct_answer", "answer"));
+        final String hint = trim(theRow.get("hint"));
+
+        int difficulty = QuestionRecord.DEFAULT_DIFFICULTY;
+        final String level = theRow.get("difficulty");
+        if (!isBlank(level)) {
+            try {
+                difficulty = Integer.parseInt(level.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("difficulty '" + level + "' is not a number");
+            }
+            if (difficulty < QuestionRecord.MIN_DIFFICULTY || difficulty > QuestionRecord.MAX_DIFFICULTY) {
+                throw new IllegalArgumentException("difficulty " + difficulty + " out of range");
+            }
+        }
+
+        List<String> options = List.of();
+        if (type == QuestionType.MC) {
+            final String[] opts = new String[4];
+            for (int i = 0; i < 4; i++) {
+                final String opt = trim(theRow.get("option_" + (char) ('a' + i)));
+                opts[i] = isBlank(opt) ? null : opt;
+            }
+            options = Arrays.asList(opts);
+            if (correct != null && correct.length() > 1) {
+                // The answer was given as option text; store its letter
+                for (int i = 0; i < 4; i++) {
+                    if (correct.equalsIgnoreCase(opts[i])) correct = String.valueOf((char) ('A' + i));
+                }
+            }
+            if (correct != null) correct = correct.toUpperCase(Locale.ROOT);
+        } else if (type == QuestionType.TF && correct != null) {
+            correct = switch (correct.toLowerCase(Locale.ROOT)) {
+                case "t", "true" -> "true";
+                case "f", "false" -> "false";
+                default -> throw new IllegalArgumentException("TF answer '" + correct + "' is not true or false");
+            };
+        }
+
+        final QuestionRecord record = new QuestionRecord(type, prompt, correct, options,
+                isBlank(hint) ? null : hint, difficulty);
+        if (!record.isValid() || (type == QuestionType.MC && correct.length() != 1)) {
+            throw new IllegalArgumentException(type + " row is missing a prompt, answer or option, "
+                    + "or its answer does not match an option");
+        }
+        return type == QuestionType.MC
+                ? new QuestionRecord(type, prompt, correct, List.copyOf(options), record.hint(), difficulty)
+                : record;
+    }
+
+    private static String first(final Map<String, String> theRow, final String theKey, final String theAlias) {
+        final String value = theRow.get(theKey);
+        return value != null ? value : theRow.get(theAlias);
+    }
+
+    private static String trim(final String theValue) {
+        return theValue == null ? null : theValue.trim();
+    }
+
+    private static boolean isBlank(final String theValue) {
+        return theValue == null || theValue.isBlank();
+    }
+
+    /**
+     * Outcome of an import.
+     *
+     * @param read       rows read from the file
+     * @param imported   questions added to the bank
+     * @param duplicates rows skipped because their prompt is already in the bank
+     * @param rejected   rows that failed validation or could not be parsed
+     * @param errors     the first few rejections, as "line N: reason"
+     */
+    public record Result(int read, int imported, int duplicates, int rejected, List<String> errors) {
+
+        /** Mutable tally used while importing. */
+        private static final class Counter {
+            private int read, imported, duplicates, rejected;
+            private final List<String> errors = new ArrayList<>();
+
+            void reject(final long theLine, final String theReason) {
+                rejected++;
+                if (errors.size() < MAX_REPORTED_ERRORS) errors.add("line " + theLine + ": " + theReason);
+            }
+
+            Result toResult() {
+                return new Result(read, imported, duplicates, rejected, List.copyOf(errors));
+            }
+        }
+    }
+
+    /**
+     * A stream of rows keyed by lower-case column name.
+     */
+    private interface Rows {
+        /**
+         * @return the next row, or null at the end of the input
+         * @throws IllegalArgumentException if this row cannot be parsed but later ones may be
+         */
+        Map<String, String> next() throws IOException;
+
+        /** @return the line the last row started on */
+        long line();
+    }
+
+    /**
+     * CSV rows. Fields are split by a small state machine reading one character
+     * at a time, so a quoted field may span lines.
+     */
+    private static final class CsvRows implements Rows {
+        private final BufferedReader myIn;
+        private final String[] myHeader;
+        private final List<String> myFields = new ArrayList<>();
+        private final StringBuilder myField = new StringBuilder();
+        private long myLine = 1, myRowLine;
+        private int myPushback = -2;
+
+        CsvRows(final Reader theIn) throws IOException {
+            myIn = theIn instanceof BufferedReader b ? b : new BufferedReader(theIn);
+            if (!readRecord()) throw new IOException("CSV has no header row");
+            myHeader = new String[myFields.size()];
+            for (int i = 0; i < myHeader.length; i++) {
+                String name = myFields.get(i).trim().toLowerCase(Locale.ROOT);
+                if (i == 0 && name.startsWith("\uFEFF")) name = name.substring(1);
+                myHeader[i] = name;
+            }
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            while (readRecord()) {
+                if (myFields.size() == 1 && myFields.get(0).isEmpty()) continue; // blank line
+                if (myFields.size() != myHeader.length) {
+                    throw new IllegalArgumentException("expected " + myHeader.length
+                            + " fields but found " + myFields.size());
+                }
+                final Map<String, String> row = new HashMap<>();
+                for (int i = 0; i < myHeader.length; i++) row.put(myHeader[i], myFields.get(i));
+                return row;
+            }
+            return null;
+        }
+
+        @Override
+        public long line() {
+            return myRowLine;
+        }
+
+        /**
+         * Reads the next record into {@link #myFields}.
+         *
+         * @return false at the end of the input
+         */
+        private boolean readRecord() throws IOException {
+            myFields.clear();
+            myField.setLength(0);
+            myRowLine = myLine;
+            int c = read();
+            if (c == -1) return false;
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) throw new IOException("unterminated quoted field starting on line " + myRowLine);
+                    if (c == '"') {
+                        final int nxt = read();
+                        if (nxt == '"') {
+                            myField.append('"');
+                        } else {
+                            quoted = false;
+                            c = nxt;
+                            continue;
+                        }
+                    } else {
+                        myField.append((char) c);
+                    }
+                } else if (c == '"' && myField.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    myFields.add(myField.toString());
+                    myField.setLength(0);
+                } else if (c == '\n' || c == '\r' || c == -1) {
+                    if (c == '\r') {
+                        final int nxt = read();
+                        if (nxt != '\n') myPushback = nxt;
+                    }
+                    myFields.add(myField.toString());
+                    return true;
+                } else {
+                    myField.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            final int c;
+            if (myPushback != -2) {
+                c = myPushback;
+                myPushback = -2;
+            } else {
+                c = myIn.read();
+            }
+            if (c == '\n') myLine++;
+            return c;
+        }
+    }
+
+    /**
+     * JSON Lines rows, each a flat object of strings, numbers, booleans or null,
+     * with an optional {@code options} array of strings.
+     */
+    private static final class JsonRows implements Rows {
+        private final BufferedReader myIn;
+        private long myLine;
+        private String myText;
+        private int myPos;
+
+        JsonRows(final Reader theIn) {
+            myIn = theIn instanceof BufferedReader b ? b : new BufferedReader(theIn);
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            String text;
+            do {
+                text = myIn.readLine();
+                if (text == null) return null;
+                myLine++;
+            } while (text.isBlank());
+            myText = text;
+            myPos = 0;
+            return parseObject();
+        }
+
+        @Override
+        public long line() {
+            return myLine;
+        }
+
+        private Map<String, String> parseObject() {
+            final Map<String, String> row = new HashMap<>();
+            expect('{');
+            skipSpace();
+            if (peek() == '}') {
+                myPos++;
+                return row;
+            }
+            while (true) {
+                skipSpace();
+                final String key = parseString().toLowerCase(Locale.ROOT);
+                expect(':');
+                skipSpace();
+                if (peek() == '[') {
+                    if (!key.equals("options")) throw new IllegalArgumentException("unexpected array for '" + key + "'");
+                    final List<String> options = parseArray();
+                    for (int i = 0; i < options.size() && i < 4; i++) row.put("option_" + (char) ('a' + i), options.get(i));
+                    if (options.size() > 4) throw new IllegalArgumentException("more than four options");
+                } else {
+                    row.put(key, parseValue());
+                }
+                skipSpace();
+                final char c = take();
+                if (c == '}') break;
+                if (c != ',') throw new IllegalArgumentException("expected ',' or '}' at column " + myPos);
+            }
+            skipSpace();
+            if (myPos != myText.length()) throw new IllegalArgumentException("text after the object");
+            return row;
+        }
+
+        private List<String> parseArray() {
+            final List<String> values = new ArrayList<>(4);
+            expect('[');
+            skipSpace();
+            if (peek() == ']') {
+                myPos++;
+                return values;
+            }
+            while (true) {
+                skipSpace();
+                values.add(parseValue());
+                skipSpace();
+                final char c = take();
+                if (c == ']') return values;
+                if (c != ',') throw new IllegalArgumentException("expected ',' or ']' at column " + myPos);
+            }
+        }
+
+        private String parseValue() {
+            final char c = peek();
+            if (c == '"') return parseString();
+            final int start = myPos;
+            while (myPos < myText.length() && ",}] \t".indexOf(myText.charAt(myPos)) < 0) myPos++;
+            final String literal = myText.substring(start, myPos);
+            if (literal.equals("null")) return null;
+            if (literal.equals("true") || literal.equals("false")) return literal;
+            try {
+                Double.parseDouble(literal);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("bad JSON value '" + literal + "'");
+            }
+            return literal;
+        }
+
+        private String parseString() {
+            expect('"');
+            final StringBuilder sb = new StringBuilder();
+            while (true) {
+                final char c = take();
+                if (c == '"') return sb.toString();
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                final char e = take();
+                switch (e) {
+                    case '"', '\\', '/' -> sb.append(e);
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'u' -> {
+                        if (myPos + 4 > myText.length()) throw new IllegalArgumentException("bad \\u escape");
+                        try {
+                            sb.append((char) Integer.parseInt(myText.substring(myPos, myPos + 4), 16));
+                        } catch (NumberFormatException ex) {
+                            throw new IllegalArgumentException("bad \\u escape");
+                        }
+                        myPos += 4;
+                    }
+                    default -> throw new IllegalArgumentException("bad escape '\\" + e + "'");
+                }
+            }
+        }
+
+        private void skipSpace() {
+            while (myPos < myText.length() && Character.isWhitespace(myText.charAt(myPos))) myPos++;
+        }
+
+        private char peek() {
+            if (myPos >= myText.length()) throw new IllegalArgumentException("unexpected end of line");
+            return myText.charAt(myPos);
+        }
+
+        private char take() {
+            final char c = peek();
+            myPos++;
+            return c;
+        }
+
+        private void expect(final char theChar) {
+            skipSpace();
+            if (take() != theChar) throw new IllegalArgumentException("expected '" + theChar + "' at column " + myPos);
+        }
+    }
+
+    /**
+     * Imports a dump from the command line.
+     * Usage: {@code java Model.QuestionImporter <file.csv|file.jsonl> [jdbcUrl]},
+     * defaulting to the bundled database.
+     *
+     * @param args the dump file and optional database url
+     * @throws Exception if the import fails
+     */
+    public static void main(final String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: QuestionImporter <file.csv|file.jsonl> [jdbcUrl]");
+            System.exit(2);
+        }
+        final String url = args.length > 1 ? args[1] : "jdbc:sqlite:" + QuestionCatalog.DEFAULT_DB;
+        final long t0 = System.nanoTime();
+        final Result r = new QuestionImporter(url).importFile(Path.of(args[0]));
+        System.out.printf("Read %d rows in %.1f s: %d imported, %d duplicates, %d rejected%n",
+                r.read(), (System.nanoTime() - t0) / 1e9, r.imported(), r.duplicates(), r.rejected());
+        for (final String error : r.errors()) System.out.println("  " + error);
+        QuestionStore.closeAll();
+    }
+}
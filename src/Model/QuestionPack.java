@@ -0,0 +1,295 @@
+package Model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled, read-only question bank in a compact binary file that is memory-mapped
+ * instead of read. Opening a pack only checks its header, so start-up cost does not
+ * grow with the number of questions; a {@link QuestionRecord} is decoded only when a
+ * game actually draws that question.
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ * header   magic "TMQP", version (short), type count (byte), level count (byte),
+ *          record count (int), string pool offset (int),
+ *          then one int per (type, difficulty) bucket with its record count
+ * records  {@link #RECORD_SIZE} bytes each, sorted by type and then difficulty:
+ *          type (byte), difficulty (byte), 2 unused bytes, then pool offsets of the
+ *          prompt, correct answer, four options and hint (int each, -1 for none)
+ * pool     each distinct string once, as a byte length (int) and UTF-8 bytes
+ * </pre>
+ * Because records are sorted, every bucket is a contiguous run of ids, so
+ * {@link QuestionCatalog} can index a pack without scanning it.
+ *
+ * @author Husein & Chan
+ */
+public final class QuestionPack {
+
+    /** "TMQP" in ASCII. */
+    public static final int MAGIC = 0x544D5150;
+
+    /** Format version written by this class. */
+    public static final short VERSION = 1;
+
+    /** Size of one fixed-width record in bytes. */
+    public static final int RECORD_SIZE = 32;
+
+    /** Number of difficulty levels stored per type. */
+    private static final int LEVELS = QuestionRecord.MAX_DIFFICULTY - QuestionRecord.MIN_DIFFICULTY + 1;
+
+    /** Number of buckets in the header. */
+    private static final int BUCKETS = QuestionType.values().length * LEVELS;
+
+    /** Bytes before the bucket table. */
+    private static final int FIXED_HEADER = 16;
+
+    /** Offset of the first record. */
+    private static final int RECORDS_OFFSET = FIXED_HEADER + 4 * BUCKETS;
+
+    /** Pool offset stored for a missing string. */
+    private static final int NONE = -1;
+
+    /** Cached types so decoding does not clone {@code values()}. */
+    private static final QuestionType[] TYPES = QuestionType.values();
+
+    /** The mapped file. Only absolute reads are used, so it can be shared between threads. */
+    private final ByteBuffer myData;
+
+    /** Number of records. */
+    private final int myCount;
+
+    /** Absolute offset of the string pool. */
+    private final int myPoolOffset;
+
+    /** Record count of each bucket, in type-major order. */
+    private final int[] myBucketCounts;
+
+    private QuestionPack(final ByteBuffer theData, final int theCount, final int thePoolOffset,
+                         final int[] theBucketCounts) {
+        myData = theData;
+        myCount = theCount;
+        myPoolOffset = thePoolOffset;
+        myBucketCounts = theBucketCounts;
+    }
+
+    /**
+     * Maps a pack file and checks its header.
+     *
+     * @param theFile the pack file
+     * @return the opened pack
+     * @throws IOException if the file cannot be read or is not a valid pack
+     */
+    public static QuestionPack open(final Path theFile) throws IOException {
+        final ByteBuffer data;
+        try (FileChannel ch = FileChannel.open(theFile, StandardOpenOption.READ)) {
+            if (ch.size() > Integer.MAX_VALUE) {
+                throw new IOException("Question pack too large: " + theFile);
+            }
+            // The mapping stays valid after the channel is closed
+            data = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+        }
+        if (data.capacity() < RECORDS_OFFSET || data.getInt(0) != MAGIC) {
+            throw new IOException("Not a question pack: " + theFile);
+        }
+        final short version = data.getShort(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported question pack version " + version + ": " + theFile);
+        }
+        if (data.get(6) != TYPES.length || data.get(7) != LEVELS) {
+            throw new IOException("Question pack has a different type or difficulty layout: " + theFile);
+        }
+        final int count = data.getInt(8);
+        final int pool = data.getInt(12);
+        final int[] buckets = new int[BUCKETS];
+        long total = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            buckets[b] = data.getInt(FIXED_HEADER + 4 * b);
+            total += buckets[b];
+        }
+        if (count < 0 || total != count || pool != RECORDS_OFFSET + (long) count * RECORD_SIZE
+                || pool > data.capacity()) {
+            throw new IOException("Corrupt question pack header: " + theFile);
+        }
+        return new QuestionPack(data, count, pool, buckets);
+    }
+
+    /**
+     * Writes a catalog as a pack. The file is written next to the target and
+     * moved into place, so a reader never maps a half-written pack.
+     *
+     * @param theCatalog the questions to write
+     * @param theFile    the pack file to create or replace
+     * @throws IOException if the file cannot be written or the strings exceed the format's 2 GB limit
+     */
+    public static void write(final QuestionCatalog theCatalog, final Path theFile) throws IOException {
+        // Records in (type, difficulty) order, with their bucket counts
+        final List<QuestionRecord> sorted = new ArrayList<>(theCatalog.size());
+        final int[] buckets = new int[BUCKETS];
+        for (final QuestionType type : TYPES) {
+            for (int d = QuestionRecord.MIN_DIFFICULTY; d <= QuestionRecord.MAX_DIFFICULTY; d++) {
+                for (final int id : theCatalog.idsOf(type, d, d)) sorted.add(theCatalog.get(id));
+                buckets[bucket(type, d)] = theCatalog.count(type, d);
+            }
+        }
+
+        // Give each distinct string its pool offset
+        final Map<String, Integer> pool = new LinkedHashMap<>();
+        final int[] refs = new int[sorted.size() * 7];
+        long poolSize = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            final QuestionRecord r = sorted.get(i);
+            final List<String> opts = r.options();
+            final String[] fields = {r.prompt(), r.correct(),
+                    opts.size() > 0 ? opts.get(0) : null, opts.size() > 1 ? opts.get(1) : null,
+                    opts.size() > 2 ? opts.get(2) : null, opts.size() > 3 ? opts.get(3) : null,
+                    r.hint()};
+            for (int f = 0; f < fields.length; f++) {
+                final String s = fields[f];
+                if (s == null) {
+                    refs[i * 7 + f] = NONE;
+                    continue;
+                }
+                Integer off = pool.get(s);
+                if (off == null) {
+                    if (poolSize > Integer.MAX_VALUE) throw new IOException("Question pack strings exceed 2 GB");
+                    off = (int) poolSize;
+                    pool.put(s, off);
+                    poolSize += 4 + s.getBytes(StandardCharsets.UTF_8).length;
+                }
+                refs[i * 7 + f] = off;
+            }
+        }
+        final long poolOffset = RECORDS_OFFSET + (long) sorted.size() * RECORD_SIZE;
+        if (poolOffset + poolSize > Integer.MAX_VALUE) {
+            throw new IOException("Question pack would exceed 2 GB");
+        }
+
+        final Path tmp = Files.createTempFile(theFile.toAbsolutePath().getParent(), "pack", ".tmp");
+        try {
+            try (OutputStream os = Files.newOutputStream(tmp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os, 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeByte(TYPES.length);
+                out.writeByte(LEVELS);
+                out.writeInt(sorted.size());
+                out.writeInt((int) poolOffset);
+                for (final int count : buckets) out.writeInt(count);
+
+                for (int i = 0; i < sorted.size(); i++) {
+                    final QuestionRecord r = sorted.get(i);
+                    out.writeByte(r.type().ordinal());
+                    out.writeByte(r.difficulty());
+                    out.writeShort(0);
+                    for (int f = 0; f < 7; f++) out.writeInt(refs[i * 7 + f]);
+                }
+
+                for (final String s : pool.keySet()) {
+                    final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+            }
+            Files.move(tmp, theFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * @return the number of questions in the pack
+     */
+    public int size() {
+        return myCount;
+    }
+
+    /**
+     * Returns the number of records in one bucket.
+     *
+     * @param theType       the question type
+     * @param theDifficulty the difficulty level, inside the supported range
+     * @return the bucket's record count
+     */
+    public int count(final QuestionType theType, final int theDifficulty) {
+        return myBucketCounts[bucket(theType, theDifficulty)];
+    }
+
+    /**
+     * Decodes one record.
+     *
+     * @param theId the record index, from 0 to {@link #size()} - 1
+     * @return the decoded record
+     * @throws IndexOutOfBoundsException if the id is out of range
+     */
+    public QuestionRecord record(final int theId) {
+        if (theId < 0 || theId >= myCount) {
+            throw new IndexOutOfBoundsException("Question id " + theId + " out of range");
+        }
+        final int at = RECORDS_OFFSET + theId * RECORD_SIZE;
+        final QuestionType type = TYPES[myData.get(at)];
+        final int difficulty = myData.get(at + 1);
+        final String prompt = string(myData.getInt(at + 4));
+        final String correct = string(myData.getInt(at + 8));
+        final List<String> options = type == QuestionType.MC
+                ? List.of(string(myData.getInt(at + 12)), string(myData.getInt(at + 16)),
+                          string(myData.getInt(at + 20)), string(myData.getInt(at + 24)))
+                : List.of();
+        final String hint = string(myData.getInt(at + 28));
+        return new QuestionRecord(type, prompt, correct, options, hint, difficulty);
+    }
+
+    /**
+     * Reads a string from the pool.
+     *
+     * @param theRef pool offset, or {@link #NONE}
+     * @return the string, or null for {@link #NONE}
+     */
+    private String string(final int theRef) {
+        if (theRef == NONE) return null;
+        final int at = myPoolOffset + theRef;
+        final byte[] bytes = new byte[myData.getInt(at)];
+        myData.get(at + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the index of a (type, difficulty) bucket in type-major order
+     */
+    private static int bucket(final QuestionType theType, final int theDifficulty) {
+        return theType.ordinal() * LEVELS + theDifficulty - QuestionRecord.MIN_DIFFICULTY;
+    }
+
+    /**
+     * Compiles a question database into a pack.
+     * Usage: {@code java Model.QuestionPack [jdbcUrl] [packFile]},
+     * defaulting to {@code jdbc:sqlite:lib/trivia.db} and {@code lib/trivia.pack}.
+     *
+     * @param args optional database url and output file
+     * @throws IOException if the pack cannot be written
+     */
+    public static void main(final String[] args) throws IOException {
+        final String url = args.length > 0 ? args[0] : "jdbc:sqlite:" + QuestionCatalog.DEFAULT_DB;
+        final Path out = Path.of(args.length > 1 ? args[1] : QuestionCatalog.DEFAULT_PACK);
+        final QuestionCatalog catalog = QuestionCatalog.forDatabase(url);
+        if (catalog.size() == 0) {
+            System.err.println("❌ No questions loaded from " + url + ", pack not written");
+            System.exit(1);
+        }
+        write(catalog, out);
+        System.out.printf("Wrote %d questions to %s (%d bytes)%n", catalog.size(), out, Files.size(out));
+    }
+}
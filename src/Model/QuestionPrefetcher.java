@@ -0,0 +1,164 @@
+package Model;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps a small buffer of questions drawn ahead of time from a {@link questionFactory},
+ * so binding a question to a door when the player first walks into it never waits on
+ * the factory. Refills run on the executor the prefetcher is given, by default one
+ * daemon thread shared by the process (see {@link #sharedRefiller()}); without an
+ * executor nothing is drawn ahead and every question comes straight from the factory,
+ * which suits headless games that have no user to keep waiting. The factory itself is
+ * only ever touched while holding its monitor, so callers and the refill task can share it;
+ * a refill also buffers each question before letting go of the monitor, so a caller that
+ * finds the buffer empty and takes the monitor to draw sees any question a refill took.
+ *
+ * @author Husein
+ */
+public final class QuestionPrefetcher {
+
+    /** Default number of questions kept ready. */
+    public static final int DEFAULT_BUFFER = 4;
+
+    /** Single background thread shared by every prefetcher in the process. */
+    private static final ExecutorService REFILLER = Executors.newSingleThreadExecutor(r -> {
+        final Thread t = new Thread(r, "question-prefetch");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** Where refills run, or null to draw only on demand. */
+    private final Executor myRefiller;
+
+    /** The factory questions are drawn from. */
+    private final questionFactory myFactory;
+
+    /** Questions drawn ahead of time. */
+    private final BlockingQueue<Question> myBuffer;
+
+    /** True while a refill task is queued or running. */
+    private final AtomicBoolean myRefilling = new AtomicBoolean();
+
+    /** Set once the factory has returned null. */
+    private volatile boolean myExhausted;
+
+    /**
+     * Creates a prefetcher with the default buffer size.
+     *
+     * @param theFactory the factory to draw from
+     */
+    public QuestionPrefetcher(final questionFactory theFactory) {
+        this(theFactory, DEFAULT_BUFFER);
+    }
+
+    /**
+     * Creates a prefetcher that refills on the shared thread.
+     *
+     * @param theFactory    the factory to draw from
+     * @param theBufferSize number of questions to keep ready
+     * @throws IllegalArgumentException if the buffer size is less than 1
+     */
+    public QuestionPrefetcher(final questionFactory theFactory, final int theBufferSize) {
+        this(theFactory, theBufferSize, REFILLER);
+    }
+
+    /**
+     * Creates a prefetcher.
+     *
+     * @param theFactory    the factory to draw from
+     * @param theBufferSize number of questions to keep ready
+     * @param theRefiller   where refills run, or null to draw every question on demand
+     * @throws IllegalArgumentException if the buffer size is less than 1
+     */
+    public QuestionPrefetcher(final questionFactory theFactory, final int theBufferSize,
+                              final Executor theRefiller) {
+        if (theBufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be at least 1");
+        }
+        myFactory = theFactory;
+        myBuffer = new ArrayBlockingQueue<>(theBufferSize);
+        myRefiller = theRefiller;
+    }
+
+    /**
+     * Returns the daemon thread that prefetchers refill on by default.
+     *
+     * @return the shared refill executor
+     */
+    public static Executor sharedRefiller() {
+        return REFILLER;
+    }
+
+    /**
+     * Starts filling the buffer in the background without waiting for it.
+     */
+    public void prime() {
+        scheduleRefill();
+    }
+
+    /**
+     * Returns the next question, from the buffer if one is ready or straight
+     * from the factory otherwise, and tops the buffer back up in the background.
+     *
+     * @return the next question, or null once the factory has run out
+     */
+    public Question next() {
+        Question q = myBuffer.poll();
+        if (q == null) {
+            synchronized (myFactory) {
+                q = myBuffer.poll(); // a refill may have buffered one while we waited
+                if (q == null && !myExhausted) q = draw();
+            }
+        }
+        scheduleRefill();
+        return q;
+    }
+
+    /**
+     * @return the number of questions currently buffered
+     */
+    public int buffered() {
+        return myBuffer.size();
+    }
+
+    /**
+     * Queues a refill task unless one is already pending or the factory is empty.
+     */
+    private void scheduleRefill() {
+        if (myRefiller == null || myExhausted || myBuffer.remainingCapacity() == 0) return;
+        if (!myRefilling.compareAndSet(false, true)) return;
+        myRefiller.execute(this::refill);
+    }
+
+    /**
+     * Draws questions until the buffer is full or the factory runs out.
+     */
+    private void refill() {
+        try {
+            while (myBuffer.remainingCapacity() > 0) {
+                synchronized (myFactory) {
+                    final Question q = draw();
+                    if (q == null || !myBuffer.offer(q)) return;
+                }
+            }
+        } finally {
+            myRefilling.set(false);
+        }
+    }
+
+    /**
+     * Draws one question from the factory. Callers hold the factory's monitor.
+     *
+     * @return the question, or null if the factory is empty
+     */
+    private Question draw() {
+        final Question q = myFactory.getNextAvailableQuestion();
+        if (q == null) myExhausted = true;
+        return q;
+    }
+}
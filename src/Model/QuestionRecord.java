@@ -0,0 +1,82 @@
+package Model;
+
+import java.util.List;
+
+/**
+ * Immutable data of one question in the question bank. Records are shared by
+ * every game in the process; each game turns the ones it draws into its own
+ * {@link Question} objects with {@link #create()}, so hint usage is never shared.
+ *
+ * @param type       the question type
+ * @param prompt     the text shown to the player
+ * @param correct    the stored correct answer: a letter for MC, true/false for TF, the answer text for FB
+ * @param options    the four MC options, or an empty list for other types
+ * @param hint       the hint text, or null if the question has none
+ * @param difficulty the difficulty level, from {@link #MIN_DIFFICULTY} to {@link #MAX_DIFFICULTY}
+ *
+ * @author Husein & Chan
+ */
+public record QuestionRecord(QuestionType type, String prompt, String correct,
+                             List<String> options, String hint, int difficulty) {
+
+    /** Easiest difficulty level. */
+    public static final int MIN_DIFFICULTY = 1;
+
+    /** Hardest difficulty level. */
+    public static final int MAX_DIFFICULTY = 5;
+
+    /**
+     * Level given to questions without a rating. It lies inside the range of
+     * every preset, so an unrated bank behaves as it did before ratings existed.
+     */
+    public static final int DEFAULT_DIFFICULTY = 2;
+
+    /**
+     * Clamps the difficulty into {@link #MIN_DIFFICULTY}..{@link #MAX_DIFFICULTY}.
+     */
+    public QuestionRecord {
+        difficulty = Math.max(MIN_DIFFICULTY, Math.min(MAX_DIFFICULTY, difficulty));
+    }
+
+    /**
+     * Creates a record of the default difficulty.
+     */
+    public QuestionRecord(final QuestionType type, final String prompt, final String correct,
+                          final List<String> options, final String hint) {
+        this(type, prompt, correct, options, hint, DEFAULT_DIFFICULTY);
+    }
+
+    /**
+     * Checks the fields the {@link Question} constructors rely on, so bad rows
+     * can be skipped when the bank is loaded instead of failing mid-game.
+     *
+     * @return true if {@link #create()} will succeed
+     */
+    public boolean isValid() {
+        if (type == null || prompt == null || prompt.trim().isEmpty() || correct == null) return false;
+        if (type != QuestionType.MC) return true;
+        if (options == null || options.size() != 4) return false;
+        for (final String option : options) {
+            if (option == null) return false;
+        }
+        final String letter = correct.trim();
+        if (letter.isEmpty()) return false;
+        final int index = Character.toUpperCase(letter.charAt(0)) - 'A';
+        return index >= 0 && index < options.size();
+    }
+
+    /**
+     * Builds a fresh question object from this record.
+     *
+     * @return a new {@link Question} with its own {@link Hint}
+     */
+    public Question create() {
+        final Hint h = (hint == null || hint.isEmpty()) ? null : new Hint(hint);
+        return switch (type) {
+            case TF -> new TrueFalseQuestion(prompt, Boolean.parseBoolean(correct), h);
+            case MC -> new MultipleChoiceQuestion(prompt, options,
+                    Character.toUpperCase(correct.trim().charAt(0)) - 'A', h);
+            case FB -> new FillInTheBlank(prompt, correct, h);
+        };
+    }
+}
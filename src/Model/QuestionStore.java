@@ -0,0 +1,251 @@
+package Model;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared access to a question database. One store exists per JDBC url for the
+ * whole process; it keeps a small pool of open connections, and each pooled
+ * connection caches the statements prepared on it, so starting another game
+ * neither reopens the database nor re-parses the SQL.
+ * <p>
+ * The pool's bookkeeping is guarded by the store's monitor. A caller that finds
+ * every connection in use waits on it, and is woken whenever a connection comes
+ * back, a failed one frees its slot, or the store is closed.
+ *
+ * @author Husein & Chan
+ */
+public final class QuestionStore implements AutoCloseable {
+
+    /** Maximum number of connections kept per database. */
+    public static final int DEFAULT_POOL_SIZE = 2;
+
+    /** Every store opened so far, by JDBC url. */
+    private static final Map<String, QuestionStore> STORES = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(QuestionStore::closeAll, "question-store-close"));
+    }
+
+    /** JDBC url of the database. */
+    private final String myUrl;
+
+    /** Connections that are open and not in use. */
+    private final ArrayDeque<PooledConnection> myIdle;
+
+    /** Upper bound on open connections. */
+    private final int myMaxSize;
+
+    /** Connections opened, or being opened, and not yet discarded. */
+    private int myOpenCount;
+
+    /** Set once the store has been closed. */
+    private boolean myClosed;
+
+    /**
+     * Creates a store of its own for a database. Games should use {@link #forUrl(String)}
+     * to get the shared instance; a store made here is not shared and must be closed
+     * by its creator.
+     *
+     * @param theUrl      JDBC url of the database
+     * @param theMaxSize  maximum number of pooled connections
+     * @throws IllegalArgumentException if the pool size is less than 1
+     */
+    public QuestionStore(final String theUrl, final int theMaxSize) {
+        if (theMaxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1");
+        }
+        myUrl = theUrl;
+        myMaxSize = theMaxSize;
+        myIdle = new ArrayDeque<>(theMaxSize);
+    }
+
+    /**
+     * Returns the shared store for a database, creating it on first use.
+     *
+     * @param theUrl JDBC url of the database
+     * @return the store for that url
+     */
+    public static QuestionStore forUrl(final String theUrl) {
+        return STORES.computeIfAbsent(theUrl, url -> new QuestionStore(url, DEFAULT_POOL_SIZE));
+    }
+
+    /**
+     * Closes every store and its pooled connections.
+     */
+    public static void closeAll() {
+        for (final QuestionStore store : STORES.values()) {
+            store.close();
+        }
+        STORES.clear();
+    }
+
+    /**
+     * Runs some work on a pooled connection and returns the connection to the
+     * pool afterwards. A connection whose work failed is closed instead of reused.
+     *
+     * @param theWork the work to run
+     * @param <T>     the result type
+     * @return what the work returned
+     * @throws SQLException if a connection cannot be opened or the work fails
+     */
+    public <T> T withConnection(final SqlWork<T> theWork) throws SQLException {
+        final PooledConnection conn = borrow();
+        boolean healthy = false;
+        try {
+            final T result = theWork.run(conn);
+            healthy = true;
+            return result;
+        } finally {
+            release(conn, healthy);
+        }
+    }
+
+    /**
+     * Closes the pooled connections and fails every caller still waiting for one.
+     * Connections currently in use are closed when they are handed back.
+     */
+    @Override
+    public void close() {
+        final List<PooledConnection> idle;
+        synchronized (this) {
+            myClosed = true;
+            idle = new ArrayList<>(myIdle);
+            myIdle.clear();
+            notifyAll();
+        }
+        for (final PooledConnection conn : idle) {
+            discard(conn);
+        }
+    }
+
+    /**
+     * Takes an idle connection, opens a new one if the pool is not full,
+     * or waits until one of those becomes possible.
+     */
+    private PooledConnection borrow() throws SQLException {
+        synchronized (this) {
+            while (true) {
+                if (myClosed) {
+                    throw new SQLException("Question store for " + myUrl + " is closed");
+                }
+                final PooledConnection idle = myIdle.poll();
+                if (idle != null) return idle;
+                if (myOpenCount < myMaxSize) break;
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted while waiting for a connection", e);
+                }
+            }
+            myOpenCount++; // claim the slot, then open outside the lock
+        }
+        try {
+            return new PooledConnection(DriverManager.getConnection(myUrl));
+        } catch (SQLException | RuntimeException e) {
+            freeSlot();
+            throw e;
+        }
+    }
+
+    /**
+     * Puts a connection back in the pool, or closes it if it failed or the store is closed.
+     */
+    private void release(final PooledConnection theConn, final boolean theHealthy) {
+        synchronized (this) {
+            if (theHealthy && !myClosed) {
+                myIdle.add(theConn);
+                notifyAll();
+                return;
+            }
+        }
+        discard(theConn);
+    }
+
+    /**
+     * Closes a connection and frees its slot in the pool.
+     */
+    private void discard(final PooledConnection theConn) {
+        theConn.close();
+        freeSlot();
+    }
+
+    /**
+     * Gives up a slot and wakes the callers waiting for one.
+     */
+    private synchronized void freeSlot() {
+        myOpenCount--;
+        notifyAll();
+    }
+
+    /**
+     * Work to run against a pooled connection.
+     *
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    public interface SqlWork<T> {
+        /**
+         * Runs the work.
+         *
+         * @param theConnection the borrowed connection
+         * @return the result
+         * @throws SQLException if a database call fails
+         */
+        T run(PooledConnection theConnection) throws SQLException;
+    }
+
+    /**
+     * An open connection together with the statements already prepared on it.
+     */
+    public static final class PooledConnection {
+        private final Connection myConnection;
+        private final Map<String, PreparedStatement> myStatements = new HashMap<>();
+
+        private PooledConnection(final Connection theConnection) {
+            myConnection = theConnection;
+        }
+
+        /**
+         * Returns a prepared statement for the SQL, preparing it only the first
+         * time this connection sees it. Callers must not close the statement.
+         *
+         * @param theSql the SQL text
+         * @return the cached statement
+         * @throws SQLException if the statement cannot be prepared
+         */
+        public PreparedStatement prepare(final String theSql) throws SQLException {
+            PreparedStatement stmt = myStatements.get(theSql);
+            if (stmt == null) {
+                stmt = myConnection.prepareStatement(theSql);
+                myStatements.put(theSql, stmt);
+            }
+            return stmt;
+        }
+
+        /**
+         * Returns the underlying connection, e.g. for transaction control.
+         *
+         * @return the JDBC connection
+         */
+        public Connection connection() {
+            return myConnection;
+        }
+
+        private void close() {
+            for (final PreparedStatement stmt : myStatements.values()) {
+                try { stmt.close(); } catch (SQLException ignored) {}
+            }
+            try { myConnection.close(); } catch (SQLException ignored) {}
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package Model;
+
+/**
+ * The kinds of trivia question stored in the question bank, keyed by the
+ * code used in the {@code type} column of the questions table.
+ *
+ * @author Husein & Chan
+ */
+public enum QuestionType {
+    /**
+     * Multiple choice, answered with a letter A-D.
+     */
+    MC,
+
+    /**
+     * True or false.
+     */
+    TF,
+
+    /**
+     * Fill in the blank, answered with free text.
+     */
+    FB;
+
+    /**
+     * Looks up a type by its database code, ignoring case and surrounding whitespace.
+     *
+     * @param theCode the code, e.g. {@code "mc"}
+     * @return the matching type, or null if the code is unknown
+     */
+    public static QuestionType fromCode(final String theCode) {
+        if (theCode == null) return null;
+        return switch (theCode.trim().toUpperCase()) {
+            case "MC" -> MC;
+            case "TF" -> TF;
+            case "FB" -> FB;
+            default -> null;
+        };
+    }
+}
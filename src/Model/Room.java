@@ -1,13 +1,17 @@
 package Model;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * This represents a room, a cell in trivia maze. It looks which doors lead out to other doors in each of 4 directions.
+ * Rooms handed out by a {@link Maze} are lightweight views over its {@link MazeGrid}; a room built with
+ * the public constructor keeps its own visited flag and door map.
  *
  * @author Husein & Chan
  */
@@ -16,7 +20,13 @@ public class Room implements Serializable {
     private final int myRow;
     private final int myCol;
     private boolean myVisited = false;
-    private final Map<Direction, Door> myDoors = new EnumMap<>(Direction.class);
+    /** Doors of a stand-alone room, created on first {@link #setDoor}. */
+    private Map<Direction, Door> myDoors;
+
+    /** The maze this room is a view of, or null for a stand-alone room. */
+    private final Maze myMaze;
+    /** The cell id of this room within the maze grid. */
+    private final int myCell;
 
 
     /**
@@ -32,6 +42,21 @@ public class Room implements Serializable {
         }
         myRow = theRow;
         myCol = theCol;
+        myMaze = null;
+        myCell = -1;
+    }
+
+    /**
+     * This creates a view of a cell owned by a maze.
+     *
+     * @param theMaze the owning maze
+     * @param theCell the cell id within the maze grid
+     */
+    Room(final Maze theMaze, final int theCell) {
+        myMaze = theMaze;
+        myCell = theCell;
+        myRow = theMaze.getGrid().rowOf(theCell);
+        myCol = theMaze.getGrid().colOf(theCell);
     }
 
     /**
@@ -49,8 +74,17 @@ public class Room implements Serializable {
         return myCol;
     }
 
+    /**
+     * This returns the cell id of the room within its maze grid
+     * @return the cell id, or -1 for a stand-alone room
+     */
+    public int getCellId() {
+        return myCell;
+    }
+
     public boolean isVisited() {
-      return myVisited;
+        if (myMaze != null) return myMaze.getGrid().isVisited(myCell);
+        return myVisited;
     }
 
     /**
@@ -58,6 +92,10 @@ public class Room implements Serializable {
      *
      */
     public void markVisited() {
+        if (myMaze != null) {
+            myMaze.getGrid().markVisited(myCell);
+            return;
+        }
         myVisited = true;
     }
 
@@ -65,6 +103,10 @@ public class Room implements Serializable {
      * This clears and resets all visited rooms
      */
     public void clearVisited() {
+        if (myMaze != null) {
+            myMaze.getGrid().clearVisited(myCell);
+            return;
+        }
         myVisited = false;
     }
 
@@ -74,10 +116,17 @@ public class Room implements Serializable {
      * @param theDir  the compass direction; must not be null
      * @param theDoor the Door object; must not be null
      * @throws NullPointerException if either theDir or theDoor is null
+     * @throws UnsupportedOperationException if this room belongs to a maze, whose doors are fixed by its grid
      */
     public void setDoor(final Direction theDir, final Door theDoor) {
         Objects.requireNonNull(theDir,  "theDir must not be null");
         Objects.requireNonNull(theDoor, "theDoor must not be null");
+        if (myMaze != null) {
+            throw new UnsupportedOperationException("Doors of maze rooms are defined by the maze grid");
+        }
+        if (myDoors == null) {
+            myDoors = new EnumMap<>(Direction.class);
+        }
         myDoors.put(theDir, theDoor);
 
     }
@@ -89,16 +138,24 @@ public class Room implements Serializable {
      * @return the door leading in given direction
      */
     public Door getDoor(final Direction theDir) {
-
-        return myDoors.get(theDir);
-
+        if (myMaze != null) {
+            return myMaze.doorAt(myMaze.getGrid().edgeId(myCell, theDir));
+        }
+        return myDoors == null ? null : myDoors.get(theDir);
     }
 
     /**
      * This returns set of directions which room currently has doors
      */
     public Set<Direction> getAvailableDirections() {
-        return Set.copyOf(myDoors.keySet());
+        if (myMaze != null) {
+            final Set<Direction> dirs = EnumSet.noneOf(Direction.class);
+            for (final Direction d : Direction.values()) {
+                if (myMaze.getGrid().hasDoor(myCell, d)) dirs.add(d);
+            }
+            return Collections.unmodifiableSet(dirs);
+        }
+        return myDoors == null ? Set.of() : Set.copyOf(myDoors.keySet());
     }
 
 
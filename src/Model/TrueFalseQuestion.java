@@ -1,5 +1,7 @@
 package Model;
 
+import java.util.Objects;
+
 /**
  * This represents a true/false trivia question.
  *
@@ -26,14 +28,26 @@ public class TrueFalseQuestion extends Question {
      */
     @Override
     public boolean isCorrect(final String theAnswer) {
-        if (theAnswer == null) return false;
+        return theAnswer != null && isCorrect(theAnswer, 0, theAnswer.length());
+    }
 
-        String answer = theAnswer.trim().toLowerCase();
+    /**
+     * This checks a range of text as the user's answer, without copying it
+     * @param theText the text holding the answer
+     * @param theStart index of the first character of the answer
+     * @param theEnd index after the last character of the answer
+     * @return true if parsed value matches, false otherwise
+     */
+    @Override
+    public boolean isCorrect(final CharSequence theText, final int theStart, final int theEnd) {
+        Objects.checkFromToIndex(theStart, theEnd, theText.length());
+        final int start = trimStart(theText, theStart, theEnd);
+        final int end = trimEnd(theText, start, theEnd);
 
         boolean parsedAnswer;
-        if (answer.equals("t") || answer.equals("true")) {
+        if (matchesWord(theText, start, end, "t") || matchesWord(theText, start, end, "true")) {
             parsedAnswer = true;
-        } else if (answer.equals("f") || answer.equals("false")) {
+        } else if (matchesWord(theText, start, end, "f") || matchesWord(theText, start, end, "false")) {
             parsedAnswer = false;
         } else {
             // Optional: Reject unrecognized input
@@ -43,6 +57,18 @@ public class TrueFalseQuestion extends Question {
         return parsedAnswer == myCorrectAnswer;
     }
 
+    /**
+     * This compares a range of text to a lower-case word, ignoring case
+     */
+    private static boolean matchesWord(final CharSequence theText, final int theStart, final int theEnd,
+                                       final String theWord) {
+        if (theEnd - theStart != theWord.length()) return false;
+        for (int i = 0; i < theWord.length(); i++) {
+            if (Character.toLowerCase(theText.charAt(theStart + i)) != theWord.charAt(i)) return false;
+        }
+        return true;
+    }
+
     public String getCorrectAnswer() {
         return myCorrectAnswer ? "True" : "False";
     }
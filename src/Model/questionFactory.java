@@ -1,116 +1,221 @@
 package Model;
 
-import java.sql.*;
 import java.util.*;
 
 /**
- * Factory to preload and serve trivia questions of various types from SQLite.
+ * Factory to serve trivia questions of various types to one game.
  * Supports: Multiple Choice (MC), True/False (TF), and Fill in the Blank (FB).
+ * The questions themselves live in the shared, immutable {@link QuestionCatalog};
+ * a factory only holds one {@link QuestionDeck} of catalog ids per type, and builds
+ * a {@link Question} for each id it hands out.
+ * Types that still have questions sit at the front of a small array together with
+ * their draw weight, so a draw is one random number and a scan of at most three slots.
+ * <p>
+ * Each type's deck is laid out once from the catalog's difficulty buckets: the
+ * questions inside the configured range form the first tier, followed (under
+ * {@link DifficultySettings.QuestionFallback#NEAREST}) by one tier per level outside
+ * the range, closest first, so running out of in-range questions needs no search.
+ * <p>
+ * {@link #reset()} reshuffles the decks in place, so one factory can serve any
+ * number of games with the same settings without touching the catalog again.
  *
  * @author Husein & Chan
  */
 public class questionFactory {
 
-    private final String dbPath;
+    private final QuestionCatalog catalog;
     private final Random random = new Random();
-    private final Map<String, Queue<Question>> questionsByType = new HashMap<>();
+    /** One deck per type, indexed by {@link QuestionType#ordinal()}; null if the type is never drawn. */
+    private final QuestionDeck[] decks = new QuestionDeck[QuestionType.values().length];
+    /** Draw weight of each type, indexed by {@link QuestionType#ordinal()}. */
+    private final int[] weights = new int[QuestionType.values().length];
+    /** Types with questions left occupy the first {@link #activeCount} slots. */
+    private final int[] active = new int[QuestionType.values().length];
+    private int activeCount;
+    /** Sum of the weights of the active types. */
+    private int totalWeight;
+    /** Whether exhausted decks are reshuffled instead of dropped. */
+    private boolean recycling;
 
+    /**
+     * Creates a factory over the shared catalog of a SQLite database or question pack,
+     * loading the catalog if this is the first game to use it.
+     *
+     * @param theDbPath JDBC url of the question database, or the path of a compiled {@code .pack} file
+     */
     public questionFactory(final String theDbPath) {
-        this.dbPath = theDbPath;
-        preloadQuestions();
+        this(QuestionCatalog.forSource(theDbPath));
     }
 
-    private void preloadQuestions() {
-        String query = "SELECT * FROM questions";
-
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(query);
-             ResultSet rs = stmt.executeQuery()) {
-
-            while (rs.next()) {
-                String type = rs.getString("type").trim().toUpperCase();
-                String prompt = rs.getString("question");
-                String correct = rs.getString("correct_answer");
-                int id = rs.getInt("id");
-
-                List<String> hints = getHintsForQuestion(id);
-                Hint hint = hints.isEmpty() ? null : new Hint(hints.get(0));
-
-                Question question = switch (type) {
-                    case "TF" -> new TrueFalseQuestion(prompt, Boolean.parseBoolean(correct), hint);
-                    case "MC" -> {
-                        List<String> options = List.of(
-                                rs.getString("option_a"),
-                                rs.getString("option_b"),
-                                rs.getString("option_c"),
-                                rs.getString("option_d")
-                        );
-                        int correctIndex = correct.trim().toUpperCase().charAt(0) - 'A';
-                        yield new MultipleChoiceQuestion(prompt, options, correctIndex, hint);
-                    }
-                    case "FB" -> new FillInTheBlank(prompt, correct, hint);
-                    default -> null;
-                };
-
-                if (question != null) {
-                    questionsByType
-                            .computeIfAbsent(type, k -> new LinkedList<>())
-                            .add(question);
-                }
-            }
+    /**
+     * Creates a factory over the shared catalog of a SQLite database or question pack
+     * that draws questions as configured in the settings.
+     *
+     * @param theDbPath   JDBC url of the question database, or the path of a compiled {@code .pack} file
+     * @param theSettings the difficulty settings of the game
+     */
+    public questionFactory(final String theDbPath, final DifficultySettings theSettings) {
+        this(QuestionCatalog.forSource(theDbPath), theSettings);
+    }
 
-            // Shuffle each queue
-            for (Map.Entry<String, Queue<Question>> entry : questionsByType.entrySet()) {
-                List<Question> shuffled = new ArrayList<>(entry.getValue());
-                Collections.shuffle(shuffled, random);
-                entry.setValue(new LinkedList<>(shuffled));
-            }
+    /**
+     * Creates a factory over an existing catalog that draws every type with equal weight.
+     *
+     * @param theCatalog the questions to draw from
+     */
+    public questionFactory(final QuestionCatalog theCatalog) {
+        this(theCatalog, null);
+    }
 
-        } catch (SQLException e) {
-            System.err.println("❌ Error preloading questions: " + e.getMessage());
+    /**
+     * Creates a factory over an existing catalog.
+     *
+     * @param theCatalog  the questions to draw from
+     * @param theSettings the settings supplying question type weights and the difficulty
+     *                    range, or null for equal weights and every difficulty; a large maze
+     *                    turns recycling on, as it has more doors than any bank has questions
+     */
+    public questionFactory(final QuestionCatalog theCatalog, final DifficultySettings theSettings) {
+        this.catalog = Objects.requireNonNull(theCatalog);
+        final int min = theSettings == null ? QuestionRecord.MIN_DIFFICULTY : theSettings.getQuestionDifficultyMin();
+        final int max = theSettings == null ? QuestionRecord.MAX_DIFFICULTY : theSettings.getQuestionDifficultyMax();
+        final boolean fallback = theSettings == null
+                || theSettings.getQuestionFallback() == DifficultySettings.QuestionFallback.NEAREST;
+        for (QuestionType type : QuestionType.values()) {
+            int weight = theSettings == null ? 1 : theSettings.getQuestionTypeWeight(type);
+            if (weight <= 0) continue;
+            QuestionDeck deck = deck(type, min, max, fallback);
+            if (deck.size() > 0) {
+                decks[type.ordinal()] = deck;
+                weights[type.ordinal()] = weight;
+            }
         }
+        activateAll();
+        recycling = theSettings != null && theSettings.isLargeMaze();
     }
 
     /**
-     * Returns the next available question (of any type), ensuring no repeats.
+     * Returns the catalog this factory draws from.
      */
-    public Question getNextAvailableQuestion() {
-        List<String> availableTypes = questionsByType.entrySet().stream()
-                .filter(e -> !e.getValue().isEmpty())
-                .map(Map.Entry::getKey)
-                .toList();
-
-        if (availableTypes.isEmpty()) return null;
-
-        String randomType = availableTypes.get(random.nextInt(availableTypes.size()));
-        return questionsByType.get(randomType).poll();
+    public QuestionCatalog getCatalog() {
+        return catalog;
     }
 
     /**
-     * Loads all hints for a question ID.
-     * @param questionId ID in the database
-     * @return list of hint strings
+     * Sets whether a type whose deck runs out is reshuffled and served again
+     * instead of dropping out, e.g. for mazes with more doors than questions.
+     * With recycling on, the factory only returns null if it has no questions at all.
+     *
+     * @param theRecycling true to reshuffle exhausted decks
      */
-    private List<String> getHintsForQuestion(int questionId) {
-        List<String> hints = new ArrayList<>();
-        String sql = "SELECT hint_text FROM hints WHERE question_id = ?";
+    public synchronized void setRecycling(final boolean theRecycling) {
+        recycling = theRecycling;
+    }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+    /**
+     * Reshuffles every deck and makes all questions available again,
+     * so the factory can serve a new game.
+     */
+    public synchronized void reset() {
+        for (QuestionDeck deck : decks) {
+            if (deck != null) deck.reset();
+        }
+        activateAll();
+    }
 
-            stmt.setInt(1, questionId);
-            ResultSet rs = stmt.executeQuery();
+    /**
+     * Returns the next available question (of any type), ensuring no repeats.
+     */
+    public synchronized Question getNextAvailableQuestion() {
+        if (activeCount == 0) return null;
+
+        // Weighted pick among the active types
+        int pick = random.nextInt(totalWeight);
+        int slot = 0;
+        while (pick >= weights[active[slot]]) {
+            pick -= weights[active[slot]];
+            slot++;
+        }
 
-            while (rs.next()) {
-                hints.add(rs.getString("hint_text"));
-            }
+        int type = active[slot];
+        QuestionDeck deck = decks[type];
+        if (recycling) return catalog.create(deck.nextRecycling());
 
-        } catch (SQLException e) {
-            System.err.println(" Error loading hints: " + e.getMessage());
+        int id = deck.next();
+        if (!deck.hasNext()) {
+            // Swap the emptied type out of the active range
+            totalWeight -= weights[type];
+            active[slot] = active[--activeCount];
         }
+        return catalog.create(id);
+    }
 
-        return hints;
+    /**
+     * Marks a question as already served, e.g. one restored from a saved game,
+     * so this round will not hand it out again.
+     *
+     * @param theId the catalog id of the question
+     */
+    public synchronized void withdraw(final int theId) {
+        if (theId < 0 || theId >= catalog.size()) return;
+        final int type = catalog.get(theId).type().ordinal();
+        final QuestionDeck deck = decks[type];
+        if (deck == null || !deck.withdraw(theId) || deck.hasNext() || recycling) return;
+        for (int slot = 0; slot < activeCount; slot++) {
+            if (active[slot] != type) continue;
+            totalWeight -= weights[type];
+            active[slot] = active[--activeCount];
+            return;
+        }
     }
 
+    /**
+     * Puts every type that has a deck back in the active range.
+     */
+    private void activateAll() {
+        activeCount = 0;
+        totalWeight = 0;
+        for (int t = 0; t < decks.length; t++) {
+            if (decks[t] == null) continue;
+            active[activeCount++] = t;
+            totalWeight += weights[t];
+        }
+    }
 
+    /**
+     * Builds the deck of one type: the in-range ids as the first tier, then, if
+     * falling back, one tier per other level from nearest to farthest with the
+     * easier level first on a tie.
+     */
+    private QuestionDeck deck(final QuestionType theType, final int theMin, final int theMax,
+                              final boolean theFallback) {
+        final int[] inRange = catalog.idsOf(theType, theMin, theMax);
+        if (!theFallback) return new QuestionDeck(inRange, random);
+
+        int total = inRange.length;
+        int levels = 1;
+        for (int d = QuestionRecord.MIN_DIFFICULTY; d <= QuestionRecord.MAX_DIFFICULTY; d++) {
+            if (d < theMin || d > theMax) {
+                total += catalog.count(theType, d);
+                levels++;
+            }
+        }
+        if (total == inRange.length) return new QuestionDeck(inRange, random);
+
+        final int[] ids = Arrays.copyOf(inRange, total);
+        final int[] tierEnds = new int[levels];
+        int tiers = 0;
+        int fill = inRange.length;
+        tierEnds[tiers++] = fill;
+        for (int step = 1; fill < total; step++) {
+            for (int level : new int[] {theMin - step, theMax + step}) {
+                if (catalog.count(theType, level) == 0) continue;
+                final int[] bucket = catalog.idsOf(theType, level, level);
+                System.arraycopy(bucket, 0, ids, fill, bucket.length);
+                fill += bucket.length;
+                tierEnds[tiers++] = fill;
+            }
+        }
+        return new QuestionDeck(ids, Arrays.copyOf(tierEnds, tiers), random);
+    }
 }
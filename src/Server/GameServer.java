@@ -0,0 +1,332 @@
+package Server;
+
+import Model.DifficultyPresets;
+import Model.DifficultySettings;
+import Model.Direction;
+import Model.GameEngine;
+import Model.QuestionCatalog;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A small HTTP front end over a {@link SessionManager}, good enough to host a
+ * classroom on one machine. Each request runs on its own virtual thread, so the
+ * server needs JDK 21 or later, and answers are JSON. Routes:
+ * <pre>
+ *   POST   /sessions?difficulty=Easy     start a game           -> {"id":..., "state":{...}}
+ *   GET    /sessions/{id}                current state and question
+ *   POST   /sessions/{id}/move?dir=EAST  ask the door's question
+ *   POST   /sessions/{id}/answer         answer it (request body is the answer text)
+ *   POST   /sessions/{id}/hint           use a hint
+ *   POST   /sessions/{id}/skip           skip the question
+ *   DELETE /sessions/{id}                end the game
+ * </pre>
+ * Run with {@code java Server.GameServer [port] [question source]} (default 8080 and
+ * the game's default question bank).
+ *
+ * @author Husein & Chan
+ */
+public final class GameServer implements AutoCloseable {
+
+    /** Default port to listen on. */
+    public static final int DEFAULT_PORT = 8080;
+
+    /** Path prefix for every route. */
+    private static final String PREFIX = "/sessions";
+
+    /** Longest answer body read, in bytes. */
+    private static final int MAX_BODY = 4096;
+
+    /** The games being hosted. */
+    private final SessionManager mySessions;
+
+    /** The JDK's built-in HTTP server. */
+    private final HttpServer myServer;
+
+    /** Runs each request on a virtual thread. */
+    private final ExecutorService myExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Creates a server bound to a port; call {@link #start()} to begin serving.
+     *
+     * @param thePort     the port, or 0 for any free port
+     * @param theSessions the sessions to serve
+     * @throws IOException if the port cannot be bound
+     */
+    public GameServer(final int thePort, final SessionManager theSessions) throws IOException {
+        mySessions = theSessions;
+        myServer = HttpServer.create(new InetSocketAddress(thePort), 0);
+        myServer.createContext(PREFIX, this::handle);
+        myServer.setExecutor(myExecutor);
+    }
+
+    /**
+     * Starts serving requests and sweeping idle sessions.
+     */
+    public void start() {
+        mySessions.start();
+        myServer.start();
+    }
+
+    /**
+     * @return the port actually bound
+     */
+    public int getPort() {
+        return myServer.getAddress().getPort();
+    }
+
+    /**
+     * Stops serving. Requests already running get a second to finish.
+     */
+    @Override
+    public void close() {
+        myServer.stop(1);
+        myExecutor.shutdown();
+        mySessions.close();
+    }
+
+    /**
+     * Serves one request, turning unexpected failures into a 500.
+     */
+    private void handle(final HttpExchange theExchange) throws IOException {
+        try (theExchange) {
+            try {
+                route(theExchange);
+            } catch (final RuntimeException e) {
+                System.err.println("❌ Request failed: " + e.getMessage());
+                send(theExchange, 500, error("Internal error"));
+            }
+        }
+    }
+
+    /**
+     * Routes one request.
+     */
+    private void route(final HttpExchange theExchange) throws IOException {
+        final URI uri = theExchange.getRequestURI();
+        final String path = uri.getPath().substring(PREFIX.length());
+        if (!path.isEmpty() && path.charAt(0) != '/') {
+            send(theExchange, 404, error("Not found"));
+            return;
+        }
+        final String[] parts = path.split("/");
+        // parts[0] is the empty string before the first '/'
+        final String id = parts.length > 1 ? parts[1] : "";
+        final String action = parts.length > 2 ? parts[2] : "";
+        final String method = theExchange.getRequestMethod();
+
+        if (id.isEmpty()) {
+            if (!"POST".equals(method)) {
+                send(theExchange, 405, error("Use POST to start a game"));
+                return;
+            }
+            final DifficultySettings settings = preset(query(uri, "difficulty"));
+            if (settings == null) {
+                send(theExchange, 400, error("Unknown difficulty"));
+                return;
+            }
+            final GameSession session;
+            try {
+                session = mySessions.create(settings);
+            } catch (final IllegalStateException e) {
+                send(theExchange, 503, error(e.getMessage()));
+                return;
+            }
+            final String state = mySessions.call(session.getId(), engine -> snapshot(engine.state()));
+            send(theExchange, 201, "{\"id\":" + quote(session.getId()) + ",\"state\":" + state + "}");
+            return;
+        }
+
+        if ("DELETE".equals(method) && action.isEmpty()) {
+            send(theExchange, mySessions.remove(id) ? 204 : 404, null);
+            return;
+        }
+        final String expected = action.isEmpty() ? "GET" : "POST";
+        if (!expected.equals(method)) {
+            send(theExchange, 405, error("Use " + expected));
+            return;
+        }
+
+        final String body;
+        switch (action) {
+            case "" -> body = mySessions.call(id, engine ->
+                    "{\"state\":" + snapshot(engine.state())
+                            + ",\"question\":" + question(engine.pendingQuestion()) + "}");
+            case "move" -> {
+                final Direction dir = direction(query(uri, "dir"));
+                if (dir == null) {
+                    send(theExchange, 400, error("dir must be NORTH, SOUTH, EAST or WEST"));
+                    return;
+                }
+                body = mySessions.call(id, engine -> {
+                    final GameEngine.MoveResult r = engine.move(dir);
+                    return "{\"status\":" + quote(r.status().name())
+                            + ",\"question\":" + question(r.question()) + "}";
+                });
+            }
+            case "answer" -> {
+                final String answer = new String(theExchange.getRequestBody().readNBytes(MAX_BODY),
+                        StandardCharsets.UTF_8);
+                body = mySessions.call(id, engine -> {
+                    final GameEngine.AnswerResult r = engine.answer(answer);
+                    return "{\"status\":" + quote(r.status().name()) + ",\"correct\":" + r.correct()
+                            + ",\"attemptsLeft\":" + count(r.attemptsLeft()) + ",\"doorBlocked\":" + r.doorBlocked()
+                            + ",\"state\":" + snapshot(r.state()) + "}";
+                });
+            }
+            case "hint" -> body = mySessions.call(id, engine -> {
+                final GameEngine.HintResult r = engine.hint();
+                return "{\"status\":" + quote(r.status().name()) + ",\"hint\":" + quote(r.hint())
+                        + ",\"hintsLeft\":" + count(r.hintsLeft()) + "}";
+            });
+            case "skip" -> body = mySessions.call(id, engine -> {
+                final GameEngine.SkipResult r = engine.skip();
+                return "{\"status\":" + quote(r.status().name()) + ",\"state\":" + snapshot(r.state()) + "}";
+            });
+            default -> {
+                send(theExchange, 404, error("Unknown action " + action));
+                return;
+            }
+        }
+        if (body == null) {
+            send(theExchange, 404, error("No such session"));
+        } else {
+            send(theExchange, 200, body);
+        }
+    }
+
+    /**
+     * Finds a preset by name, ignoring case; no name means Normal.
+     *
+     * @return the settings, or {@code null} if no preset has that name
+     */
+    static DifficultySettings preset(final String theName) {
+        if (theName == null || theName.isEmpty()) return DifficultyPresets.normal();
+        for (final DifficultySettings s : DifficultyPresets.getAllPresets()) {
+            if (s.getDifficultyName().equalsIgnoreCase(theName)) return s;
+        }
+        return null;
+    }
+
+    /**
+     * Parses a direction name, ignoring case.
+     *
+     * @return the direction, or {@code null} if the name is not one
+     */
+    private static Direction direction(final String theName) {
+        if (theName == null) return null;
+        try {
+            return Direction.valueOf(theName.toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the value of a query parameter, or {@code null} if absent.
+     */
+    private static String query(final URI theUri, final String theKey) {
+        final String q = theUri.getQuery();
+        if (q == null) return null;
+        for (final String pair : q.split("&")) {
+            final int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(theKey)) return pair.substring(eq + 1);
+        }
+        return null;
+    }
+
+    private static String snapshot(final GameEngine.Snapshot theState) {
+        return "{\"row\":" + theState.row() + ",\"col\":" + theState.col()
+                + ",\"state\":" + quote(theState.state().name()) + ",\"won\":" + theState.won()
+                + ",\"hintsLeft\":" + count(theState.hintsLeft())
+                + ",\"questionsAnswered\":" + theState.questionsAnswered() + "}";
+    }
+
+    private static String question(final GameEngine.QuestionView theQuestion) {
+        if (theQuestion == null) return "null";
+        final StringBuilder options = new StringBuilder("[");
+        final List<String> list = theQuestion.options();
+        for (int i = 0; i < list.size(); i++) {
+            if (i > 0) options.append(',');
+            options.append(quote(list.get(i)));
+        }
+        options.append(']');
+        return "{\"type\":" + quote(theQuestion.type().name()) + ",\"prompt\":" + quote(theQuestion.prompt())
+                + ",\"options\":" + options + ",\"hasHint\":" + theQuestion.hasHint()
+                + ",\"attemptsLeft\":" + count(theQuestion.attemptsLeft()) + "}";
+    }
+
+    /** Unlimited counts ({@link Integer#MAX_VALUE}) are sent as -1. */
+    private static int count(final int theCount) {
+        return theCount == Integer.MAX_VALUE ? -1 : theCount;
+    }
+
+    private static String error(final String theMessage) {
+        return "{\"error\":" + quote(theMessage) + "}";
+    }
+
+    /**
+     * Encodes a string as a JSON string literal, or {@code null}.
+     */
+    static String quote(final String theText) {
+        if (theText == null) return "null";
+        final StringBuilder sb = new StringBuilder(theText.length() + 2).append('"');
+        for (int i = 0; i < theText.length(); i++) {
+            final char c = theText.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * Sends a JSON response, or an empty one when the body is {@code null}.
+     */
+    private static void send(final HttpExchange theExchange, final int theStatus, final String theBody)
+            throws IOException {
+        if (theBody == null) {
+            theExchange.sendResponseHeaders(theStatus, -1);
+            return;
+        }
+        final byte[] bytes = theBody.getBytes(StandardCharsets.UTF_8);
+        theExchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        theExchange.sendResponseHeaders(theStatus, bytes.length);
+        try (OutputStream out = theExchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args optional port and question source (a database URL or a .pack file)
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(final String[] args) throws IOException {
+        final int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        final String source = args.length > 1 ? args[1] : QuestionCatalog.defaultSource();
+        final QuestionCatalog catalog = QuestionCatalog.forSource(source);
+        final GameServer server = new GameServer(port, new SessionManager(catalog));
+        server.start();
+        System.out.println("Serving " + catalog.size() + " questions on port " + server.getPort());
+    }
+}
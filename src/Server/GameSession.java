@@ -0,0 +1,82 @@
+package Server;
+
+import Model.GameEngine;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * One player's game on the server: a {@link GameEngine} owned by nobody else.
+ * Requests for the same session may arrive on different threads, so every call
+ * goes through {@link #call}, which runs it under the session's own lock and
+ * records the time for idle eviction. Each session has its own question factory
+ * and draws its questions on demand, so sessions share only the immutable
+ * question catalog and no background refill thread.
+ *
+ * @author Husein & Chan
+ */
+public final class GameSession {
+
+    /** The session id handed to the client. */
+    private final String myId;
+
+    /** The game being played. */
+    private final GameEngine myEngine;
+
+    /**
+     * Serializes calls on this session. A request waiting for a busy session parks on this
+     * lock and frees its carrier thread, where waiting on a monitor would pin it on JDK 21.
+     * The engine still takes its factory's monitor inside, which pins the carrier for that
+     * short draw, but only this session uses that factory, so nothing ever waits on it.
+     */
+    private final ReentrantLock myLock = new ReentrantLock();
+
+    /** Clock reading of the last call, in nanoseconds. */
+    private volatile long myLastAccess;
+
+    /**
+     * Creates a session.
+     *
+     * @param theId     the session id
+     * @param theEngine the game
+     * @param theNow    the current clock reading in nanoseconds
+     */
+    GameSession(final String theId, final GameEngine theEngine, final long theNow) {
+        myId = Objects.requireNonNull(theId);
+        myEngine = Objects.requireNonNull(theEngine);
+        myLastAccess = theNow;
+    }
+
+    /**
+     * @return the session id
+     */
+    public String getId() {
+        return myId;
+    }
+
+    /**
+     * @return the clock reading of the last call, in nanoseconds
+     */
+    public long getLastAccess() {
+        return myLastAccess;
+    }
+
+    /**
+     * Runs an action on the game while holding this session's lock.
+     *
+     * @param theNow    the current clock reading in nanoseconds
+     * @param theAction what to do with the engine
+     * @param <T>       the result type
+     * @return what the action returned
+     */
+    public <T> T call(final long theNow, final Function<GameEngine, T> theAction) {
+        myLock.lock();
+        try {
+            myLastAccess = theNow;
+            return theAction.apply(myEngine);
+        } finally {
+            myLock.unlock();
+        }
+    }
+}
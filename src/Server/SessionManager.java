@@ -0,0 +1,203 @@
+package Server;
+
+import Model.DifficultySettings;
+import Model.GameEngine;
+import Model.QuestionCatalog;
+import Model.questionFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Holds the games being played on the server, keyed by session id.
+ * All sessions read questions from one shared, immutable {@link QuestionCatalog};
+ * each gets its own {@link questionFactory}, maze and player, so sessions only
+ * contend on the map itself. Sessions not used for longer than the idle timeout
+ * are evicted, either by calling {@link #evictIdle()} or by {@link #start()}ing
+ * the background sweep.
+ *
+ * @author Husein & Chan
+ */
+public final class SessionManager implements AutoCloseable {
+
+    /** Default time a session may sit unused before it is evicted. */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    /** Default limit on concurrent sessions. */
+    public static final int DEFAULT_MAX_SESSIONS = 10_000;
+
+    /** Live sessions by id. */
+    private final ConcurrentMap<String, GameSession> mySessions = new ConcurrentHashMap<>();
+
+    /** Number of live sessions, kept separately so the limit is exact under concurrent creates. */
+    private final AtomicInteger myCount = new AtomicInteger();
+
+    /** Where every session's questions come from. */
+    private final QuestionCatalog myCatalog;
+
+    /** Idle time before eviction, in nanoseconds. */
+    private final long myIdleNanos;
+
+    /** Most sessions held at once. */
+    private final int myMaxSessions;
+
+    /** Nanosecond clock; replaceable so eviction can be tested. */
+    private final LongSupplier myClock;
+
+    /** Runs the eviction sweep once started. */
+    private ScheduledExecutorService mySweeper;
+
+    /**
+     * Creates a manager with the default timeout and limit.
+     *
+     * @param theCatalog the question bank shared by all sessions
+     */
+    public SessionManager(final QuestionCatalog theCatalog) {
+        this(theCatalog, DEFAULT_IDLE_TIMEOUT, DEFAULT_MAX_SESSIONS, System::nanoTime);
+    }
+
+    /**
+     * Creates a manager.
+     *
+     * @param theCatalog     the question bank shared by all sessions
+     * @param theIdleTimeout how long a session may sit unused
+     * @param theMaxSessions most sessions held at once
+     * @param theClock       nanosecond clock
+     * @throws IllegalArgumentException if the timeout is not positive or the limit is less than 1
+     */
+    public SessionManager(final QuestionCatalog theCatalog, final Duration theIdleTimeout,
+                          final int theMaxSessions, final LongSupplier theClock) {
+        if (theIdleTimeout.isNegative() || theIdleTimeout.isZero()) {
+            throw new IllegalArgumentException("Idle timeout must be positive");
+        }
+        if (theMaxSessions < 1) {
+            throw new IllegalArgumentException("Max sessions must be at least 1");
+        }
+        myCatalog = Objects.requireNonNull(theCatalog);
+        myIdleNanos = theIdleTimeout.toNanos();
+        myMaxSessions = theMaxSessions;
+        myClock = Objects.requireNonNull(theClock);
+    }
+
+    /**
+     * Starts a new game.
+     *
+     * @param theSettings the difficulty to play at
+     * @return the new session
+     * @throws IllegalStateException if the server already holds the maximum number of sessions
+     */
+    public GameSession create(final DifficultySettings theSettings) {
+        if (myCount.incrementAndGet() > myMaxSessions) {
+            myCount.decrementAndGet();
+            throw new IllegalStateException("Too many sessions (" + myMaxSessions + ")");
+        }
+        try {
+            final GameEngine engine = GameEngine.startGame(theSettings, new questionFactory(myCatalog, theSettings));
+            GameSession session;
+            do {
+                session = new GameSession(UUID.randomUUID().toString(), engine, myClock.getAsLong());
+            } while (mySessions.putIfAbsent(session.getId(), session) != null);
+            return session;
+        } catch (final RuntimeException e) {
+            myCount.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Looks up a session.
+     *
+     * @param theId the session id
+     * @return the session, or {@code null} if there is none (or it was evicted)
+     */
+    public GameSession get(final String theId) {
+        return theId == null ? null : mySessions.get(theId);
+    }
+
+    /**
+     * Runs an action on a session's game under its lock.
+     *
+     * @param theId     the session id
+     * @param theAction what to do with the engine
+     * @param <T>       the result type
+     * @return what the action returned, or {@code null} if there is no such session
+     */
+    public <T> T call(final String theId, final Function<GameEngine, T> theAction) {
+        final GameSession session = get(theId);
+        return session == null ? null : session.call(myClock.getAsLong(), theAction);
+    }
+
+    /**
+     * Ends a session.
+     *
+     * @param theId the session id
+     * @return whether there was such a session
+     */
+    public boolean remove(final String theId) {
+        if (theId != null && mySessions.remove(theId) != null) {
+            myCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of live sessions
+     */
+    public int size() {
+        return myCount.get();
+    }
+
+    /**
+     * Removes every session unused for longer than the idle timeout.
+     *
+     * @return the number of sessions evicted
+     */
+    public int evictIdle() {
+        final long now = myClock.getAsLong();
+        int evicted = 0;
+        for (final GameSession session : mySessions.values()) {
+            // remove(key, value) so a session ended concurrently is not counted twice
+            if (now - session.getLastAccess() > myIdleNanos && mySessions.remove(session.getId(), session)) {
+                myCount.decrementAndGet();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Starts sweeping idle sessions in the background, four times per idle timeout.
+     * Does nothing if already started.
+     */
+    public synchronized void start() {
+        if (mySweeper != null) return;
+        mySweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread t = new Thread(r, "session-evictor");
+            t.setDaemon(true);
+            return t;
+        });
+        final long period = Math.max(1, myIdleNanos / 4);
+        mySweeper.scheduleAtFixedRate(this::evictIdle, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops the background sweep. Sessions are kept.
+     */
+    @Override
+    public synchronized void close() {
+        if (mySweeper != null) {
+            mySweeper.shutdownNow();
+            mySweeper = null;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package Simulation;
+
+import Model.Direction;
+import Model.Game;
+import Model.MazeGrid;
+import Model.Question;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * How a simulated player picks moves and deals with questions. Strategies must be
+ * stateless (or keep their state in the game), because the {@link Simulator} shares
+ * one strategy across games running in parallel; randomness comes from the
+ * generator passed in, which belongs to the game being played.
+ *
+ * @author Husein & Chan
+ */
+public interface BotStrategy {
+
+    /** What a bot does when a question is put to it. */
+    enum Action {
+        /** Answer straight away. */
+        ANSWER,
+        /** Use a hint if one is allowed, then answer. */
+        HINT,
+        /** Skip, blocking the door, if skipping is allowed; otherwise answer. */
+        SKIP
+    }
+
+    /**
+     * Picks the next door to try from the current room.
+     *
+     * @param theGame   the game being played
+     * @param theRandom this game's random source
+     * @return the direction to try, or {@code null} to give up
+     */
+    Direction chooseMove(Game theGame, RandomGenerator theRandom);
+
+    /**
+     * Decides how to deal with the question guarding a door. The default always answers.
+     *
+     * @param theGame         the game being played
+     * @param theQuestion     the question, or {@code null} if the question pool ran out
+     * @param theAttemptsLeft tries left on the door, {@link Integer#MAX_VALUE} if unlimited
+     * @param theRandom       this game's random source
+     * @return the action to take
+     */
+    default Action onQuestion(final Game theGame, final Question theQuestion, final int theAttemptsLeft,
+                              final RandomGenerator theRandom) {
+        return Action.ANSWER;
+    }
+
+    /**
+     * Returns a bot that tries a random open door each turn.
+     *
+     * @return the strategy
+     */
+    static BotStrategy randomWalk() {
+        return (theGame, theRandom) -> randomOpen(theGame, theRandom, false);
+    }
+
+    /**
+     * Returns a bot that prefers open doors leading closer to the exit, choosing at
+     * random among them, and wanders randomly when none do.
+     *
+     * @return the strategy
+     */
+    static BotStrategy towardExit() {
+        return (theGame, theRandom) -> {
+            final Direction closer = randomOpen(theGame, theRandom, true);
+            return closer != null ? closer : randomOpen(theGame, theRandom, false);
+        };
+    }
+
+    /**
+     * Returns a bot that heads for the exit like {@link #towardExit()} and uses a
+     * hint whenever it is down to its last try on a door.
+     *
+     * @return the strategy
+     */
+    static BotStrategy cautious() {
+        final BotStrategy mover = towardExit();
+        return new BotStrategy() {
+            @Override
+            public Direction chooseMove(final Game theGame, final RandomGenerator theRandom) {
+                return mover.chooseMove(theGame, theRandom);
+            }
+
+            @Override
+            public Action onQuestion(final Game theGame, final Question theQuestion, final int theAttemptsLeft,
+                                     final RandomGenerator theRandom) {
+                return theAttemptsLeft <= 1 ? Action.HINT : Action.ANSWER;
+            }
+        };
+    }
+
+    /**
+     * Picks uniformly among the open doors of the current room.
+     *
+     * @param theCloserOnly only consider doors whose far room is nearer the exit
+     * @return the direction, or {@code null} if there is no such door
+     */
+    private static Direction randomOpen(final Game theGame, final RandomGenerator theRandom,
+                                        final boolean theCloserOnly) {
+        final MazeGrid grid = theGame.getMaze().getGrid();
+        final int cell = theGame.getMaze().getCurrentCell();
+        final int exit = theGame.getMaze().getExitRoom().getCellId();
+        final int here = distance(grid, cell, exit);
+
+        Direction chosen = null;
+        int seen = 0;
+        for (final Direction d : Direction.values()) {
+            if (!grid.canPass(cell, d)) continue;
+            if (theCloserOnly && distance(grid, grid.neighbor(cell, d), exit) >= here) continue;
+            // reservoir sampling: keeps each candidate with equal probability
+            if (theRandom.nextInt(++seen) == 0) chosen = d;
+        }
+        return chosen;
+    }
+
+    /**
+     * Grid (Manhattan) distance between two cells.
+     */
+    private static int distance(final MazeGrid theGrid, final int theA, final int theB) {
+        return Math.abs(theGrid.rowOf(theA) - theGrid.rowOf(theB)) + Math.abs(theGrid.colOf(theA) - theGrid.colOf(theB));
+    }
+}
@@ -0,0 +1,224 @@
+package Simulation;
+
+import Model.DifficultyPresets;
+import Model.DifficultySettings;
+import Model.QuestionCatalog;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Tunes difficulty settings by Monte-Carlo simulation: it plays many bot games for
+ * each candidate setting and keeps the one whose win rate is closest to a target.
+ * The player model is a {@link BotStrategy} with a fixed answer accuracy and hint
+ * bonus, and games follow the real maze blocking and reachability rules, so a
+ * candidate's win rate is what a player of that skill would see.
+ *
+ * <p>Candidates are variants of a base setting over a {@link SearchSpace} of maze
+ * sizes, tries per door and hints. The search screens every candidate with a quarter
+ * of the games, then replays the closest few with the full count to pick the winner.
+ * Every candidate plays from the same seed, so they are compared on the same luck.
+ *
+ * @author Husein & Chan
+ */
+public final class DifficultyBalancer {
+
+    /** Candidates replayed with the full game count after screening. */
+    private static final int SHORTLIST = 5;
+
+    /**
+     * The values each tuned setting may take. Maze sizes are square.
+     *
+     * @param sizes    maze side lengths
+     * @param attempts tries per door (0 is unlimited)
+     * @param hints    hints per game (0 is unlimited)
+     */
+    public record SearchSpace(int[] sizes, int[] attempts, int[] hints) {
+
+        /**
+         * @return mazes from 3x3 to 7x7, one to three tries and one, three or five hints
+         */
+        public static SearchSpace defaults() {
+            return new SearchSpace(new int[] {3, 4, 5, 6, 7}, new int[] {1, 2, 3}, new int[] {1, 3, 5});
+        }
+
+        /**
+         * @return the number of candidates in the space
+         */
+        public int size() {
+            return sizes.length * attempts.length * hints.length;
+        }
+    }
+
+    /**
+     * One simulated setting.
+     *
+     * @param settings the setting played
+     * @param report   how the games went
+     */
+    public record Candidate(DifficultySettings settings, SimulationReport report) {
+
+        /**
+         * @param theTarget the win rate wanted
+         * @return how far this candidate's win rate is from it
+         */
+        public double error(final double theTarget) {
+            return Math.abs(report.winRate() - theTarget);
+        }
+    }
+
+    /** Questions for the simulated games. */
+    private final QuestionCatalog myCatalog;
+
+    /** The player model's strategy. */
+    private final BotStrategy myStrategy;
+
+    /** The player model's chance of a correct answer. */
+    private final double myAccuracy;
+
+    /** The player model's accuracy gain from a hint. */
+    private final double myHintBonus;
+
+    /** Games played per candidate in the final comparison. */
+    private final int myGames;
+
+    /** Seed shared by every candidate. */
+    private final long mySeed;
+
+    /**
+     * Creates a balancer.
+     *
+     * @param theCatalog   questions for the simulated games
+     * @param theStrategy  how the model player moves and uses hints
+     * @param theAccuracy  the model player's chance of a correct answer
+     * @param theHintBonus the model player's accuracy gain from a hint
+     * @param theGames     games per candidate in the final comparison
+     * @param theSeed      seed shared by every candidate
+     * @throws IllegalArgumentException if the game count is less than 4
+     */
+    public DifficultyBalancer(final QuestionCatalog theCatalog, final BotStrategy theStrategy,
+                              final double theAccuracy, final double theHintBonus,
+                              final int theGames, final long theSeed) {
+        if (theGames < 4) {
+            throw new IllegalArgumentException("At least 4 games per candidate are needed");
+        }
+        myCatalog = Objects.requireNonNull(theCatalog);
+        myStrategy = Objects.requireNonNull(theStrategy);
+        myAccuracy = theAccuracy;
+        myHintBonus = theHintBonus;
+        myGames = theGames;
+        mySeed = theSeed;
+    }
+
+    /**
+     * Simulates one setting with the full game count.
+     *
+     * @param theSettings the setting to play
+     * @return the candidate with its report
+     */
+    public Candidate evaluate(final DifficultySettings theSettings) {
+        return evaluate(theSettings, myGames);
+    }
+
+    /**
+     * Simulates every variant of a base setting in the search space with a quarter
+     * of the game count.
+     *
+     * @param theBase  the setting the variants start from
+     * @param theSpace the values to try
+     * @return one candidate per variant, in search-space order
+     */
+    public List<Candidate> sweep(final DifficultySettings theBase, final SearchSpace theSpace) {
+        final List<Candidate> out = new ArrayList<>(theSpace.size());
+        for (final DifficultySettings s : variants(theBase, theSpace)) {
+            out.add(evaluate(s, myGames / 4));
+        }
+        return out;
+    }
+
+    /**
+     * Finds the variant of a base setting whose win rate is closest to a target.
+     *
+     * @param theBase          the setting the variants start from; its name and every
+     *                         value outside the search space are kept
+     * @param theSpace         the values to try
+     * @param theTargetWinRate the win rate wanted, between 0 and 1
+     * @return the best candidate, with a full-count report
+     * @throws IllegalArgumentException if the target is outside 0 to 1
+     */
+    public Candidate balance(final DifficultySettings theBase, final SearchSpace theSpace,
+                             final double theTargetWinRate) {
+        if (!(theTargetWinRate >= 0 && theTargetWinRate <= 1)) {
+            throw new IllegalArgumentException("Target win rate must be between 0 and 1");
+        }
+        final Comparator<Candidate> closest = Comparator.comparingDouble(c -> c.error(theTargetWinRate));
+        final List<Candidate> screened = sweep(theBase, theSpace);
+        screened.sort(closest);
+
+        Candidate best = null;
+        for (final Candidate c : screened.subList(0, Math.min(SHORTLIST, screened.size()))) {
+            final Candidate full = evaluate(c.settings(), myGames);
+            if (best == null || closest.compare(full, best) < 0) best = full;
+        }
+        return best;
+    }
+
+    /**
+     * Builds every variant of the base setting in the search space.
+     */
+    static List<DifficultySettings> variants(final DifficultySettings theBase, final SearchSpace theSpace) {
+        final List<DifficultySettings> out = new ArrayList<>(theSpace.size());
+        for (final int size : theSpace.sizes()) {
+            for (final int attempts : theSpace.attempts()) {
+                for (final int hints : theSpace.hints()) {
+                    out.add(DifficultySettings.Builder.from(theBase)
+                            .mazeSize(size, size)
+                            .maxAttemptsPerDoor(attempts)
+                            .maxHints(hints)
+                            .build());
+                }
+            }
+        }
+        return out;
+    }
+
+    private Candidate evaluate(final DifficultySettings theSettings, final int theGames) {
+        final Simulator sim = new Simulator(myCatalog, theSettings, myStrategy, myAccuracy, myHintBonus);
+        return new Candidate(theSettings, sim.run(theGames, mySeed));
+    }
+
+    /**
+     * Balances the three presets for a model player and prints each one's current
+     * win rate next to the best setting found.
+     * Run with {@code java Simulation.DifficultyBalancer [games] [accuracy]}
+     * (default 4000 games per candidate and 0.75 accuracy). Uses a generated
+     * question bank, since only the count of questions matters to the outcome.
+     *
+     * @param args optional games per candidate and accuracy
+     */
+    public static void main(final String[] args) {
+        final int games = args.length > 0 ? Integer.parseInt(args[0]) : 4000;
+        final double accuracy = args.length > 1 ? Double.parseDouble(args[1]) : 0.75;
+
+        final DifficultyBalancer balancer = new DifficultyBalancer(Simulator.generatedCatalog(),
+                BotStrategy.cautious(), accuracy, 0.2, games, 42);
+        balancer.evaluate(DifficultyPresets.easy()); // warm-up
+
+        final DifficultySettings[] presets = DifficultyPresets.getAllPresets();
+        final double[] targets = {0.9, 0.7, 0.45};
+        final SearchSpace space = SearchSpace.defaults();
+        final long t0 = System.nanoTime();
+        for (int i = 0; i < presets.length; i++) {
+            final Candidate now = balancer.evaluate(presets[i]);
+            final Candidate best = balancer.balance(presets[i], space, targets[i]);
+            System.out.printf("%s: target %.0f%%%n  current %.1f%%  %s%n  best    %.1f%%  %s%n",
+                    presets[i].getDifficultyName(), targets[i] * 100,
+                    now.report().winRate() * 100, now.settings(),
+                    best.report().winRate() * 100, best.settings());
+        }
+        System.out.printf("swept %d candidates x %d presets in %.1f s%n",
+                space.size(), presets.length, (System.nanoTime() - t0) / 1e9);
+    }
+}
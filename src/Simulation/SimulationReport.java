@@ -0,0 +1,47 @@
+package Simulation;
+
+/**
+ * What a batch of simulated games came to.
+ *
+ * @param games           games played
+ * @param wins            games that reached the exit
+ * @param losses          games that ended with no way to the exit
+ * @param stalled         games stopped by the step limit or a bot giving up
+ * @param elapsedNanos    wall-clock time for the whole batch
+ * @param p50Nanos        median time to play one game
+ * @param p90Nanos        90th percentile time to play one game
+ * @param p99Nanos        99th percentile time to play one game
+ * @param maxNanos        slowest game
+ * @param meanQuestions   questions answered per game, on average
+ * @param meanHints       hints used per game, on average
+ *
+ * @author Husein & Chan
+ */
+public record SimulationReport(int games, int wins, int losses, int stalled, long elapsedNanos,
+                               long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos,
+                               double meanQuestions, double meanHints) {
+
+    /**
+     * @return the share of games won, between 0 and 1
+     */
+    public double winRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    /**
+     * @return games completed per second of wall-clock time
+     */
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games: %.1f%% won, %d lost, %d stalled | %.0f games/s | "
+                        + "latency p50 %.1f us, p90 %.1f us, p99 %.1f us, max %.1f us | "
+                        + "%.1f questions, %.2f hints per game",
+                games, winRate() * 100, losses, stalled, gamesPerSecond(),
+                p50Nanos / 1e3, p90Nanos / 1e3, p99Nanos / 1e3, maxNanos / 1e3,
+                meanQuestions, meanHints);
+    }
+}
@@ -0,0 +1,273 @@
+package Simulation;
+
+import Model.DifficultyPresets;
+import Model.DifficultySettings;
+import Model.Direction;
+import Model.Door;
+import Model.Game;
+import Model.GameState;
+import Model.GameStateManager;
+import Model.Maze;
+import Model.Player;
+import Model.Question;
+import Model.QuestionCatalog;
+import Model.QuestionRecord;
+import Model.QuestionRequest;
+import Model.QuestionType;
+import Model.questionFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Plays whole games headlessly with a {@link BotStrategy} standing in for the player,
+ * many at a time across all cores, and reports throughput, win rate and per-game
+ * latency. A bot answers each question correctly with a fixed probability, raised
+ * by the hint bonus after it uses a hint, so the same run doubles as a load generator
+ * and as a way to check how hard each difficulty preset really is.
+ *
+ * <p>Games are independent: each has its own maze, player and {@link questionFactory}
+ * over the shared catalog, and its own random generator split from the run's seed,
+ * so a run's outcomes depend only on the seed, not on the number of threads.
+ *
+ * @author Husein & Chan
+ */
+public final class Simulator {
+
+    /** Default number of bot decisions (moves plus answers) per maze room before a game counts as stalled. */
+    public static final int DEFAULT_STEPS_PER_ROOM = 50;
+
+    /** Game outcomes, as stored per game. */
+    private static final byte WON = 0, LOST = 1, STALLED = 2;
+
+    /** Where every game's questions come from. */
+    private final QuestionCatalog myCatalog;
+
+    /** The difficulty being played. */
+    private final DifficultySettings mySettings;
+
+    /** The bot. */
+    private final BotStrategy myStrategy;
+
+    /** Chance of answering a question correctly. */
+    private final double myAccuracy;
+
+    /** Added to the accuracy after using a hint. */
+    private final double myHintBonus;
+
+    /** Bot decisions allowed per game. */
+    private final int myMaxSteps;
+
+    /**
+     * Creates a simulator.
+     *
+     * @param theCatalog   the question bank shared by all games
+     * @param theSettings  the difficulty to play
+     * @param theStrategy  how the bot plays
+     * @param theAccuracy  chance of a correct answer, between 0 and 1
+     * @param theHintBonus added to the accuracy after a hint, between 0 and 1
+     * @throws IllegalArgumentException if a probability is outside 0 to 1
+     */
+    public Simulator(final QuestionCatalog theCatalog, final DifficultySettings theSettings,
+                     final BotStrategy theStrategy, final double theAccuracy, final double theHintBonus) {
+        if (!(theAccuracy >= 0 && theAccuracy <= 1) || !(theHintBonus >= 0 && theHintBonus <= 1)) {
+            throw new IllegalArgumentException("Accuracy and hint bonus must be between 0 and 1");
+        }
+        myCatalog = Objects.requireNonNull(theCatalog);
+        mySettings = Objects.requireNonNull(theSettings);
+        myStrategy = Objects.requireNonNull(theStrategy);
+        myAccuracy = theAccuracy;
+        myHintBonus = theHintBonus;
+        myMaxSteps = DEFAULT_STEPS_PER_ROOM * theSettings.getMazeWidth() * theSettings.getMazeHeight();
+    }
+
+    /**
+     * Plays a batch of games on all cores.
+     *
+     * @param theGames number of games
+     * @param theSeed  seed the games' random generators are split from
+     * @return the results
+     */
+    public SimulationReport run(final int theGames, final long theSeed) {
+        return run(theGames, theSeed, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Plays a batch of games on a fork-join pool of the given size.
+     *
+     * @param theGames       number of games
+     * @param theSeed        seed the games' random generators are split from
+     * @param theParallelism worker threads
+     * @return the results
+     * @throws IllegalArgumentException if the game count is negative or the parallelism less than 1
+     */
+    public SimulationReport run(final int theGames, final long theSeed, final int theParallelism) {
+        if (theGames < 0 || theParallelism < 1) {
+            throw new IllegalArgumentException("Games must be non-negative and parallelism at least 1");
+        }
+        final long[] nanos = new long[theGames];
+        final byte[] outcomes = new byte[theGames];
+        final int[] questions = new int[theGames];
+        final int[] hints = new int[theGames];
+
+        final long t0 = System.nanoTime();
+        final ForkJoinPool pool = new ForkJoinPool(theParallelism);
+        try {
+            pool.submit(() -> IntStream.range(0, theGames).parallel().forEach(i -> {
+                // a fixed per-game seed keeps outcomes independent of scheduling
+                final SplittableRandom random = new SplittableRandom(theSeed + i * 0x9E3779B97F4A7C15L);
+                final long start = System.nanoTime();
+                final Game game = newGame();
+                outcomes[i] = play(game, random);
+                nanos[i] = System.nanoTime() - start;
+                questions[i] = game.getPlayer().getQuestionsAnswered();
+                hints[i] = hintsUsed(game);
+            })).get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        final long elapsed = System.nanoTime() - t0;
+
+        int wins = 0, losses = 0, stalled = 0;
+        long totalQuestions = 0, totalHints = 0;
+        for (int i = 0; i < theGames; i++) {
+            switch (outcomes[i]) {
+                case WON -> wins++;
+                case LOST -> losses++;
+                default -> stalled++;
+            }
+            totalQuestions += questions[i];
+            totalHints += hints[i];
+        }
+        Arrays.sort(nanos);
+        return new SimulationReport(theGames, wins, losses, stalled, elapsed,
+                percentile(nanos, 0.50), percentile(nanos, 0.90), percentile(nanos, 0.99),
+                theGames == 0 ? 0 : nanos[theGames - 1],
+                theGames == 0 ? 0 : (double) totalQuestions / theGames,
+                theGames == 0 ? 0 : (double) totalHints / theGames);
+    }
+
+    /**
+     * Builds a fresh game the way the controller does, except that questions are
+     * drawn on demand rather than prefetched on the shared thread.
+     */
+    private Game newGame() {
+        final questionFactory qf = new questionFactory(myCatalog, mySettings);
+        final Maze maze = new Maze(mySettings.getMazeHeight(), mySettings.getMazeWidth(), qf, null);
+        return new Game(maze, new Player(), new GameStateManager(), mySettings);
+    }
+
+    /**
+     * Plays one game to the end or to the step limit.
+     *
+     * @return the outcome code
+     */
+    private byte play(final Game theGame, final SplittableRandom theRandom) {
+        final GameStateManager gsm = theGame.getStateManager();
+        int steps = 0;
+        while (gsm.get() == GameState.PLAYING && steps++ < myMaxSteps) {
+            final Direction dir = myStrategy.chooseMove(theGame, theRandom);
+            if (dir == null) break;
+            final QuestionRequest request = theGame.requestQuestion(dir);
+            if (request == null) continue;
+
+            final Door door = request.door();
+            final Question q = request.question();
+            // keep answering this door until through it, it is blocked or the game ends
+            while (gsm.get() == GameState.PLAYING && !door.isBlocked() && steps++ < myMaxSteps) {
+                double accuracy = myAccuracy;
+                switch (myStrategy.onQuestion(theGame, q, theGame.getAttemptsLeft(door), theRandom)) {
+                    case SKIP -> {
+                        if (theGame.canSkip()) {
+                            theGame.skipQuestion(door);
+                            continue;
+                        }
+                    }
+                    case HINT -> {
+                        if (theGame.useHint(q) != null) accuracy = Math.min(1, accuracy + myHintBonus);
+                    }
+                    case ANSWER -> { }
+                }
+                final boolean correct = theRandom.nextDouble() < accuracy;
+                theGame.handleAnswer(door, correct);
+                if (correct) break;
+            }
+        }
+        if (theGame.getMaze().isAtExit()) return WON;
+        return gsm.get() == GameState.GAME_OVER ? LOST : STALLED;
+    }
+
+    /**
+     * Hints used in a game, worked out from what the settings allowed and what is left.
+     */
+    private int hintsUsed(final Game theGame) {
+        final int max = mySettings.getMaxHints();
+        // with unlimited hints the game does not report a count
+        return max == 0 ? 0 : max - theGame.getHintsLeft();
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values.
+     */
+    private static long percentile(final long[] theSorted, final double theFraction) {
+        if (theSorted.length == 0) return 0;
+        final int rank = (int) Math.ceil(theFraction * theSorted.length);
+        return theSorted[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Builds the stand-in question bank the command-line tools use: 500 true/false
+     * questions spread evenly over the difficulty levels. Only the count of questions
+     * matters to a simulated game, so their text does not.
+     *
+     * @return the generated catalog
+     */
+    static QuestionCatalog generatedCatalog() {
+        final List<QuestionRecord> records = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            records.add(new QuestionRecord(QuestionType.TF, "Generated " + i, "true", List.of(), "hint",
+                    QuestionRecord.MIN_DIFFICULTY + i % QuestionRecord.MAX_DIFFICULTY));
+        }
+        return QuestionCatalog.of(records);
+    }
+
+    /**
+     * Plays every difficulty preset with each built-in bot and prints the reports.
+     * Run with {@code java Simulation.Simulator [games] [accuracy] [hintBonus]}
+     * (default 10000, 0.7 and 0.2). Uses the game's question bank, or a generated one
+     * if the bank is empty.
+     *
+     * @param args optional game count, accuracy and hint bonus
+     */
+    public static void main(final String[] args) {
+        final int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        final double accuracy = args.length > 1 ? Double.parseDouble(args[1]) : 0.7;
+        final double hintBonus = args.length > 2 ? Double.parseDouble(args[2]) : 0.2;
+
+        QuestionCatalog catalog = QuestionCatalog.forSource(QuestionCatalog.defaultSource());
+        if (catalog.size() == 0) {
+            catalog = generatedCatalog();
+        }
+
+        final String[] names = {"random walk", "toward exit", "cautious"};
+        final BotStrategy[] bots = {BotStrategy.randomWalk(), BotStrategy.towardExit(), BotStrategy.cautious()};
+        for (final DifficultySettings settings : DifficultyPresets.getAllPresets()) {
+            for (int b = 0; b < bots.length; b++) {
+                final Simulator sim = new Simulator(catalog, settings, bots[b], accuracy, hintBonus);
+                sim.run(Math.max(1, games / 10), 1); // warm-up
+                System.out.printf("%-7s %-12s %s%n", settings.getDifficultyName(), names[b], sim.run(games, 42));
+            }
+        }
+    }
+}
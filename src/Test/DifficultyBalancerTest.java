@@ -0,0 +1,66 @@
+package Test;
+
+import Model.DifficultySettings;
+import Simulation.BotStrategy;
+import Simulation.DifficultyBalancer;
+import Simulation.DifficultyBalancer.Candidate;
+import Simulation.DifficultyBalancer.SearchSpace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A test class for the Monte-Carlo {@link DifficultyBalancer}.
+ * It checks that a sweep covers the search space, that variants keep the base
+ * setting's other values and that harder targets pick harder settings.
+ *
+ * @author Husein & Chan
+ */
+class DifficultyBalancerTest {
+    private DifficultyBalancer balancer;
+    private DifficultySettings base;
+    private final SearchSpace space = new SearchSpace(new int[] {3, 6}, new int[] {1, 3}, new int[] {1});
+
+    /**
+     * Builds a balancer for a 70% accurate player over a small catalog.
+     */
+    @BeforeEach
+    void setUp() {
+        balancer = new DifficultyBalancer(TestCatalogs.trueFalse(100), BotStrategy.towardExit(), 0.7, 0, 400, 5);
+        base = new DifficultySettings.Builder("Base").timeLimit(20).allowSkipping(false).build();
+    }
+
+    /**
+     * Tests that a sweep plays every variant and keeps the base's other values.
+     */
+    @Test
+    void sweepCoversSpace() {
+        List<Candidate> all = balancer.sweep(base, space);
+        assertEquals(space.size(), all.size());
+        for (Candidate c : all) {
+            assertEquals("Base", c.settings().getDifficultyName());
+            assertEquals(20, c.settings().getTimeLimit());
+            assertFalse(c.settings().isAllowSkipping());
+            assertEquals(100, c.report().games());
+        }
+    }
+
+    /**
+     * Tests that an easy target picks a forgiving setting and a hard one a harsh setting.
+     */
+    @Test
+    void targetsPickMatchingSettings() {
+        Candidate easy = balancer.balance(base, space, 1.0);
+        assertEquals(3, easy.settings().getMazeWidth());
+        assertEquals(3, easy.settings().getMaxAttemptsPerDoor());
+        assertEquals(400, easy.report().games());
+
+        Candidate hard = balancer.balance(base, space, 0.0);
+        assertEquals(6, hard.settings().getMazeWidth());
+        assertEquals(1, hard.settings().getMaxAttemptsPerDoor());
+        assertTrue(hard.report().winRate() < easy.report().winRate());
+    }
+}
@@ -1,6 +1,8 @@
 package Test;
 
+import Model.DifficultyPresets;
 import Model.DifficultySettings;
+import Model.QuestionType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -255,6 +257,36 @@ public class DifficultySettingsTest {
             assertEquals(1, settings.getQuestionDifficultyMin());
             assertEquals(4, settings.getQuestionDifficultyMax());
         }
+
+        /**
+         * Tests that {@code Builder.from} copies every value of existing settings
+         * and only changes what is set afterwards.
+         */
+        @Test
+        @DisplayName("Should copy existing settings into a new builder")
+        void testFromExistingSettings() {
+            // Arrange
+            DifficultySettings base = builder
+                    .mazeSize(6, 4)
+                    .timeLimit(30)
+                    .allowSkipping(false)
+                    .questionDifficultyRange(2, 4)
+                    .build();
+
+            // Act
+            DifficultySettings copy = DifficultySettings.Builder.from(base).maxHints(7).build();
+
+            // Assert
+            assertEquals(base.getDifficultyName(), copy.getDifficultyName());
+            assertEquals(6, copy.getMazeWidth());
+            assertEquals(4, copy.getMazeHeight());
+            assertEquals(30, copy.getTimeLimit());
+            assertFalse(copy.isAllowSkipping());
+            assertEquals(2, copy.getQuestionDifficultyMin());
+            assertEquals(4, copy.getQuestionDifficultyMax());
+            assertEquals(7, copy.getMaxHints());
+            assertNotEquals(7, base.getMaxHints()); // the base is untouched
+        }
     }
 
     /**
@@ -357,6 +389,56 @@ public class DifficultySettingsTest {
             assertEquals(20, settings2.getMazeWidth());
             assertEquals(20, settings2.getMazeHeight());
         }
+
+        /**
+         * Tests that question type weights are stored per type and that
+         * turning every type off is rejected.
+         */
+        @Test
+        @DisplayName("Should store question type weights")
+        void testQuestionTypeWeights() {
+            DifficultySettings settings = builder.questionTypeWeights(2, 1, -3).build();
+            assertEquals(2, settings.getQuestionTypeWeight(QuestionType.MC));
+            assertEquals(1, settings.getQuestionTypeWeight(QuestionType.TF));
+            assertEquals(0, settings.getQuestionTypeWeight(QuestionType.FB));
+
+            assertThrows(IllegalArgumentException.class, () ->
+                    new DifficultySettings.Builder("None").questionTypeWeights(0, 0, 0).build());
+        }
+
+        /**
+         * Tests that large-maze mode lifts the size cap up to 1000x1000
+         * and still rejects anything beyond it.
+         */
+        @Test
+        @DisplayName("Should accept large mazes only in large-maze mode")
+        void testLargeMazeMode() {
+            DifficultySettings settings = builder
+                    .largeMaze(true)
+                    .mazeSize(1000, 1000)
+                    .build();
+            assertTrue(settings.isLargeMaze());
+            assertEquals(1000, settings.getMazeWidth());
+
+            assertThrows(IllegalArgumentException.class, () ->
+                    new DifficultySettings.Builder("Huge").largeMaze(true).mazeSize(1001, 10).build());
+        }
+
+        /**
+         * Tests that the large preset builds square mazes across the large-maze range
+         * and rejects sides outside it.
+         */
+        @Test
+        @DisplayName("Should build the large preset for any side from 3 to 1000")
+        void testLargePreset() {
+            DifficultySettings large = DifficultyPresets.large(500);
+            assertTrue(large.isLargeMaze());
+            assertEquals(500, large.getMazeWidth());
+            assertEquals(500, large.getMazeHeight());
+            assertEquals(1000, DifficultyPresets.large(1000).getMazeWidth());
+            assertThrows(IllegalArgumentException.class, () -> DifficultyPresets.large(2));
+            assertThrows(IllegalArgumentException.class, () -> DifficultyPresets.large(1001));
+        }
     }
 
     /**
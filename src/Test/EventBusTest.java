@@ -0,0 +1,115 @@
+package Test;
+
+import Model.DifficultySettings;
+import Model.Direction;
+import Model.EventBus;
+import Model.Game;
+import Model.GameEngine;
+import Model.GameEvent;
+import Model.GameState;
+import Model.questionFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A test class for {@link EventBus} and the events the game publishes on it.
+ *
+ * @author Husein & Chan
+ */
+class EventBusTest {
+
+    /**
+     * Tests that listeners only see their own event type and stop after unsubscribing.
+     */
+    @Test
+    void deliversByType() {
+        EventBus bus = new EventBus();
+        List<GameEvent> seen = new ArrayList<>();
+        Consumer<GameEvent> listener = seen::add;
+        bus.subscribe(GameEvent.StateChanged.class, listener);
+        assertTrue(bus.hasListeners(GameEvent.StateChanged.class));
+        assertFalse(bus.hasListeners(GameEvent.DoorBlocked.class));
+
+        bus.publish(new GameEvent.StateChanged(GameState.PLAYING, GameState.PAUSED));
+        bus.publish(new GameEvent.DoorBlocked(null));
+        assertEquals(List.of(new GameEvent.StateChanged(GameState.PLAYING, GameState.PAUSED)), seen);
+
+        bus.unsubscribe(listener);
+        bus.publish(new GameEvent.StateChanged(GameState.PAUSED, GameState.PLAYING));
+        assertEquals(1, seen.size());
+        assertFalse(bus.hasListeners(GameEvent.StateChanged.class));
+    }
+
+    /**
+     * Tests that a bus with an executor dispatches on the executor's thread.
+     */
+    @Test
+    void dispatchesThroughExecutor() throws InterruptedException {
+        ExecutorService pool = Executors.newSingleThreadExecutor(r -> new Thread(r, "bus-test"));
+        EventBus bus = new EventBus(pool);
+        List<String> threads = new ArrayList<>();
+        bus.subscribe(GameEvent.StateChanged.class, e -> threads.add(Thread.currentThread().getName()));
+        bus.publish(new GameEvent.StateChanged(GameState.PLAYING, GameState.GAME_OVER));
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(List.of("bus-test"), threads);
+    }
+
+    /**
+     * Tests that playing a move publishes the question, the move and no state change.
+     */
+    @Test
+    void gamePublishesEvents() {
+        DifficultySettings settings = new DifficultySettings.Builder("Events").mazeSize(3, 3).build();
+        GameEngine engine = GameEngine.startGame(settings, new questionFactory(TestCatalogs.trueFalse(20)));
+        Game game = engine.getGame();
+
+        List<GameEvent> seen = new ArrayList<>();
+        game.getEvents().subscribe(GameEvent.QuestionAsked.class, seen::add);
+        game.getEvents().subscribe(GameEvent.PlayerMoved.class, seen::add);
+        game.getStateManager().getEvents().subscribe(GameEvent.StateChanged.class, seen::add);
+
+        game.attemptMove(Direction.EAST);
+        GameEvent.QuestionAsked asked = assertInstanceOf(GameEvent.QuestionAsked.class, seen.get(0));
+        game.handleAnswer(asked.door(), asked.question().isCorrect("true"));
+
+        GameEvent.PlayerMoved moved = assertInstanceOf(GameEvent.PlayerMoved.class, seen.get(1));
+        assertEquals(1, moved.to().getCol());
+        assertEquals(2, seen.size());
+
+        game.getStateManager().pause();
+        assertEquals(new GameEvent.StateChanged(GameState.PLAYING, GameState.PAUSED), seen.get(2));
+    }
+
+    /**
+     * Tests that a game and its state manager publish on a bus they are given,
+     * so listeners run on that bus's executor.
+     */
+    @Test
+    void gameUsesSuppliedBus() throws InterruptedException {
+        DifficultySettings settings = new DifficultySettings.Builder("Events").mazeSize(3, 3).build();
+        Game game = GameEngine.startGame(settings, new questionFactory(TestCatalogs.trueFalse(20))).getGame();
+        ExecutorService pool = Executors.newSingleThreadExecutor(r -> new Thread(r, "bus-test"));
+        EventBus bus = new EventBus(pool);
+        game.setEvents(bus);
+        game.getStateManager().setEvents(bus);
+        assertSame(bus, game.getEvents());
+
+        List<String> threads = new ArrayList<>();
+        bus.subscribe(GameEvent.QuestionAsked.class, e -> threads.add(Thread.currentThread().getName()));
+        bus.subscribe(GameEvent.StateChanged.class, e -> threads.add(Thread.currentThread().getName()));
+        game.attemptMove(Direction.EAST);
+        game.getStateManager().pause();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(List.of("bus-test", "bus-test"), threads);
+    }
+}
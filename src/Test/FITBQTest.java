@@ -0,0 +1,94 @@
+package Test;
+import Model.FillInTheBlank;
+import Model.Hint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A test class for the {@link FillInTheBlank} model.
+ * It verifies that typed answers are normalized, that alternates and
+ * equivalent numbers are accepted, and that only small typos are forgiven.
+ *
+ * @author Husein
+ */
+public class FITBQTest {
+    private FillInTheBlank fbQuestion;
+
+    /**
+     * Sets up a question with an accented answer and an alternate before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        fbQuestion = new FillInTheBlank("Which city hosts the Louvre?", "Paris|Lutèce", new Hint("City of light"));
+    }
+
+    /**
+     * Tests that case, surrounding whitespace and punctuation are ignored,
+     * and that the alternate is accepted with or without its accent.
+     */
+    @Test
+    void testNormalizedAndAlternates() {
+        assertTrue(fbQuestion.isCorrect("  PARIS. "));
+        assertTrue(fbQuestion.isCorrect("lutece"));
+        assertEquals("paris", fbQuestion.getCorrectAnswer());
+    }
+
+    /**
+     * Tests that decomposed accents (a letter followed by a combining mark) fold
+     * like precomposed ones instead of splitting the word.
+     */
+    @Test
+    void testDecomposedAccents() {
+        FillInTheBlank river = new FillInTheBlank("Spanish for river?", "Río", null);
+        assertTrue(river.isCorrect("Ri\u0301o"));
+        assertTrue(river.isCorrect("rio"));
+        FillInTheBlank decomposed = new FillInTheBlank("Spanish for year?", "An\u0303o", null);
+        assertTrue(decomposed.isCorrect("Año"));
+        assertTrue(decomposed.isCorrect("ano"));
+        assertFalse(decomposed.isCorrect("an o"));
+    }
+
+    /**
+     * Tests that one typo is forgiven for a medium-length answer, but that
+     * short answers and wrong answers are not.
+     */
+    @Test
+    void testTypoTolerance() {
+        assertTrue(fbQuestion.isCorrect("Pariss"));
+        assertFalse(fbQuestion.isCorrect("Rome"));
+        assertFalse(fbQuestion.isCorrect(null));
+        FillInTheBlank shortAnswer = new FillInTheBlank("Chemical symbol of gold?", "Au", null);
+        assertFalse(shortAnswer.isCorrect("Ag"));
+        FillInTheBlank longAnswer = new FillInTheBlank("Who wrote Hamlet?", "William Shakespeare", null);
+        assertTrue(longAnswer.isCorrect("william shakspear"));
+        assertFalse(longAnswer.isCorrect("william wordsworth"));
+    }
+
+    /**
+     * Tests that numeric answers match equivalent numbers exactly.
+     */
+    @Test
+    void testNumericEquivalence() {
+        FillInTheBlank numeric = new FillInTheBlank("How many meters in a kilometer?", "1000", null);
+        assertTrue(numeric.isCorrect("1,000"));
+        assertTrue(numeric.isCorrect("1000.0"));
+        assertTrue(numeric.isCorrect("thousand"));
+        assertFalse(numeric.isCorrect("1001"));
+        FillInTheBlank word = new FillInTheBlank("How many days in a week?", "seven", null);
+        assertTrue(word.isCorrect("7"));
+        assertFalse(word.isCorrect("eight"));
+    }
+
+    /**
+     * Tests grading an answer read in place from a larger buffer.
+     */
+    @Test
+    void testIsCorrectRange() {
+        StringBuilder buffer = new StringBuilder("rome;  paris ;lutece");
+        assertFalse(fbQuestion.isCorrect(buffer, 0, 4));
+        assertTrue(fbQuestion.isCorrect(buffer, 5, 13));
+        assertTrue(fbQuestion.isCorrect(buffer, 14, 20));
+        assertThrows(IndexOutOfBoundsException.class, () -> fbQuestion.isCorrect(buffer, 14, 30));
+    }
+}
@@ -0,0 +1,153 @@
+package Test;
+
+import Model.DifficultyPresets;
+import Model.DifficultySettings;
+import Model.Direction;
+import Model.GameEngine;
+import Model.GameEngine.Status;
+import Model.GameState;
+import Model.MazeGrid;
+import Model.QuestionType;
+import Model.questionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A test class for the headless {@link GameEngine}.
+ * It plays a small maze of true/false questions whose answer is always "true"
+ * and checks the typed results of moving, answering, hints and skipping.
+ *
+ * @author Husein & Chan
+ */
+class GameEngineTest {
+    private GameEngine engine;
+
+    /**
+     * Starts a 3x3 game with two tries per door, two hints and skipping allowed.
+     */
+    @BeforeEach
+    void setUp() {
+        DifficultySettings settings = new DifficultySettings.Builder("Engine")
+                .mazeSize(3, 3)
+                .maxHints(2)
+                .maxAttemptsPerDoor(2)
+                .allowSkipping(true)
+                .build();
+        engine = GameEngine.startGame(settings, new questionFactory(TestCatalogs.trueFalse(20)));
+    }
+
+    /**
+     * Tests that a move asks a question and only a right answer opens the door and moves the player.
+     */
+    @Test
+    void moveAsksThenAnswerMoves() {
+        assertEquals(Status.NO_DOOR, engine.move(Direction.NORTH).status());
+        assertEquals(Status.NO_QUESTION, engine.answer("true").status());
+
+        GameEngine.MoveResult move = engine.move(Direction.EAST);
+        assertEquals(Status.OK, move.status());
+        assertEquals(QuestionType.TF, move.question().type());
+        assertEquals(2, move.question().attemptsLeft());
+        assertEquals(Status.QUESTION_PENDING, engine.move(Direction.SOUTH).status());
+
+        MazeGrid grid = engine.getGame().getMaze().getGrid();
+        GameEngine.AnswerResult wrong = engine.answer("false");
+        assertFalse(wrong.correct());
+        assertEquals(1, wrong.attemptsLeft());
+        assertFalse(wrong.doorBlocked());
+        assertEquals(0, wrong.state().col());
+        assertFalse(grid.isOpened(grid.edgeId(0, Direction.EAST)));
+
+        GameEngine.AnswerResult right = engine.answer("true");
+        assertTrue(right.correct());
+        assertEquals(1, right.state().col());
+        assertNull(engine.pendingQuestion());
+        assertTrue(grid.isOpened(grid.edgeId(0, Direction.EAST)));
+    }
+
+    /**
+     * Tests that running out of tries blocks the door and ends the pending question.
+     */
+    @Test
+    void lastWrongAnswerBlocksDoor() {
+        engine.move(Direction.EAST);
+        engine.answer("false");
+        GameEngine.AnswerResult last = engine.answer("false");
+        assertTrue(last.doorBlocked());
+        assertEquals(0, last.attemptsLeft());
+        assertNull(engine.pendingQuestion());
+        assertEquals(Status.NO_DOOR, engine.move(Direction.EAST).status());
+    }
+
+    /**
+     * Tests that hints are counted and that skipping blocks the door.
+     */
+    @Test
+    void hintAndSkip() {
+        assertEquals(Status.NO_QUESTION, engine.hint().status());
+        engine.move(Direction.SOUTH);
+        GameEngine.HintResult hint = engine.hint();
+        assertEquals(Status.OK, hint.status());
+        assertEquals(TestCatalogs.HINT, hint.hint());
+        assertEquals(1, hint.hintsLeft());
+        assertEquals(Status.NOT_ALLOWED, engine.hint().status());
+
+        assertEquals(Status.OK, engine.skip().status());
+        assertEquals(Status.NO_DOOR, engine.move(Direction.SOUTH).status());
+    }
+
+    /**
+     * Tests that a door finds no question once the pool has run out, instead of failing.
+     */
+    @Test
+    void runningOutOfQuestions() {
+        DifficultySettings settings = new DifficultySettings.Builder("Scarce").mazeSize(3, 3).build();
+        GameEngine scarce = GameEngine.startGame(settings, new questionFactory(TestCatalogs.trueFalse(1)));
+
+        assertEquals(Status.OK, scarce.move(Direction.EAST).status());
+        assertTrue(scarce.answer("true").correct());
+
+        GameEngine.MoveResult none = scarce.move(Direction.EAST);
+        assertEquals(Status.OUT_OF_QUESTIONS, none.status());
+        assertNull(none.question());
+        assertNull(scarce.pendingQuestion());
+        assertEquals(Status.OUT_OF_QUESTIONS, scarce.move(Direction.SOUTH).status());
+        assertEquals(1, scarce.state().col());
+    }
+
+    /**
+     * Tests that a large maze recycles its questions instead of running out.
+     */
+    @Test
+    void largeMazeRecyclesQuestions() {
+        GameEngine large = GameEngine.startGame(DifficultyPresets.large(500),
+                new questionFactory(TestCatalogs.trueFalse(1), DifficultyPresets.large(500)));
+        for (int i = 0; i < 5; i++) {
+            GameEngine.MoveResult move = large.move(Direction.EAST);
+            assertEquals(Status.OK, move.status());
+            assertEquals("TF 0", move.question().prompt());
+            assertTrue(large.answer("true").correct());
+        }
+        assertEquals(5, large.state().col());
+    }
+
+    /**
+     * Tests that reaching the exit wins and ends the game.
+     */
+    @Test
+    void reachingExitWins() {
+        for (Direction d : List.of(Direction.EAST, Direction.EAST, Direction.SOUTH, Direction.SOUTH)) {
+            assertEquals(Status.OK, engine.move(d).status());
+            assertTrue(engine.answer("t").correct());
+        }
+        GameEngine.Snapshot end = engine.state();
+        assertTrue(end.won());
+        assertEquals(GameState.GAME_OVER, end.state());
+        assertEquals(4, end.questionsAnswered());
+        assertEquals(Status.NOT_PLAYING, engine.move(Direction.WEST).status());
+    }
+}
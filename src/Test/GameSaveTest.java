@@ -0,0 +1,156 @@
+package Test;
+
+import Model.DifficultySettings;
+import Model.Direction;
+import Model.Game;
+import Model.GameEngine;
+import Model.GameSave;
+import Model.GameState;
+import Model.MazeGrid;
+import Model.QuestionCatalog;
+import Model.questionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A test class for the binary {@link GameSave} format.
+ * It plays part of a game, saves it, loads it back and checks that the loaded game
+ * is where the saved one left off, and that bad data is refused.
+ *
+ * @author Husein & Chan
+ */
+class GameSaveTest {
+    private QuestionCatalog catalog;
+    private GameEngine engine;
+
+    /**
+     * Plays a 4x3 game one room east, then uses a hint and a wrong answer on the door south.
+     */
+    @BeforeEach
+    void setUp() {
+        catalog = TestCatalogs.trueFalse(30);
+        DifficultySettings settings = new DifficultySettings.Builder("Saved")
+                .mazeSize(4, 3)
+                .maxHints(2)
+                .maxAttemptsPerDoor(3)
+                .timeLimit(45)
+                .build();
+        engine = GameEngine.startGame(settings, new questionFactory(catalog));
+        engine.move(Direction.EAST);
+        engine.answer("true");
+        engine.move(Direction.SOUTH);
+        engine.hint();
+        engine.answer("false");
+    }
+
+    /**
+     * Tests that a saved file loads back to the same position, progress, doors and questions,
+     * including the door the player opened by answering its question.
+     */
+    @Test
+    void roundTrip(@TempDir final Path dir) throws IOException {
+        Game saved = engine.getGame();
+        MazeGrid savedGrid = saved.getMaze().getGrid();
+        assertTrue(savedGrid.isOpened(savedGrid.edgeId(0, Direction.EAST)), "answered door should be open");
+        savedGrid.block(savedGrid.edgeId(11, Direction.WEST));
+        savedGrid.block(savedGrid.edgeId(11, Direction.NORTH));
+        Path file = dir.resolve("game.sav");
+        GameSave.save(saved, file);
+        Game loaded = GameSave.load(file, new questionFactory(catalog));
+
+        assertEquals("Saved", loaded.getSettings().getDifficultyName());
+        assertEquals(4, loaded.getSettings().getMazeWidth());
+        assertEquals(45, loaded.getSettings().getTimeLimit());
+        assertEquals(GameState.PLAYING, loaded.getStateManager().get());
+        assertEquals(saved.getMaze().getCurrentCell(), loaded.getMaze().getCurrentCell());
+        assertEquals(1, loaded.getPlayer().getY());
+        assertEquals(saved.getPlayer().getScore(), loaded.getPlayer().getScore());
+        assertEquals(saved.getPlayer().getQuestionsAnswered(), loaded.getPlayer().getQuestionsAnswered());
+        assertEquals(1, loaded.getHintsLeft());
+
+        Model.Door south = loaded.getMaze().getDoor(Direction.SOUTH);
+        assertEquals(2, loaded.getAttemptsLeft(south));
+        assertEquals(saved.getMaze().getDoor(Direction.SOUTH).getQuestion().getPrompt(),
+                south.getQuestion().getPrompt());
+        assertTrue(south.getQuestion().getHint().isUsed());
+
+        MazeGrid grid = loaded.getMaze().getGrid();
+        assertTrue(grid.isOpened(grid.edgeId(0, Direction.EAST)));
+        assertTrue(grid.isBlocked(grid.edgeId(11, Direction.WEST)));
+        assertFalse(grid.canReachExit(1));
+        assertTrue(grid.isVisited(1));
+        assertFalse(grid.isVisited(2));
+
+        GameEngine resumed = new GameEngine(loaded);
+        assertEquals(south.getQuestion().getPrompt(), resumed.move(Direction.SOUTH).question().prompt());
+        assertTrue(resumed.answer("true").correct());
+        assertEquals(1, resumed.state().row());
+    }
+
+    /**
+     * Tests that a question whose catalog entry changed is replaced instead of mislabelled.
+     */
+    @Test
+    void changedCatalogDrawsReplacement() throws IOException {
+        byte[] data = GameSave.encode(engine.getGame());
+        Game loaded = GameSave.decode(data, new questionFactory(TestCatalogs.trueFalse("Other ", 30)));
+        assertTrue(loaded.getMaze().getDoor(Direction.SOUTH).getQuestion().getPrompt().startsWith("Other"));
+    }
+
+    /**
+     * Tests that a loaded game never serves a restored question again on another door,
+     * even when its factory is reshuffled and reused the way the controller does.
+     */
+    @Test
+    void restoredQuestionsAreNotRepeated() throws IOException {
+        questionFactory qf = new questionFactory(TestCatalogs.trueFalse(3));
+        GameEngine first = GameEngine.startGame(new DifficultySettings.Builder("Few").mazeSize(3, 3).build(), qf);
+        String east = first.move(Direction.EAST).question().prompt();
+        first.answer("true");
+
+        Game loaded = GameSave.decode(GameSave.encode(first.getGame()), settings -> {
+            qf.reset();
+            return qf;
+        });
+        GameEngine resumed = new GameEngine(loaded);
+        List<String> seen = new ArrayList<>(List.of(east));
+        for (Direction d : List.of(Direction.SOUTH, Direction.EAST)) {
+            GameEngine.MoveResult move = resumed.move(d);
+            assertEquals(GameEngine.Status.OK, move.status());
+            assertFalse(seen.contains(move.question().prompt()), "repeated " + move.question().prompt());
+            seen.add(move.question().prompt());
+            assertTrue(resumed.answer("true").correct());
+        }
+        assertEquals(GameEngine.Status.OUT_OF_QUESTIONS, resumed.move(Direction.SOUTH).status());
+    }
+
+    /**
+     * Tests that foreign, newer and truncated data is refused with an IOException.
+     */
+    @Test
+    void rejectsBadData() {
+        byte[] data = GameSave.encode(engine.getGame());
+        questionFactory qf = new questionFactory(catalog);
+
+        assertThrows(IOException.class, () -> GameSave.decode(new byte[] {1, 2, 3}, qf));
+
+        byte[] foreign = data.clone();
+        foreign[0] = 'X';
+        assertThrows(IOException.class, () -> GameSave.decode(foreign, qf));
+
+        byte[] newer = data.clone();
+        newer[5] = (byte) (GameSave.VERSION + 1);
+        assertThrows(IOException.class, () -> GameSave.decode(newer, qf));
+
+        assertThrows(IOException.class, () -> GameSave.decode(Arrays.copyOf(data, data.length - 3), qf));
+    }
+}
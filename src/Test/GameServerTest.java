@@ -0,0 +1,88 @@
+package Test;
+
+import Server.GameServer;
+import Server.SessionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A test class for the HTTP front end, {@link GameServer}.
+ * It plays one move over a local socket and checks the error responses.
+ *
+ * @author Husein & Chan
+ */
+class GameServerTest {
+    private GameServer server;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    /**
+     * Starts a server on a free port over a catalog of "true" questions.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new GameServer(0, new SessionManager(TestCatalogs.trueFalse("Question \"", 30)));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    /**
+     * Tests starting a game, asking a question, answering it and ending the game.
+     */
+    @Test
+    void playsOverHttp() throws Exception {
+        HttpResponse<String> created = send("POST", "/sessions?difficulty=easy", "");
+        assertEquals(201, created.statusCode());
+        Matcher m = Pattern.compile("\"id\":\"([^\"]+)\"").matcher(created.body());
+        assertTrue(m.find(), created.body());
+        String id = m.group(1);
+
+        HttpResponse<String> move = send("POST", "/sessions/" + id + "/move?dir=east", "");
+        assertEquals(200, move.statusCode());
+        assertTrue(move.body().contains("\"status\":\"OK\""), move.body());
+        assertTrue(move.body().contains("\\\""), "prompt quotes are escaped: " + move.body());
+
+        HttpResponse<String> answer = send("POST", "/sessions/" + id + "/answer", "true");
+        assertTrue(answer.body().contains("\"correct\":true"), answer.body());
+        assertTrue(answer.body().contains("\"col\":1"), answer.body());
+
+        assertEquals(204, send("DELETE", "/sessions/" + id, "").statusCode());
+        assertEquals(404, send("GET", "/sessions/" + id, "").statusCode());
+    }
+
+    /**
+     * Tests the responses to bad requests.
+     */
+    @Test
+    void rejectsBadRequests() throws Exception {
+        assertEquals(400, send("POST", "/sessions?difficulty=impossible", "").statusCode());
+        assertEquals(405, send("GET", "/sessions", "").statusCode());
+        assertEquals(404, send("POST", "/sessions/nope/hint", "").statusCode());
+
+        String id = send("POST", "/sessions", "").body().replaceAll(".*\"id\":\"([^\"]+)\".*", "$1");
+        assertEquals(400, send("POST", "/sessions/" + id + "/move?dir=up", "").statusCode());
+        assertEquals(404, send("POST", "/sessions/" + id + "/fly", "").statusCode());
+    }
+
+    private HttpResponse<String> send(final String theMethod, final String thePath, final String theBody)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + thePath))
+                .method(theMethod, HttpRequest.BodyPublishers.ofString(theBody))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
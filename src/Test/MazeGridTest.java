@@ -0,0 +1,177 @@
+package Test;
+
+import Model.Direction;
+import Model.MazeGrid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A test class for the {@link MazeGrid} model.
+ * It verifies cell and edge numbering, door state bits and the
+ * primitive path search used by {@link Model.Maze}.
+ *
+ * @author Husein
+ */
+class MazeGridTest {
+    private MazeGrid grid;
+
+    /**
+     * Sets up a 3x4 grid before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        grid = new MazeGrid(3, 4);
+    }
+
+    /**
+     * Tests that cell ids are row-major and map back to their coordinates.
+     */
+    @Test
+    void cellIdsRoundTrip() {
+        assertEquals(12, grid.getCellCount());
+        assertEquals(6, grid.cellId(1, 2));
+        assertEquals(1, grid.rowOf(6));
+        assertEquals(2, grid.colOf(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.cellId(3, 0));
+    }
+
+    /**
+     * Tests that the two rooms sharing a door see the same edge id,
+     * and that border cells have no door leading out of the grid.
+     */
+    @Test
+    void edgesAreSharedAndBounded() {
+        final int cell = grid.cellId(1, 1);
+        assertEquals(grid.edgeId(cell, Direction.EAST),
+                grid.edgeId(grid.neighbor(cell, Direction.EAST), Direction.WEST));
+        assertEquals(grid.edgeId(cell, Direction.SOUTH),
+                grid.edgeId(grid.neighbor(cell, Direction.SOUTH), Direction.NORTH));
+
+        assertEquals(-1, grid.edgeId(0, Direction.NORTH));
+        assertEquals(-1, grid.edgeId(0, Direction.WEST));
+        assertEquals(-1, grid.edgeId(grid.cellId(2, 3), Direction.EAST));
+        assertEquals(-1, grid.neighbor(grid.cellId(2, 3), Direction.SOUTH));
+    }
+
+    /**
+     * Tests that block and open toggle the packed door state.
+     */
+    @Test
+    void blockAndOpen() {
+        final int edge = grid.edgeId(0, Direction.EAST);
+        assertTrue(grid.canPass(0, Direction.EAST));
+        grid.block(edge);
+        assertTrue(grid.isBlocked(edge));
+        assertFalse(grid.canPass(1, Direction.WEST));
+        grid.open(edge);
+        assertFalse(grid.isBlocked(edge));
+        assertTrue(grid.isOpened(edge));
+    }
+
+    /**
+     * Tests that a path disappears once every door around the goal is blocked.
+     */
+    @Test
+    void pathClosesWhenGoalIsWalledIn() {
+        final int exit = grid.getCellCount() - 1;
+        assertTrue(grid.hasPath(0, exit));
+        grid.block(grid.edgeId(exit, Direction.NORTH));
+        assertTrue(grid.hasPath(0, exit));
+        grid.block(grid.edgeId(exit, Direction.WEST));
+        assertFalse(grid.hasPath(0, exit));
+    }
+
+    /**
+     * Tests that tracked exit reachability agrees with a full BFS after
+     * every door in a random blocking order.
+     */
+    @Test
+    void trackedReachabilityMatchesBfs() {
+        final MazeGrid big = new MazeGrid(12, 9);
+        final int exit = big.getCellCount() - 1;
+        big.trackExit(exit);
+        final Random rnd = new Random(42);
+
+        for (int i = 0; i < 150; i++) {
+            final int cell = rnd.nextInt(big.getCellCount());
+            final Direction d = Direction.values()[rnd.nextInt(4)];
+            final int edge = big.edgeId(cell, d);
+            if (edge < 0) continue;
+            big.block(edge);
+            for (int c = 0; c < big.getCellCount(); c += 7) {
+                assertEquals(big.hasPath(c, exit), big.canReachExit(c), "cell " + c + " after " + i + " blocks");
+            }
+        }
+    }
+
+    /**
+     * Tests that cached exit distances agree with a fresh BFS while doors are
+     * blocked and reopened in a random order.
+     */
+    @Test
+    void cachedDistancesMatchBfs() {
+        final MazeGrid big = new MazeGrid(10, 11);
+        final int exit = big.getCellCount() - 1;
+        big.trackExit(exit);
+        assertEquals(19, big.distanceToExit(0));
+        final Random rnd = new Random(7);
+
+        for (int i = 0; i < 300; i++) {
+            final int edge = big.edgeId(rnd.nextInt(big.getCellCount()), Direction.values()[rnd.nextInt(4)]);
+            if (edge < 0) continue;
+            if (rnd.nextInt(3) == 0) big.open(edge);
+            else big.block(edge);
+            final int[] expected = bfsDistances(big, exit);
+            for (int c = 0; c < big.getCellCount(); c += 3) {
+                assertEquals(expected[c], big.distanceToExit(c), "cell " + c + " after " + i + " changes");
+            }
+        }
+    }
+
+    /**
+     * Computes distances to a goal with a plain BFS, -1 where unreachable.
+     */
+    private static int[] bfsDistances(final MazeGrid theGrid, final int theGoal) {
+        final int[] dist = new int[theGrid.getCellCount()];
+        Arrays.fill(dist, -1);
+        final ArrayDeque<Integer> queue = new ArrayDeque<>();
+        dist[theGoal] = 0;
+        queue.add(theGoal);
+        while (!queue.isEmpty()) {
+            final int cell = queue.poll();
+            for (final Direction d : Direction.values()) {
+                if (!theGrid.canPass(cell, d)) continue;
+                final int nxt = theGrid.neighbor(cell, d);
+                if (dist[nxt] < 0) {
+                    dist[nxt] = dist[cell] + 1;
+                    queue.add(nxt);
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Tests that opening a blocked door reconnects the cut-off side.
+     */
+    @Test
+    void openingDoorRestoresReachability() {
+        final int exit = grid.getCellCount() - 1;
+        grid.trackExit(exit);
+        final int north = grid.edgeId(exit, Direction.NORTH);
+        final int west = grid.edgeId(exit, Direction.WEST);
+        grid.block(north);
+        grid.block(west);
+        assertFalse(grid.canReachExit(0));
+        assertTrue(grid.canReachExit(exit));
+
+        grid.open(west);
+        assertTrue(grid.canReachExit(0));
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -107,6 +109,22 @@ class MazeTest {
         r11 = maze.getRoom(1, 1);
     }
 
+    /**
+     * Tests that question refills go to the executor the maze is given,
+     * and that a maze without one draws questions on demand.
+     */
+    @Test
+    void refillsRunOnTheGivenExecutor() {
+        QuestionCatalog catalog = TestCatalogs.trueFalse(5);
+
+        List<Runnable> refills = new ArrayList<>();
+        new Maze(2, 2, new questionFactory(catalog), refills::add);
+        assertEquals(1, refills.size(), "Building the maze should queue one refill");
+
+        Maze onDemand = new Maze(2, 2, new questionFactory(catalog), null);
+        assertNotNull(onDemand.bindQuestion(onDemand.getDoor(Direction.EAST)));
+    }
+
     /**
      * Tests the maze's dimensions and the ability to access specific rooms
      * using coordinates. It also verifies that invalid coordinates
@@ -232,4 +250,26 @@ class MazeTest {
         }
         assertFalse(maze.hasPathToExitFromCurrent());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that a maze draws no questions at construction and binds one
+     * only when a door is first tried, keeping it for later tries.
+     */
+    @Test
+    void questionsBindOnFirstTry() {
+        StubFactory f = filledFactory(3);
+        Maze big = new Maze(300, 300, f);
+        assertEquals(0, big.getMaterializedCount());
+
+        Door east = big.getDoor(Direction.EAST);
+        assertNull(east.getQuestion());
+        Question q = big.bindQuestion(east);
+        assertNotNull(q);
+        assertSame(q, big.bindQuestion(big.getDoor(Direction.EAST)));
+        assertSame(q, east.getQuestion());
+        assertTrue(big.getMaterializedCount() < 5);
+
+        Door foreign = maze.getDoor(Direction.EAST);
+        assertThrows(IllegalArgumentException.class, () -> big.bindQuestion(foreign));
+    }
+}
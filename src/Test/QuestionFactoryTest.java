@@ -0,0 +1,187 @@
+package Test;
+
+import Model.DifficultySettings;
+import Model.MultipleChoiceQuestion;
+import Model.Question;
+import Model.QuestionCatalog;
+import Model.QuestionDeck;
+import Model.QuestionRecord;
+import Model.QuestionType;
+import Model.questionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A test class for {@link questionFactory} over an in-memory {@link QuestionCatalog}.
+ * It verifies that a factory serves every question exactly once and that
+ * games sharing a catalog do not share question state.
+ *
+ * @author Husein & Chan
+ */
+class QuestionFactoryTest {
+    private QuestionCatalog catalog;
+
+    /**
+     * Builds a small catalog with a few questions of each type before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        List<QuestionRecord> records = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            records.add(new QuestionRecord(QuestionType.TF, "TF " + i, "true", List.of(), "tf hint"));
+            records.add(new QuestionRecord(QuestionType.FB, "FB " + i, "answer", List.of(), null));
+            records.add(new QuestionRecord(QuestionType.MC, "MC " + i, "B",
+                    List.of("a", "b", "c", "d"), "mc hint"));
+        }
+        catalog = QuestionCatalog.of(records);
+    }
+
+    /**
+     * Tests that a factory hands out every catalog question once and then returns null.
+     */
+    @Test
+    void servesEachQuestionOnce() {
+        questionFactory qf = new questionFactory(catalog);
+        Set<String> prompts = new HashSet<>();
+        Question q;
+        while ((q = qf.getNextAvailableQuestion()) != null) {
+            assertTrue(prompts.add(q.getPrompt()), "repeated " + q.getPrompt());
+        }
+        assertEquals(catalog.size(), prompts.size());
+    }
+
+    /**
+     * Tests that invalid records are dropped when the catalog is built.
+     */
+    @Test
+    void invalidRecordsAreSkipped() {
+        QuestionCatalog bad = QuestionCatalog.of(List.of(
+                new QuestionRecord(QuestionType.MC, "No options", "A", List.of(), null),
+                new QuestionRecord(QuestionType.FB, " ", "x", List.of(), null),
+                new QuestionRecord(QuestionType.TF, "Fine", "false", List.of(), null)));
+        assertEquals(1, bad.size());
+    }
+
+    /**
+     * Tests that using a hint in one game does not use it up in another game
+     * drawing from the same catalog.
+     */
+    @Test
+    void hintsAreNotSharedBetweenGames() {
+        Question first = catalog.create(0);
+        Question second = catalog.create(0);
+        assertNotSame(first, second);
+        first.getHint().useHint();
+        assertFalse(second.getHint().isUsed());
+    }
+
+    /**
+     * Tests that a type with weight 0 is never drawn and the factory runs
+     * out once the weighted types are used up.
+     */
+    @Test
+    void typeWeightsFromSettings() {
+        DifficultySettings mcOnly = new DifficultySettings.Builder("MC only")
+                .questionTypeWeights(1, 0, 0)
+                .build();
+        questionFactory qf = new questionFactory(catalog, mcOnly);
+        for (int i = 0; i < 4; i++) {
+            assertInstanceOf(MultipleChoiceQuestion.class, qf.getNextAvailableQuestion());
+        }
+        assertNull(qf.getNextAvailableQuestion());
+    }
+
+    /**
+     * Tests that questions inside the difficulty range come first and the
+     * nearest levels follow once the range is used up.
+     */
+    @Test
+    void difficultyRangeThenNearestFallback() {
+        List<QuestionRecord> records = new ArrayList<>();
+        for (int d = 1; d <= 5; d++) {
+            for (int i = 0; i < 2; i++) {
+                records.add(new QuestionRecord(QuestionType.FB, "FB " + d + "-" + i, "x", List.of(), null, d));
+            }
+        }
+        QuestionCatalog rated = QuestionCatalog.of(records);
+        assertEquals(2, rated.count(QuestionType.FB, 3));
+
+        DifficultySettings mid = new DifficultySettings.Builder("Mid")
+                .questionDifficultyRange(3, 3)
+                .build();
+        questionFactory qf = new questionFactory(rated, mid);
+        List<Character> levels = new ArrayList<>();
+        Question q;
+        while ((q = qf.getNextAvailableQuestion()) != null) {
+            levels.add(q.getPrompt().charAt(3));
+        }
+        assertEquals(List.of('3', '3', '2', '2', '4', '4', '1', '1', '5', '5'), levels);
+    }
+
+    /**
+     * Tests that nothing outside the range is served without a fallback.
+     */
+    @Test
+    void noFallbackStaysInRange() {
+        List<QuestionRecord> records = List.of(
+                new QuestionRecord(QuestionType.TF, "Easy", "true", List.of(), null, 1),
+                new QuestionRecord(QuestionType.TF, "Hard", "true", List.of(), null, 4));
+        DifficultySettings hard = new DifficultySettings.Builder("Hard")
+                .questionDifficultyRange(3, 5)
+                .questionFallback(DifficultySettings.QuestionFallback.NONE)
+                .build();
+        questionFactory qf = new questionFactory(QuestionCatalog.of(records), hard);
+        assertEquals("Hard", qf.getNextAvailableQuestion().getPrompt());
+        assertNull(qf.getNextAvailableQuestion());
+    }
+
+    /**
+     * Tests that reset makes every question available again for the next game.
+     */
+    @Test
+    void resetServesTheDeckAgain() {
+        questionFactory qf = new questionFactory(catalog);
+        int served = 0;
+        while (qf.getNextAvailableQuestion() != null) served++;
+        qf.reset();
+        Set<String> prompts = new HashSet<>();
+        Question q;
+        while ((q = qf.getNextAvailableQuestion()) != null) prompts.add(q.getPrompt());
+        assertEquals(served, prompts.size());
+    }
+
+    /**
+     * Tests that a recycling factory keeps serving after its decks run out,
+     * and that a tiered deck deals every id of a tier before the next one.
+     */
+    @Test
+    void recyclingAndTiers() {
+        questionFactory qf = new questionFactory(catalog);
+        qf.setRecycling(true);
+        for (int i = 0; i < catalog.size() * 3; i++) {
+            assertNotNull(qf.getNextAvailableQuestion());
+        }
+
+        QuestionDeck deck = new QuestionDeck(new int[] {0, 1, 2, 3, 4}, new int[] {2, 5}, new Random(7));
+        for (int round = 0; round < 2; round++) {
+            assertTrue(deck.next() < 2);
+            assertTrue(deck.next() < 2);
+            assertTrue(deck.next() >= 2);
+            assertEquals(2, deck.remaining());
+            deck.nextRecycling();
+            deck.nextRecycling();
+            assertFalse(deck.hasNext());
+            deck.reset();
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionDeck(new int[] {1, 2}, new int[] {1}, new Random()));
+    }
+}
@@ -0,0 +1,89 @@
+package Test;
+
+import Model.QuestionCatalog;
+import Model.QuestionImporter;
+import Model.QuestionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A test class for {@link QuestionImporter}.
+ * It verifies that CSV and JSON Lines dumps land in the database in the
+ * form the question catalog reads, with bad rows and duplicates skipped.
+ *
+ * @author Husein & Chan
+ */
+class QuestionImporterTest {
+
+    @TempDir
+    Path dir;
+
+    private String url;
+
+    /**
+     * Points the importer at a fresh database file before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        url = "jdbc:sqlite:" + dir.resolve("bank.db");
+    }
+
+    /**
+     * Tests a CSV import with quoted fields, an MC answer given as option text,
+     * an invalid row and a duplicate prompt.
+     */
+    @Test
+    void importsCsv() throws Exception {
+        String csv = """
+                type,question,correct_answer,option_a,option_b,option_c,option_d,hint,difficulty
+                MC,"Largest planet, by mass?",Jupiter,Mars,Jupiter,Venus,Earth,"It has a ""Great"" spot",3
+                TF,Water boils at 100C at sea level,T,,,,,,
+                FB,"Capital of
+                France",Paris,,,,,,1
+                MC,Missing options,A,,,,,,
+                TF,  water BOILS at 100C at sea level!,false,,,,,,
+                """;
+        QuestionImporter.Result r = new QuestionImporter(url, 2).importCsv(new StringReader(csv));
+        assertEquals(5, r.read());
+        assertEquals(3, r.imported());
+        assertEquals(1, r.duplicates());
+        assertEquals(1, r.rejected());
+        assertTrue(r.errors().get(0).startsWith("line 6"), r.errors().toString());
+
+        QuestionCatalog catalog = QuestionCatalog.forDatabase(url);
+        assertEquals(3, catalog.size());
+        assertEquals("B", catalog.get(catalog.idsOf(QuestionType.MC, 3, 3)[0]).correct());
+        assertEquals("It has a \"Great\" spot", catalog.get(catalog.idsOf(QuestionType.MC, 3, 3)[0]).hint());
+        assertEquals("Capital of\nFrance", catalog.get(catalog.idsOf(QuestionType.FB, 1, 1)[0]).prompt());
+        assertEquals("true", catalog.get(catalog.idsOfType(QuestionType.TF)[0]).correct());
+    }
+
+    /**
+     * Tests a JSON Lines import, including a malformed line, and that importing
+     * again skips everything already in the bank.
+     */
+    @Test
+    void importsJsonlAndSkipsExisting() throws Exception {
+        String jsonl = """
+                {"type": "MC", "prompt": "2 + 2?", "answer": "b", "options": ["3", "4", "5", "6"]}
+                {"type": "FB", "question": "Caf\\u00e9 is French for?", "correct_answer": "coffee", "hint": null}
+                {"type": "TF", "question": "broken
+                """;
+        QuestionImporter importer = new QuestionImporter(url);
+        QuestionImporter.Result first = importer.importJsonl(new StringReader(jsonl));
+        assertEquals(2, first.imported());
+        assertEquals(1, first.rejected());
+
+        QuestionImporter.Result second = importer.importJsonl(new StringReader(jsonl));
+        assertEquals(0, second.imported());
+        assertEquals(2, second.duplicates());
+        assertEquals("Café is French for?", QuestionCatalog.forDatabase(url)
+                .get(QuestionCatalog.forDatabase(url).idsOfType(QuestionType.FB)[0]).prompt());
+    }
+}
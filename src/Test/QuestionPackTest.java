@@ -0,0 +1,72 @@
+package Test;
+
+import Model.Question;
+import Model.QuestionCatalog;
+import Model.QuestionPack;
+import Model.QuestionRecord;
+import Model.QuestionType;
+import Model.questionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A test class for the binary {@link QuestionPack} format.
+ * It verifies that a compiled pack reads back the same questions
+ * and that files which are not packs are rejected.
+ *
+ * @author Husein & Chan
+ */
+class QuestionPackTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Tests that every record, including options, hints and difficulty,
+     * survives a write and a mapped read.
+     */
+    @Test
+    void roundTrip() throws IOException {
+        QuestionCatalog source = QuestionCatalog.of(List.of(
+                new QuestionRecord(QuestionType.MC, "Pick B", "B", List.of("a", "b", "c", "d"), "not a", 3),
+                new QuestionRecord(QuestionType.TF, "Sky is blue", "true", List.of(), null, 1),
+                new QuestionRecord(QuestionType.FB, "Capital of France", "Paris", List.of(), "Eiffel", 5),
+                new QuestionRecord(QuestionType.TF, "Snow is hot", "false", List.of(), "brr", 1)));
+        Path file = dir.resolve("bank.pack");
+        QuestionPack.write(source, file);
+
+        QuestionCatalog packed = QuestionCatalog.forPack(file);
+        assertEquals(source.size(), packed.size());
+        for (int id = 0; id < source.size(); id++) {
+            assertEquals(source.get(id), packed.get(id));
+        }
+        assertEquals(2, packed.count(QuestionType.TF, 1));
+        assertEquals("Eiffel", packed.create(packed.idsOf(QuestionType.FB, 5, 5)[0]).getHint().useHint());
+
+        questionFactory qf = new questionFactory(file.toString());
+        Set<String> prompts = new HashSet<>();
+        Question q;
+        while ((q = qf.getNextAvailableQuestion()) != null) prompts.add(q.getPrompt());
+        assertEquals(source.size(), prompts.size());
+    }
+
+    /**
+     * Tests that a file without the pack header is refused and yields an empty catalog.
+     */
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path file = dir.resolve("junk.pack");
+        Files.writeString(file, "definitely not a question pack, just some text padding it out");
+        assertThrows(IOException.class, () -> QuestionPack.open(file));
+        assertEquals(0, QuestionCatalog.forPack(file).size());
+    }
+}
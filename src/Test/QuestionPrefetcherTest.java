@@ -0,0 +1,112 @@
+package Test;
+
+import Model.Question;
+import Model.QuestionPrefetcher;
+import Model.questionFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A test class for {@link QuestionPrefetcher}.
+ * It verifies that questions drawn ahead are handed out once each, and that a
+ * caller racing a refill for the last question still gets it.
+ *
+ * @author Husein & Chan
+ */
+class QuestionPrefetcherTest {
+
+    /**
+     * Tests that a prefetcher without a refill executor draws on demand and
+     * returns null once the factory is empty.
+     */
+    @Test
+    void drawsOnDemandUntilEmpty() {
+        QuestionPrefetcher prefetcher = new QuestionPrefetcher(new questionFactory(TestCatalogs.trueFalse(3)), 2, null);
+        prefetcher.prime();
+        assertEquals(0, prefetcher.buffered());
+        for (int i = 0; i < 3; i++) {
+            assertNotNull(prefetcher.next());
+        }
+        assertNull(prefetcher.next());
+    }
+
+    /**
+     * Tests that refilling in the background hands out every question exactly once.
+     */
+    @Test
+    void servesEachQuestionOnce() {
+        ExecutorService refiller = Executors.newSingleThreadExecutor();
+        try {
+            QuestionPrefetcher prefetcher = new QuestionPrefetcher(new questionFactory(TestCatalogs.trueFalse(50)), 4, refiller);
+            prefetcher.prime();
+            Set<String> prompts = new HashSet<>();
+            Question q;
+            while ((q = prefetcher.next()) != null) {
+                assertTrue(prompts.add(q.getPrompt()), "repeated " + q.getPrompt());
+            }
+            assertEquals(50, prompts.size());
+        } finally {
+            refiller.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that when a refill has drawn the last question but not yet buffered it,
+     * a caller finding the buffer empty waits for it instead of returning null.
+     */
+    @Test
+    void callerGetsQuestionTakenByRefill() throws Exception {
+        CountDownLatch drawn = new CountDownLatch(1);
+        CompletableFuture<Void> resume = new CompletableFuture<>();
+        questionFactory factory = new questionFactory(TestCatalogs.trueFalse(1)) {
+            @Override
+            public synchronized Question getNextAvailableQuestion() {
+                Question q = super.getNextAvailableQuestion();
+                if (q != null && Thread.currentThread().getName().equals("refill")) {
+                    drawn.countDown();
+                    resume.join(); // hold the refill between drawing and buffering
+                }
+                return q;
+            }
+        };
+        ExecutorService refiller = Executors.newSingleThreadExecutor(r -> new Thread(r, "refill"));
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            QuestionPrefetcher prefetcher = new QuestionPrefetcher(factory, 1, refiller);
+            prefetcher.prime();
+            assertTrue(drawn.await(5, TimeUnit.SECONDS));
+
+            AtomicReference<Thread> caller = new AtomicReference<>();
+            Future<Question> next = callers.submit(() -> {
+                caller.set(Thread.currentThread());
+                return prefetcher.next();
+            });
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (caller.get() == null || caller.get().getState() != Thread.State.BLOCKED) {
+                assertTrue(System.nanoTime() < deadline, "caller never reached the factory");
+                Thread.sleep(5);
+            }
+            resume.complete(null);
+
+            Question q = next.get(5, TimeUnit.SECONDS);
+            assertNotNull(q);
+            assertEquals("TF 0", q.getPrompt());
+            assertNull(prefetcher.next());
+        } finally {
+            resume.complete(null);
+            refiller.shutdownNow();
+            callers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package Test;
+
+import Model.QuestionStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A test class for {@link QuestionStore}.
+ * It verifies that a caller waiting for the only pooled connection is woken
+ * when that connection fails and frees its slot, or when the store closes.
+ *
+ * @author Husein & Chan
+ */
+class QuestionStoreTest {
+
+    private QuestionStore store;
+    private ExecutorService callers;
+    private volatile Thread caller;
+
+    /**
+     * Creates a store with room for one connection before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        store = new QuestionStore("jdbc:sqlite::memory:", 1);
+        callers = Executors.newSingleThreadExecutor(r -> caller = new Thread(r, "second-caller"));
+    }
+
+    /**
+     * Closes the store and stops the waiting caller after each test.
+     */
+    @AfterEach
+    void tearDown() {
+        store.close();
+        callers.shutdownNow();
+    }
+
+    /**
+     * Tests that a caller waiting for the connection gets a new one when the
+     * work holding it fails.
+     */
+    @Test
+    void waiterRunsAfterFailingWork() throws Exception {
+        final CountDownLatch holding = new CountDownLatch(1);
+        final CompletableFuture<Void> fail = new CompletableFuture<>();
+        final Thread holder = new Thread(() -> {
+            try {
+                store.withConnection(conn -> {
+                    holding.countDown();
+                    fail.join();
+                    throw new SQLException("broken connection");
+                });
+            } catch (SQLException expected) {
+                // the connection is discarded, not returned
+            }
+        });
+        holder.start();
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        final Future<Integer> waiter = callers.submit(
+                () -> store.withConnection(conn -> conn.prepare("SELECT 7").executeQuery().getInt(1)));
+        awaitWaiting();
+        fail.complete(null);
+
+        assertEquals(7, waiter.get(5, TimeUnit.SECONDS));
+        holder.join(5000);
+    }
+
+    /**
+     * Tests that closing the store fails a caller waiting for the connection
+     * instead of leaving it blocked.
+     */
+    @Test
+    void closeFailsWaiter() throws Exception {
+        final CountDownLatch holding = new CountDownLatch(1);
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        final Thread holder = new Thread(() -> {
+            try {
+                store.withConnection(conn -> {
+                    holding.countDown();
+                    done.join();
+                    return null;
+                });
+            } catch (SQLException ignored) {
+                // the test only cares about the waiter
+            }
+        });
+        holder.start();
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        final Future<Object> waiter = callers.submit(() -> store.withConnection(conn -> null));
+        awaitWaiting();
+        store.close();
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(SQLException.class, e.getCause());
+        done.complete(null);
+        holder.join(5000);
+    }
+
+    /**
+     * Tests that a pool needs room for at least one connection.
+     */
+    @Test
+    void rejectsEmptyPool() {
+        assertThrows(IllegalArgumentException.class, () -> new QuestionStore("jdbc:sqlite::memory:", 0));
+    }
+
+    /**
+     * Waits until the second caller is blocked on the store's monitor.
+     */
+    private void awaitWaiting() throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (caller == null || caller.getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline, "second caller never waited");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package Test;
+
+import Model.DifficultyPresets;
+import Model.Direction;
+import Model.GameEngine;
+import Model.QuestionCatalog;
+import Server.GameSession;
+import Server.SessionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A test class for the server's {@link SessionManager}.
+ * It verifies that sessions are independent, that idle sessions are evicted
+ * and that the session limit holds under concurrent creation.
+ *
+ * @author Husein & Chan
+ */
+class SessionManagerTest {
+    private QuestionCatalog catalog;
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * Builds a catalog of true/false questions whose answer is "true".
+     */
+    @BeforeEach
+    void setUp() {
+        catalog = TestCatalogs.trueFalse(30);
+    }
+
+    /**
+     * Tests that moving in one session leaves another untouched.
+     */
+    @Test
+    void sessionsAreIndependent() {
+        SessionManager sessions = new SessionManager(catalog, Duration.ofMinutes(1), 10, clock::get);
+        GameSession a = sessions.create(DifficultyPresets.easy());
+        GameSession b = sessions.create(DifficultyPresets.easy());
+        assertNotEquals(a.getId(), b.getId());
+
+        sessions.call(a.getId(), engine -> engine.move(Direction.EAST));
+        assertTrue(sessions.call(a.getId(), engine -> engine.answer("true")).correct());
+
+        assertEquals(1, sessions.call(a.getId(), GameEngine::state).col());
+        assertEquals(0, sessions.call(b.getId(), GameEngine::state).col());
+        assertNull(sessions.call("missing", GameEngine::state));
+    }
+
+    /**
+     * Tests that only sessions idle past the timeout are evicted.
+     */
+    @Test
+    void evictsIdleSessions() {
+        SessionManager sessions = new SessionManager(catalog, Duration.ofSeconds(10), 10, clock::get);
+        GameSession idle = sessions.create(DifficultyPresets.easy());
+        GameSession busy = sessions.create(DifficultyPresets.easy());
+
+        clock.addAndGet(Duration.ofSeconds(8).toNanos());
+        sessions.call(busy.getId(), GameEngine::state);
+        clock.addAndGet(Duration.ofSeconds(8).toNanos());
+
+        assertEquals(1, sessions.evictIdle());
+        assertNull(sessions.get(idle.getId()));
+        assertNotNull(sessions.get(busy.getId()));
+        assertEquals(1, sessions.size());
+        assertTrue(sessions.remove(busy.getId()));
+        assertEquals(0, sessions.size());
+    }
+
+    /**
+     * Tests that concurrent creates on virtual threads never exceed the limit.
+     */
+    @Test
+    void limitHoldsUnderConcurrency() throws InterruptedException {
+        SessionManager sessions = new SessionManager(catalog, Duration.ofMinutes(1), 50, clock::get);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                pool.execute(() -> {
+                    try {
+                        ids.add(sessions.create(DifficultyPresets.easy()).getId());
+                    } catch (IllegalStateException full) {
+                        // expected once the limit is reached
+                    }
+                });
+            }
+        }
+        assertEquals(50, ids.size());
+        assertEquals(50, sessions.size());
+        assertThrows(IllegalStateException.class, () -> sessions.create(DifficultyPresets.easy()));
+    }
+}
@@ -0,0 +1,77 @@
+package Test;
+
+import Model.DifficultySettings;
+import Model.QuestionCatalog;
+import Simulation.BotStrategy;
+import Simulation.SimulationReport;
+import Simulation.Simulator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A test class for the bot {@link Simulator}.
+ * It checks the extremes of answer accuracy, that reports add up
+ * and that outcomes depend on the seed and not on the thread count.
+ *
+ * @author Husein & Chan
+ */
+class SimulatorTest {
+    private QuestionCatalog catalog;
+    private DifficultySettings settings;
+
+    /**
+     * Builds a catalog and a 4x4 difficulty with one try per door and two hints.
+     */
+    @BeforeEach
+    void setUp() {
+        catalog = TestCatalogs.trueFalse(40);
+        settings = new DifficultySettings.Builder("Sim")
+                .mazeSize(4, 4)
+                .maxHints(2)
+                .maxAttemptsPerDoor(1)
+                .allowSkipping(false)
+                .build();
+    }
+
+    /**
+     * Tests that a perfect bot always wins and a hopeless one always loses.
+     */
+    @Test
+    void accuracyExtremes() {
+        SimulationReport perfect = new Simulator(catalog, settings, BotStrategy.towardExit(), 1, 0).run(200, 7);
+        assertEquals(200, perfect.wins());
+        assertEquals(6.0, perfect.meanQuestions(), 1e-9); // 3 east + 3 south
+
+        SimulationReport hopeless = new Simulator(catalog, settings, BotStrategy.randomWalk(), 0, 0).run(200, 7);
+        assertEquals(0, hopeless.wins());
+        assertEquals(200, hopeless.losses());
+    }
+
+    /**
+     * Tests that the counts add up, percentiles are ordered and a hint can rescue a last try.
+     */
+    @Test
+    void reportAddsUp() {
+        SimulationReport r = new Simulator(catalog, settings, BotStrategy.cautious(), 0.6, 0.4).run(500, 3);
+        assertEquals(500, r.wins() + r.losses() + r.stalled());
+        assertTrue(r.p50Nanos() <= r.p90Nanos() && r.p90Nanos() <= r.p99Nanos() && r.p99Nanos() <= r.maxNanos());
+        assertTrue(r.meanHints() > 0 && r.meanHints() <= 2);
+        assertTrue(r.gamesPerSecond() > 0);
+    }
+
+    /**
+     * Tests that a run gives the same outcomes on one thread and on several.
+     */
+    @Test
+    void outcomesDependOnlyOnSeed() {
+        Simulator sim = new Simulator(catalog, settings, BotStrategy.randomWalk(), 0.8, 0);
+        SimulationReport single = sim.run(300, 11, 1);
+        SimulationReport many = sim.run(300, 11, 4);
+        assertEquals(single.wins(), many.wins());
+        assertEquals(single.losses(), many.losses());
+        assertEquals(single.meanQuestions(), many.meanQuestions(), 1e-9);
+    }
+}
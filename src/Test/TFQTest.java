@@ -61,4 +61,15 @@ public class TFQTest {
     void testGetCorrectAnswer() {
         assertEquals("true", tfQuestion.getCorrectAnswer());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests grading answers read in place from a larger buffer.
+     */
+    @Test
+    void testIsCorrectRange() {
+        String buffer = "yes| TRUE |f";
+        assertFalse(tfQuestion.isCorrect(buffer, 0, 3));
+        assertTrue(tfQuestion.isCorrect(buffer, 4, 10));
+        assertFalse(tfQuestion.isCorrect(buffer, 11, 12));
+    }
+}
@@ -0,0 +1,49 @@
+package Test;
+
+import Model.QuestionCatalog;
+import Model.QuestionRecord;
+import Model.QuestionType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Small question catalogs shared by the tests. Every question is true/false,
+ * of the easiest difficulty, answered "true" and hinted with {@link #HINT}, so a
+ * test can play any door without knowing which question it drew.
+ *
+ * @author Husein & Chan
+ */
+final class TestCatalogs {
+
+    /** The hint of every question. */
+    static final String HINT = "it's true";
+
+    private TestCatalogs() {
+    }
+
+    /**
+     * Builds a catalog of true/false questions prompted "TF 0", "TF 1" and so on.
+     *
+     * @param theCount the number of questions
+     * @return the catalog
+     */
+    static QuestionCatalog trueFalse(final int theCount) {
+        return trueFalse("TF ", theCount);
+    }
+
+    /**
+     * Builds a catalog of true/false questions whose prompts are a prefix and an index.
+     *
+     * @param thePrefix the start of every prompt
+     * @param theCount  the number of questions
+     * @return the catalog
+     */
+    static QuestionCatalog trueFalse(final String thePrefix, final int theCount) {
+        final List<QuestionRecord> records = new ArrayList<>(theCount);
+        for (int i = 0; i < theCount; i++) {
+            records.add(new QuestionRecord(QuestionType.TF, thePrefix + i, "true", List.of(), HINT, 1));
+        }
+        return QuestionCatalog.of(records);
+    }
+}
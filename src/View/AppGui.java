@@ -3,6 +3,7 @@ package View;
 import Controller.GameController;
 
 import Model.*;
+import View.audio.Sounds;
 
 import javax.swing.SwingUtilities;
 
@@ -30,13 +31,18 @@ public final class AppGui {
      * @param args Command line arguments (not used).
      */
     public static void main(String[] args) {
+        // decode the sound effects while the window is being built
+        final Thread preload = new Thread(Sounds::preloadAll, "sound-preload");
+        preload.setDaemon(true);
+        preload.start();
+
         SwingUtilities.invokeLater(() -> {
             // Seed with a default difficulty; a *real* game will be
             // created and configured by the user via the "New Game" menu.
             DifficultySettings settings = DifficultyPresets.normal();
 
             // 1. Create the Model components
-            questionFactory qf = new questionFactory("jdbc:sqlite:lib/trivia.db");
+            questionFactory qf = new questionFactory(QuestionCatalog.defaultSource(), settings);
             Maze maze = new Maze(settings.getMazeHeight(), settings.getMazeWidth(), qf);
             Player player = new Player();
             GameStateManager gsm = new GameStateManager();
@@ -32,6 +32,7 @@ public class ControlsPanel extends JPanel {
                         "↓ : South\n" +
                         "← : West\n" +
                         "→ : East\n" +
+                        "+ / - / 0 : Zoom\n" +
                         "P : Pause"
         );
 
@@ -0,0 +1,440 @@
+package View;
+
+import Model.Direction;
+import Model.MazeGrid;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseWheelEvent;
+
+/**
+ * A single component that paints the whole maze straight from the {@link MazeGrid}:
+ * rooms, the doors between them, blocked doors and the player. It replaces one Swing
+ * panel per room, so the number of components no longer grows with the maze.
+ * <p>
+ * Painting only walks the rooms that intersect the clip, so repainting one room's
+ * bounds (see {@link #repaintCell(int)}) costs the same on any maze size. Inside a
+ * {@link JScrollPane} the clip is the visible window, so hidden rooms cost nothing.
+ * <p>
+ * Small mazes are fitted to the window. Mazes too large to read that way are shown
+ * at a fixed zoom that follows the player; the zoom can be changed with
+ * {@link #zoomIn()}, {@link #zoomOut()}, {@link #zoomToFit()} or Ctrl + mouse wheel.
+ *
+ * @author Husein & Chan
+ */
+public class MazeCanvas extends JComponent implements Scrollable {
+
+    /** Initializing constants for styling, shared with {@link MazeMinimap}. */
+    static final Color COL_ROOM = new Color(235, 238, 241);
+    static final Color COL_START = new Color(210, 230, 250);
+    static final Color COL_EXIT = new Color(217, 247, 223);
+    static final Color COL_PLAYER = new Color(255, 239, 170);
+    static final Color COL_GRID_BG = new Color(245, 246, 248);
+    static final Color COL_BLOCKED = new Color(255, 150, 150);
+    private static final Color COL_ROOM_BORDER = new Color(210, 210, 210);
+    private static final Color COL_DOOR = new Color(190, 190, 190);
+    private static final Color COL_DOOR_OPEN = new Color(120, 190, 120);
+    private static final Color COL_DOOR_BLOCKED = new Color(200, 60, 60);
+    static final Color COL_MARKER = new Color(200, 140, 0);
+
+    private static final Font FONT_META = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+
+    /** Rooms at least this many pixels wide are labelled like the old per-room panels. */
+    private static final int LABEL_MIN_SIZE = 48;
+
+    /** Zoom value meaning "fit the whole maze into the window". */
+    private static final int FIT = 0;
+
+    /** Smallest and largest room pitch, in pixels, the zoom allows. */
+    private static final int MIN_PITCH = 4, MAX_PITCH = 96;
+
+    /** Mazes whose rooms would be smaller than this when fitted start zoomed in instead. */
+    private static final int MIN_FIT_PITCH = 16;
+
+    /** Room pitch a maze too large to fit starts at. */
+    private static final int DEFAULT_PITCH = 40;
+
+    /** Rooms kept between the player and the edge of the window when following. */
+    private static final int FOLLOW_MARGIN = 2;
+
+    /** The grid being drawn, or null before the first game. */
+    private MazeGrid myGrid;
+
+    /** The player's cell, or -1 if none. */
+    private int myPlayerCell = -1;
+
+    /** Room pitch in pixels, or {@link #FIT}. */
+    private int myZoom = FIT;
+
+    /** Layout for the current size: room pitch, gap between rooms and grid origin. */
+    private int myPitch, myGap, myOriginX, myOriginY;
+
+    /** Component size, zoom and grid shape the layout was computed for. */
+    private int myLayoutW = -1, myLayoutH = -1, myLayoutZoom, myLayoutRows, myLayoutCols;
+
+    /**
+     * Constructs an empty {@code MazeCanvas}.
+     */
+    public MazeCanvas() {
+        setOpaque(true);
+        setBackground(COL_GRID_BG);
+        addMouseWheelListener(this::onWheel);
+    }
+
+    /**
+     * Sets the grid to draw and the player's cell, and repaints everything. A maze
+     * that fits the window at a readable size is fitted; a larger one is zoomed in
+     * around the player.
+     *
+     * @param theGrid       The maze grid.
+     * @param thePlayerCell The player's cell id.
+     */
+    public void setModel(final MazeGrid theGrid, final int thePlayerCell) {
+        myGrid = theGrid;
+        myPlayerCell = thePlayerCell;
+        myZoom = fitPitch() >= MIN_FIT_PITCH ? FIT : DEFAULT_PITCH;
+        relayout(thePlayerCell);
+    }
+
+    /**
+     * @return the grid being drawn, or {@code null} before the first game
+     */
+    public MazeGrid getGrid() {
+        return myGrid;
+    }
+
+    /**
+     * Moves the player marker, repainting only the old and new rooms, and scrolls
+     * just enough to keep a margin of rooms around the player in view.
+     *
+     * @param thePlayerCell The player's new cell id.
+     */
+    public void setPlayerCell(final int thePlayerCell) {
+        if (thePlayerCell == myPlayerCell) return;
+        repaintCell(myPlayerCell);
+        myPlayerCell = thePlayerCell;
+        repaintCell(thePlayerCell);
+        if (myZoom != FIT && myGrid != null && thePlayerCell >= 0) {
+            final Rectangle r = cellBounds(thePlayerCell);
+            final int m = FOLLOW_MARGIN * myPitch;
+            scrollRectToVisible(new Rectangle(r.x - m, r.y - m, r.width + 2 * m, r.height + 2 * m));
+        }
+    }
+
+    /**
+     * Schedules a repaint of one room and the doors around it.
+     *
+     * @param theCell The cell id; ignored if outside the grid.
+     */
+    public void repaintCell(final int theCell) {
+        if (myGrid == null || theCell < 0 || theCell >= myGrid.getCellCount()) return;
+        final Rectangle r = cellBounds(theCell);
+        repaint(r.x - myGap, r.y - myGap, myPitch + myGap, myPitch + myGap);
+    }
+
+    /**
+     * Schedules a repaint of the door on an edge and the two rooms it joins, whose
+     * colour depends on whether they have a blocked door.
+     *
+     * @param theEdge The edge id; anything outside the grid repaints everything.
+     */
+    public void repaintEdge(final int theEdge) {
+        if (myGrid == null || theEdge < 0 || theEdge >= myGrid.getEdgeCount()) {
+            repaint();
+            return;
+        }
+        repaintCell(myGrid.edgeCellA(theEdge));
+        repaintCell(myGrid.edgeCellB(theEdge));
+    }
+
+    /**
+     * Makes rooms a quarter larger, keeping the room at the centre of the view in place.
+     */
+    public void zoomIn() {
+        setZoom(Math.max(currentPitch() + 1, currentPitch() * 5 / 4));
+    }
+
+    /**
+     * Makes rooms a fifth smaller, keeping the room at the centre of the view in place.
+     */
+    public void zoomOut() {
+        setZoom(Math.min(currentPitch() - 1, currentPitch() * 4 / 5));
+    }
+
+    /**
+     * Fits the whole maze into the window, or zooms out as far as allowed if it
+     * cannot fit.
+     */
+    public void zoomToFit() {
+        if (myGrid == null) return;
+        if (fitPitch() >= MIN_PITCH) {
+            myZoom = FIT;
+            relayout(-1);
+        } else {
+            setZoom(MIN_PITCH);
+        }
+    }
+
+    /**
+     * Scrolls so a room is in the centre of the view.
+     *
+     * @param theCell The cell id; ignored if outside the grid.
+     */
+    public void centerOn(final int theCell) {
+        if (myGrid == null || theCell < 0 || theCell >= myGrid.getCellCount()) return;
+        if (!(getParent() instanceof JViewport vp)) return;
+        final Rectangle r = cellBounds(theCell);
+        final Dimension ext = vp.getExtentSize();
+        final int x = Math.max(0, Math.min(getWidth() - ext.width, r.x + r.width / 2 - ext.width / 2));
+        final int y = Math.max(0, Math.min(getHeight() - ext.height, r.y + r.height / 2 - ext.height / 2));
+        vp.setViewPosition(new Point(x, y));
+    }
+
+    /**
+     * Returns the rooms in view, clamped to the grid.
+     *
+     * @return the first visible column and row and the number of columns and rows
+     *         visible, or an empty rectangle before the first game
+     */
+    public Rectangle getVisibleCells() {
+        if (myGrid == null) return new Rectangle();
+        layoutGrid();
+        final Rectangle v = getVisibleRect();
+        final int c0 = clamp(Math.floorDiv(v.x - myOriginX, myPitch), myGrid.getCols());
+        final int r0 = clamp(Math.floorDiv(v.y - myOriginY, myPitch), myGrid.getRows());
+        final int c1 = clamp(Math.floorDiv(v.x + v.width - 1 - myOriginX, myPitch), myGrid.getCols());
+        final int r1 = clamp(Math.floorDiv(v.y + v.height - 1 - myOriginY, myPitch), myGrid.getRows());
+        return new Rectangle(c0, r0, c1 - c0 + 1, r1 - r0 + 1);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (myGrid == null || myZoom == FIT || isPreferredSizeSet()) return super.getPreferredSize();
+        final int gap = gapFor(myZoom);
+        return new Dimension(myZoom * myGrid.getCols() + gap, myZoom * myGrid.getRows() + gap);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(final Rectangle theVisible, final int theOrientation,
+                                          final int theDirection) {
+        return Math.max(1, currentPitch());
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(final Rectangle theVisible, final int theOrientation,
+                                           final int theDirection) {
+        final int extent = theOrientation == SwingConstants.HORIZONTAL ? theVisible.width : theVisible.height;
+        return Math.max(1, extent - currentPitch());
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        // fill the viewport when fitted or when the zoomed grid is narrower than it
+        return myZoom == FIT || getParent() instanceof JViewport vp && vp.getWidth() > getPreferredSize().width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return myZoom == FIT || getParent() instanceof JViewport vp && vp.getHeight() > getPreferredSize().height;
+    }
+
+    @Override
+    protected void paintComponent(final Graphics theGraphics) {
+        final Graphics2D g = (Graphics2D) theGraphics;
+        final Rectangle clip = g.getClipBounds() != null ? g.getClipBounds()
+                : new Rectangle(0, 0, getWidth(), getHeight());
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        if (myGrid == null) return;
+
+        layoutGrid();
+        if (myPitch <= 0) return;
+
+        // rooms whose bounds, widened by a gap for the doors, meet the clip
+        final int rows = myGrid.getRows(), cols = myGrid.getCols();
+        final int c0 = Math.max(0, Math.floorDiv(clip.x - myOriginX, myPitch));
+        final int r0 = Math.max(0, Math.floorDiv(clip.y - myOriginY, myPitch));
+        final int c1 = Math.min(cols - 1, Math.floorDiv(clip.x + clip.width - myOriginX, myPitch));
+        final int r1 = Math.min(rows - 1, Math.floorDiv(clip.y + clip.height - myOriginY, myPitch));
+
+        final int size = myPitch - myGap;
+        final boolean labels = size >= LABEL_MIN_SIZE;
+        if (labels) g.setFont(FONT_META);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                paintRoom(g, myGrid.cellId(r, c), myOriginX + c * myPitch, myOriginY + r * myPitch, size, labels);
+            }
+        }
+        if (myGap == 0) return;
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                final int cell = myGrid.cellId(r, c);
+                final int x = myOriginX + c * myPitch, y = myOriginY + r * myPitch;
+                if (c + 1 < cols) paintDoor(g, myGrid.edgeId(cell, Direction.EAST), x + size, y, myGap, size, true);
+                if (r + 1 < rows) paintDoor(g, myGrid.edgeId(cell, Direction.SOUTH), x, y + size, size, myGap, false);
+            }
+        }
+    }
+
+    /**
+     * Paints one room in the colour and label of its state.
+     */
+    private void paintRoom(final Graphics2D theG, final int theCell, final int theX, final int theY,
+                           final int theSize, final boolean theLabels) {
+        final String label;
+        if (theCell == myPlayerCell) {
+            theG.setColor(COL_PLAYER);
+            label = "PLAYER";
+        } else if (theCell == myGrid.getCellCount() - 1) {
+            theG.setColor(COL_EXIT);
+            label = "EXIT";
+        } else if (theCell == 0) {
+            theG.setColor(COL_START);
+            label = "START";
+        } else if (hasBlockedDoor(myGrid, theCell)) {
+            theG.setColor(COL_BLOCKED);
+            label = "BLOCKED";
+        } else {
+            theG.setColor(COL_ROOM);
+            label = "ROOM";
+        }
+        theG.fillRect(theX, theY, theSize, theSize);
+        if (theSize < 6) return;
+
+        theG.setColor(COL_ROOM_BORDER);
+        theG.drawRect(theX, theY, theSize - 1, theSize - 1);
+        if (theLabels) {
+            final FontMetrics fm = theG.getFontMetrics();
+            theG.setColor(Color.BLACK);
+            theG.drawString(label, theX + (theSize - fm.stringWidth(label)) / 2,
+                    theY + (theSize + fm.getAscent() - fm.getDescent()) / 2);
+        } else if (theCell == myPlayerCell) {
+            final int d = theSize / 2;
+            theG.setColor(COL_MARKER);
+            theG.fillOval(theX + (theSize - d) / 2, theY + (theSize - d) / 2, d, d);
+        }
+    }
+
+    /**
+     * Paints the door on an edge as a bar across the gap between its two rooms.
+     */
+    private void paintDoor(final Graphics2D theG, final int theEdge, final int theX, final int theY,
+                           final int theW, final int theH, final boolean theVertical) {
+        if (myGrid.isBlocked(theEdge)) theG.setColor(COL_DOOR_BLOCKED);
+        else if (myGrid.isOpened(theEdge)) theG.setColor(COL_DOOR_OPEN);
+        else theG.setColor(COL_DOOR);
+        if (theVertical) {
+            theG.fillRect(theX, theY + theH / 3, theW, Math.max(1, theH / 3));
+        } else {
+            theG.fillRect(theX + theW / 3, theY, Math.max(1, theW / 3), theH);
+        }
+    }
+
+    /**
+     * @return true if any door of the room is blocked
+     */
+    static boolean hasBlockedDoor(final MazeGrid theGrid, final int theCell) {
+        for (final Direction d : Direction.values()) {
+            if (theGrid.hasDoor(theCell, d) && theGrid.isBlocked(theGrid.edgeId(theCell, d))) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Zooms with Ctrl + wheel; any other wheel turn is passed on so the scroll pane scrolls.
+     */
+    private void onWheel(final MouseWheelEvent theEvent) {
+        if (theEvent.isControlDown()) {
+            if (theEvent.getWheelRotation() < 0) zoomIn();
+            else if (theEvent.getWheelRotation() > 0) zoomOut();
+        } else if (getParent() != null) {
+            getParent().dispatchEvent(SwingUtilities.convertMouseEvent(this, theEvent, getParent()));
+        }
+    }
+
+    /**
+     * Sets a fixed room pitch and keeps the room at the centre of the view in place.
+     */
+    private void setZoom(final int thePitch) {
+        if (myGrid == null) return;
+        final Rectangle v = getVisibleCells();
+        final int center = myGrid.cellId(v.y + v.height / 2, v.x + v.width / 2);
+        myZoom = Math.max(MIN_PITCH, Math.min(MAX_PITCH, thePitch));
+        relayout(center);
+    }
+
+    /**
+     * Applies a zoom change, then centres a room once the scroll pane has laid out again.
+     */
+    private void relayout(final int theCenterCell) {
+        myLayoutW = -1;
+        revalidate();
+        repaint();
+        if (myZoom != FIT && theCenterCell >= 0) SwingUtilities.invokeLater(() -> centerOn(theCenterCell));
+    }
+
+    /**
+     * @return the pixel bounds of a room, not counting the door gap around it
+     */
+    private Rectangle cellBounds(final int theCell) {
+        layoutGrid();
+        return new Rectangle(myOriginX + myGrid.colOf(theCell) * myPitch,
+                myOriginY + myGrid.rowOf(theCell) * myPitch, myPitch - myGap, myPitch - myGap);
+    }
+
+    /**
+     * @return the room pitch that fits the maze into the window, or 0 before the first game
+     */
+    private int fitPitch() {
+        if (myGrid == null) return 0;
+        final Dimension view = getParent() instanceof JViewport vp ? vp.getExtentSize() : getSize();
+        if (view.width <= 0 || view.height <= 0) {
+            // not laid out yet: assume mazes up to 20x20 fit, as the old grid of panels did
+            return Math.max(myGrid.getRows(), myGrid.getCols()) <= 20 ? MIN_FIT_PITCH : 0;
+        }
+        return Math.min(view.width / myGrid.getCols(), view.height / myGrid.getRows());
+    }
+
+    private int currentPitch() {
+        if (myGrid == null) return DEFAULT_PITCH;
+        layoutGrid();
+        return myPitch;
+    }
+
+    /**
+     * @return the gap between rooms at a pitch: it shrinks with the rooms and
+     *         disappears on tiny rooms
+     */
+    private static int gapFor(final int thePitch) {
+        return thePitch >= 24 ? Math.min(8, thePitch / 8) : thePitch >= 6 ? 1 : 0;
+    }
+
+    private static int clamp(final int theValue, final int theCount) {
+        return Math.max(0, Math.min(theCount - 1, theValue));
+    }
+
+    /**
+     * Works out the room pitch and centres the grid in the component.
+     */
+    private void layoutGrid() {
+        final int w = getWidth(), h = getHeight();
+        final int rows = myGrid.getRows(), cols = myGrid.getCols();
+        if (w == myLayoutW && h == myLayoutH && myZoom == myLayoutZoom
+                && rows == myLayoutRows && cols == myLayoutCols) return;
+        myLayoutW = w;
+        myLayoutH = h;
+        myLayoutZoom = myZoom;
+        myLayoutRows = rows;
+        myLayoutCols = cols;
+
+        myPitch = myZoom == FIT ? Math.max(1, Math.min(w / cols, h / rows)) : myZoom;
+        myGap = gapFor(myPitch);
+        myOriginX = (w - myPitch * cols + myGap) / 2;
+        myOriginY = (h - myPitch * rows + myGap) / 2;
+    }
+}
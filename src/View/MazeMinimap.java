@@ -0,0 +1,230 @@
+package View;
+
+import Model.MazeGrid;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.function.IntConsumer;
+
+/**
+ * An overview of the whole maze, drawn from a small cached image with at most
+ * {@value #MAX_IMAGE} pixels per side. On larger mazes each pixel stands for a
+ * square block of rooms, coloured by the most important room in it: exit, start,
+ * a room with a blocked door, a visited room, then an unvisited one.
+ * <p>
+ * The image is built once per game and afterwards only the pixel of a changed room
+ * is recomputed. The player and the part of the maze in view are drawn on top of it
+ * every paint, so moving and scrolling never touch the image. Clicking or dragging
+ * on the map asks for the view to jump there.
+ *
+ * @author Husein & Chan
+ */
+public class MazeMinimap extends JComponent {
+
+    /** Largest image side, in pixels. */
+    private static final int MAX_IMAGE = 256;
+
+    private static final Color COL_VISITED = new Color(196, 212, 232);
+    private static final Color COL_VIEW = new Color(40, 90, 200);
+
+    /** The grid being drawn, or null before the first game. */
+    private MazeGrid myGrid;
+
+    /** The cached overview: one pixel per block of rooms. */
+    private BufferedImage myImage;
+
+    /** Rooms per pixel along each side. */
+    private int myScale = 1;
+
+    /** The player's cell, or -1 if none. */
+    private int myPlayerCell = -1;
+
+    /** Rooms in view on the main canvas, in columns and rows. */
+    private Rectangle myView = new Rectangle();
+
+    /** Called with the cell the user clicked on. */
+    private IntConsumer myOnJump;
+
+    /**
+     * Constructs an empty {@code MazeMinimap}.
+     */
+    public MazeMinimap() {
+        setOpaque(true);
+        setBackground(MazeCanvas.COL_GRID_BG);
+        setPreferredSize(new Dimension(170, 170));
+        final MouseAdapter jump = new MouseAdapter() {
+            @Override
+            public void mousePressed(final MouseEvent e) {
+                fireJump(e.getPoint());
+            }
+
+            @Override
+            public void mouseDragged(final MouseEvent e) {
+                fireJump(e.getPoint());
+            }
+        };
+        addMouseListener(jump);
+        addMouseMotionListener(jump);
+    }
+
+    /**
+     * Wires a consumer to be called with the cell the user clicks on the map.
+     * @param theOnJump The action to perform with the cell id.
+     */
+    public void onJump(final IntConsumer theOnJump) { this.myOnJump = theOnJump; }
+
+    /**
+     * Sets the grid to draw and builds the overview image from scratch.
+     *
+     * @param theGrid       The maze grid.
+     * @param thePlayerCell The player's cell id.
+     */
+    public void setModel(final MazeGrid theGrid, final int thePlayerCell) {
+        myGrid = theGrid;
+        myPlayerCell = thePlayerCell;
+        myScale = Math.max(1, (Math.max(theGrid.getRows(), theGrid.getCols()) + MAX_IMAGE - 1) / MAX_IMAGE);
+        final int w = (theGrid.getCols() + myScale - 1) / myScale;
+        final int h = (theGrid.getRows() + myScale - 1) / myScale;
+        if (myImage == null || myImage.getWidth() != w || myImage.getHeight() != h) {
+            myImage = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        }
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                myImage.setRGB(x, y, blockColor(x, y));
+            }
+        }
+        repaint();
+    }
+
+    /**
+     * Recomputes the pixel of one room after its state changed.
+     *
+     * @param theCell The cell id; ignored if outside the grid.
+     */
+    public void updateCell(final int theCell) {
+        if (myGrid == null || theCell < 0 || theCell >= myGrid.getCellCount()) return;
+        final int x = myGrid.colOf(theCell) / myScale, y = myGrid.rowOf(theCell) / myScale;
+        final int rgb = blockColor(x, y);
+        if (myImage.getRGB(x, y) == rgb) return;
+        myImage.setRGB(x, y, rgb);
+        repaint();
+    }
+
+    /**
+     * Recomputes the pixels of the two rooms a door joins after the door changed.
+     *
+     * @param theEdge The edge id; ignored if outside the grid.
+     */
+    public void updateEdge(final int theEdge) {
+        if (myGrid == null || theEdge < 0 || theEdge >= myGrid.getEdgeCount()) return;
+        updateCell(myGrid.edgeCellA(theEdge));
+        updateCell(myGrid.edgeCellB(theEdge));
+    }
+
+    /**
+     * Moves the player marker.
+     *
+     * @param thePlayerCell The player's cell id.
+     */
+    public void setPlayerCell(final int thePlayerCell) {
+        if (thePlayerCell == myPlayerCell) return;
+        myPlayerCell = thePlayerCell;
+        repaint();
+    }
+
+    /**
+     * Sets the rooms in view on the main canvas, outlined on the map.
+     *
+     * @param theView The first visible column and row and the visible column and row counts.
+     */
+    public void setView(final Rectangle theView) {
+        if (theView.equals(myView)) return;
+        myView = new Rectangle(theView);
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(final Graphics theGraphics) {
+        final Graphics2D g = (Graphics2D) theGraphics;
+        g.setColor(getBackground());
+        g.fillRect(0, 0, getWidth(), getHeight());
+        if (myGrid == null) return;
+
+        final double s = scale();
+        final int ox = originX(s), oy = originY(s);
+        final int w = (int) Math.round(myGrid.getCols() * s), h = (int) Math.round(myGrid.getRows() * s);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.drawImage(myImage, ox, oy, (int) Math.round(myImage.getWidth() * myScale * s),
+                (int) Math.round(myImage.getHeight() * myScale * s), null);
+
+        // only outline the view when part of the maze is hidden
+        if (myView.width < myGrid.getCols() || myView.height < myGrid.getRows()) {
+            g.setColor(COL_VIEW);
+            g.drawRect(ox + (int) (myView.x * s), oy + (int) (myView.y * s),
+                    Math.max(2, (int) Math.round(myView.width * s)) - 1,
+                    Math.max(2, (int) Math.round(myView.height * s)) - 1);
+        }
+        if (myPlayerCell >= 0) {
+            final int d = Math.max(5, Math.min(10, (int) Math.round(s * 0.6)));
+            final int px = ox + (int) ((myGrid.colOf(myPlayerCell) + 0.5) * s) - d / 2;
+            final int py = oy + (int) ((myGrid.rowOf(myPlayerCell) + 0.5) * s) - d / 2;
+            g.setColor(MazeCanvas.COL_MARKER);
+            g.fillOval(px, py, d, d);
+        }
+        g.setColor(Color.GRAY);
+        g.drawRect(ox - 1, oy - 1, w + 1, h + 1);
+    }
+
+    /**
+     * Colours a pixel by the most important room in its block.
+     */
+    private int blockColor(final int theX, final int theY) {
+        final int c0 = theX * myScale, r0 = theY * myScale;
+        final int c1 = Math.min(myGrid.getCols(), c0 + myScale), r1 = Math.min(myGrid.getRows(), r0 + myScale);
+        final int exit = myGrid.getCellCount() - 1;
+        boolean blocked = false, visited = false, start = false;
+        for (int r = r0; r < r1; r++) {
+            for (int c = c0; c < c1; c++) {
+                final int cell = myGrid.cellId(r, c);
+                if (cell == exit) return MazeCanvas.COL_EXIT.getRGB();
+                start |= cell == 0;
+                if (!blocked) blocked = MazeCanvas.hasBlockedDoor(myGrid, cell);
+                visited |= myGrid.isVisited(cell);
+            }
+        }
+        if (start) return MazeCanvas.COL_START.getRGB();
+        if (blocked) return MazeCanvas.COL_BLOCKED.getRGB();
+        return (visited ? COL_VISITED : MazeCanvas.COL_ROOM).getRGB();
+    }
+
+    private void fireJump(final Point thePoint) {
+        if (myGrid == null || myOnJump == null) return;
+        final double s = scale();
+        final int col = (int) Math.floor((thePoint.x - originX(s)) / s);
+        final int row = (int) Math.floor((thePoint.y - originY(s)) / s);
+        if (row < 0 || col < 0 || row >= myGrid.getRows() || col >= myGrid.getCols()) return;
+        myOnJump.accept(myGrid.cellId(row, col));
+    }
+
+    /**
+     * @return pixels per room when the maze is fitted into the component
+     */
+    private double scale() {
+        final Insets in = getInsets();
+        final int w = getWidth() - in.left - in.right - 2, h = getHeight() - in.top - in.bottom - 2;
+        return Math.max(0.01, Math.min((double) w / myGrid.getCols(), (double) h / myGrid.getRows()));
+    }
+
+    private int originX(final double theScale) {
+        final Insets in = getInsets();
+        return in.left + (getWidth() - in.left - in.right - (int) Math.round(myGrid.getCols() * theScale)) / 2;
+    }
+
+    private int originY(final double theScale) {
+        final Insets in = getInsets();
+        return in.top + (getHeight() - in.top - in.bottom - (int) Math.round(myGrid.getRows() * theScale)) / 2;
+    }
+}
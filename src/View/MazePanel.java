@@ -68,19 +68,15 @@ public class MazePanel extends JPanel {
     public void onQuit(final Runnable theOnQuit) { this.myOnQuit = theOnQuit; }
 
     /** Initializing constants for styling. */
-    private static final Color COL_ROOM = new Color(235, 238, 241);
-    private static final Color COL_START = new Color(210, 230, 250);
-    private static final Color COL_EXIT = new Color(217, 247, 223);
-    private static final Color COL_PLAYER = new Color(255, 239, 170);
     private static final Color COL_GRID_BG = new Color(245, 246, 248);
-    private static final Color COL_BLOCKED = new Color(255, 150, 150);
 
     private static final Font FONT_META = new Font(Font.MONOSPACED, Font.PLAIN, 12);
 
     /** Initializing layout components. */
     private final JPanel myGridHolder = new JPanel();
-    private JPanel myGrid;
-    private Cell[][] myCells;
+    private final MazeCanvas myCanvas = new MazeCanvas();
+    private final JScrollPane myScroller = new JScrollPane(myCanvas);
+    private final MazeMinimap myMinimap = new MazeMinimap();
 
     /** Initializes top head display. */
     private final JLabel myPosLabel = new JLabel("Pos: (0,0)");
@@ -96,9 +92,6 @@ public class MazePanel extends JPanel {
     private final DirectionPanel myDirectionPanel = new DirectionPanel();
     private final ControlsPanel myControlsPanel = new ControlsPanel();
 
-    // Cached maze dimensions to avoid unnecessary grid rebuilding
-    private int myLastRows = -1, myLastCols = -1;
-
     /**
      * Constructs a {@code MazePanel}.
      * It sets up the overall panel layout, HUD, center area (grid and sidebar),
@@ -137,6 +130,11 @@ public class MazePanel extends JPanel {
         myGridHolder.setLayout(new BorderLayout());
         myGridHolder.setBackground(COL_GRID_BG);
         myGridHolder.setBorder(new EmptyBorder(8, 8, 8, 8));
+        myScroller.setBorder(null);
+        myScroller.getViewport().setBackground(COL_GRID_BG);
+        myScroller.getViewport().addChangeListener(e -> myMinimap.setView(myCanvas.getVisibleCells()));
+        myGridHolder.add(myScroller, BorderLayout.CENTER);
+        myMinimap.onJump(myCanvas::centerOn);
         center.add(myGridHolder, BorderLayout.CENTER);
 
         final JPanel sidebar = buildRightSidebar();
@@ -163,6 +161,11 @@ public class MazePanel extends JPanel {
         bindKey("Q", () -> {
             if (myOnQuit != null) myOnQuit.run();
         });
+        bindKey("EQUALS", myCanvas::zoomIn);
+        bindKey("ADD", myCanvas::zoomIn);
+        bindKey("MINUS", myCanvas::zoomOut);
+        bindKey("SUBTRACT", myCanvas::zoomOut);
+        bindKey("0", myCanvas::zoomToFit);
     }
 
     /**
@@ -192,88 +195,70 @@ public class MazePanel extends JPanel {
 
     /**
      * Redraws the maze grid and all other visual components based on the current
-     * game state.
+     * game state. The grid is painted by a single {@link MazeCanvas}, so this only
+     * schedules a repaint and never rebuilds components; the minimap is rebuilt.
      *
      * @param theMaze   The current {@link Maze} model.
      * @param thePlayer The current {@link Player} model.
      */
     public void render(final Maze theMaze, final Player thePlayer) {
-        ensureGrid(theMaze.getRows(), theMaze.getCols());
         updatePositionPanel(theMaze, thePlayer);
-        updateCells(theMaze, thePlayer);
+        final int cell = theMaze.getGrid().cellId(thePlayer.getX(), thePlayer.getY());
+        myCanvas.setModel(theMaze.getGrid(), cell);
+        myMinimap.setModel(theMaze.getGrid(), cell);
         updateDirectionChips(theMaze);
-        revalidate();
-        repaint();
     }
 
     /**
-     * Returns the panel that visually represents available directions.
-     * @return The {@link DirectionPanel} instance.
+     * Updates the view after the player moved. Only the rooms the player left and
+     * entered are repainted, which covers the door between them now drawn open,
+     * so the cost does not grow with the maze.
+     *
+     * @param theMaze   The current {@link Maze} model.
+     * @param thePlayer The current {@link Player} model.
      */
-    public DirectionPanel getDirectionPanel() {
-        return myDirectionPanel;
+    public void playerMoved(final Maze theMaze, final Player thePlayer) {
+        updatePositionPanel(theMaze, thePlayer);
+        myCanvas.setPlayerCell(theMaze.getCurrentCell());
+        myMinimap.updateCell(theMaze.getCurrentCell());
+        myMinimap.setPlayerCell(theMaze.getCurrentCell());
+        updateDirectionChips(theMaze);
     }
 
     /**
-     * Updates the position panel with the player's current coordinates and
-     * the Manhattan distance to the maze exit.
+     * Updates the view after a door changed state. Only the door and the two
+     * rooms it joins are repainted.
      *
-     * @param theMaze   The current maze.
-     * @param thePlayer The player navigating the maze.
+     * @param theMaze   The current {@link Maze} model.
+     * @param thePlayer The current {@link Player} model.
+     * @param theDoor   The door that was blocked or opened.
      */
-    private void updatePositionPanel(final Maze theMaze, final Player thePlayer) {
-        final int px = thePlayer.getX();
-        final int py = thePlayer.getY();
-        myPositionPanel.setPosition(px, py);
-        if (theMaze.hasPathToExitFromCurrent()) {
-            int steps = Math.abs((theMaze.getRows() - 1) - px) + Math.abs((theMaze.getCols() - 1) - py);
-            myPositionPanel.setDistanceText(String.valueOf(steps));
-        } else {
-            myPositionPanel.setDistanceText("No path");
-        }
+    public void doorChanged(final Maze theMaze, final Player thePlayer, final Door theDoor) {
+        updatePositionPanel(theMaze, thePlayer);
+        myCanvas.repaintEdge(theDoor.getEdgeId());
+        myMinimap.updateEdge(theDoor.getEdgeId());
+        updateDirectionChips(theMaze);
     }
 
     /**
-     * Updates each cell in the maze grid based on its state within the maze model.
-     * The cell's color and label are updated to reflect if it's the player's
-     * location, start, exit, a blocked room, or a standard room.
-     *
-     * @param theMaze   The current maze model.
-     * @param thePlayer The player navigating the maze.
+     * Returns the panel that visually represents available directions.
+     * @return The {@link DirectionPanel} instance.
      */
-    private void updateCells(final Maze theMaze, final Player thePlayer) {
-        final int rows = theMaze.getRows(), cols = theMaze.getCols();
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                final boolean isPlayer = (thePlayer.getX() == r && thePlayer.getY() == c);
-                final boolean isStart = (r == 0 && c == 0);
-                final boolean isExit = (r == rows - 1 && c == cols - 1);
-                final Cell cell = myCells[r][c];
-
-                if (isPlayer) cell.setState(Cell.State.PLAYER);
-                else if (isExit) cell.setState(Cell.State.EXIT);
-                else if (isStart) cell.setState(Cell.State.START);
-                else updateCellState(cell, theMaze, r, c);
-            }
-        }
+    public DirectionPanel getDirectionPanel() {
+        return myDirectionPanel;
     }
 
     /**
-     * Updates the state of a single cell based on whether its corresponding
-     * room in the maze has a blocked door.
+     * Updates the position panel with the player's current coordinates and
+     * the shortest open-door distance to the maze exit, which the maze caches.
      *
-     * @param theCell The cell to update.
-     * @param theMaze The maze containing the room.
-     * @param theRow  The row index of the room.
-     * @param theCol  The column index of the room.
+     * @param theMaze   The current maze.
+     * @param thePlayer The player navigating the maze.
      */
-    private void updateCellState(final Cell theCell, final Maze theMaze, final int theRow, final int theCol) {
-        final Room room = theMaze.getRoom(theRow, theCol);
-        if (roomHasBlockedDoor(room)) {
-            theCell.setState(Cell.State.BLOCKED);
-        } else {
-            theCell.setState(Cell.State.ROOM);
-        }
+    private void updatePositionPanel(final Maze theMaze, final Player thePlayer) {
+        myPositionPanel.setPosition(thePlayer.getX(), thePlayer.getY());
+        final int steps = theMaze.distanceToExitFromCurrent();
+        myPositionPanel.setDistanceText(steps < 0 ? "No path" : String.valueOf(steps));
     }
 
     /**
@@ -294,30 +279,21 @@ public class MazePanel extends JPanel {
         setChipEnabled(myWestLabel, available.contains(Direction.WEST));
     }
 
-    /**
-     * Checks if a given room has any blocked doors.
-     *
-     * @param theRoom The room to inspect.
-     * @return {@code true} if at least one door is blocked; {@code false} otherwise.
-     */
-    private boolean roomHasBlockedDoor(final Room theRoom) {
-        for (Direction dir : Direction.values()) {
-            Door door = theRoom.getDoor(dir);
-            if (door != null && door.isBlocked()) return true;
-        }
-        return false;
-    }
-
     /**
      * Builds and returns the right sidebar panel containing various sub-panels.
      *
      * @return A {@link JPanel} representing the sidebar.
      */
     private JPanel buildRightSidebar() {
-        final JPanel sidebar = new JPanel(new GridLayout(3, 1));
-        sidebar.add(myPositionPanel);
-        sidebar.add(myControlsPanel);
-        sidebar.add(myDirectionPanel);
+        final JPanel panels = new JPanel(new GridLayout(3, 1));
+        panels.add(myPositionPanel);
+        panels.add(myControlsPanel);
+        panels.add(myDirectionPanel);
+
+        myMinimap.setBorder(BorderFactory.createTitledBorder("Map"));
+        final JPanel sidebar = new JPanel(new BorderLayout());
+        sidebar.add(myMinimap, BorderLayout.NORTH);
+        sidebar.add(panels, BorderLayout.CENTER);
         return sidebar;
     }
 
@@ -349,36 +325,6 @@ public class MazePanel extends JPanel {
         theChip.setForeground(isEnabled ? Color.BLACK : new Color(120, 120, 120));
     }
 
-    /**
-     * Ensures the maze grid panel matches the given dimensions. If the dimensions
-     * have changed, it rebuilds the entire grid with new cells.
-     *
-     * @param theRows The desired number of rows for the grid.
-     * @param theCols The desired number of columns for the grid.
-     */
-    private void ensureGrid(final int theRows, final int theCols) {
-        if (theRows == myLastRows && theCols == myLastCols && myGrid != null) return;
-        myLastRows = theRows;
-        myLastCols = theCols;
-
-        myGrid = new JPanel(new GridLayout(theRows, theCols, 8, 8));
-        myGrid.setOpaque(false);
-        myCells = new Cell[theRows][theCols];
-
-        for (int r = 0; r < theRows; r++) {
-            for (int c = 0; c < theCols; c++) {
-                final Cell cell = new Cell();
-                myCells[r][c] = cell;
-                myGrid.add(cell);
-            }
-        }
-
-        myGridHolder.removeAll();
-        myGridHolder.add(myGrid, BorderLayout.CENTER);
-        myGridHolder.revalidate();
-        myGridHolder.repaint();
-    }
-
     /**
      * A helper method to bind a key stroke to a specific action using Swing's
      * InputMap and ActionMap.
@@ -404,60 +350,4 @@ public class MazePanel extends JPanel {
     private void fireMove(final Direction theDirection) {
         if (myOnMove != null) myOnMove.accept(theDirection);
     }
-
-    /**
-     * A private nested class representing a single visual cell within the maze grid.
-     * Each cell has a state (e.g., PLAYER, EXIT, BLOCKED) that determines its
-     * appearance.
-     */
-    private static final class Cell extends JPanel {
-        /** The possible states for a maze cell. */
-        enum State {ROOM, START, EXIT, PLAYER, BLOCKED}
-
-        private final JLabel myLabel = new JLabel("ROOM", SwingConstants.CENTER);
-
-        /**
-         * Constructs a {@code Cell}.
-         * It sets up the cell's layout, border, and adds a label.
-         */
-        Cell() {
-            setLayout(new BorderLayout());
-            setBackground(COL_ROOM);
-            setBorder(BorderFactory.createCompoundBorder(
-                    BorderFactory.createLineBorder(new Color(210, 210, 210)),
-                    new EmptyBorder(18, 18, 18, 18)));
-            myLabel.setFont(FONT_META);
-            add(myLabel, BorderLayout.CENTER);
-        }
-
-        /**
-         * Sets the visual state of the cell, updating its background color and label text.
-         *
-         * @param theState The new state for the cell.
-         */
-        void setState(final State theState) {
-            switch (theState) {
-                case PLAYER -> {
-                    setBackground(COL_PLAYER);
-                    myLabel.setText("PLAYER");
-                }
-                case START -> {
-                    setBackground(COL_START);
-                    myLabel.setText("START");
-                }
-                case EXIT -> {
-                    setBackground(COL_EXIT);
-                    myLabel.setText("EXIT");
-                }
-                case BLOCKED -> {
-                    setBackground(COL_BLOCKED);
-                    myLabel.setText("BLOCKED");
-                }
-                default -> {
-                    setBackground(COL_ROOM);
-                    myLabel.setText("ROOM");
-                }
-            }
-        }
-    }
-}
\ No newline at end of file
+}
@@ -1,68 +1,215 @@
 package View.audio;
 
 import javax.sound.sampled.*;
-import java.net.URL;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Plays sound effects and background music from sounds decoded once.
+ * Each resource is decoded to PCM the first time it is needed, and played from a
+ * small pool of Clips opened on that data; {@link #preload(String)} does the decoding
+ * and opens the first clip up front, so a play is a rewind and a start: no decoding,
+ * no new line and no garbage, however fast a key repeats. A resource that is missing,
+ * cannot be decoded or cannot open even one clip is reported once and then stays
+ * silent; once a sound has a clip, failing to open another just reuses one it has.
+ */
 public final class SoundFX {
     private SoundFX() {}
 
-    // single long-lived loop clip for background music
-    private static Clip loopClip;
+    /** Most clips kept open per sound; a play with all of them busy restarts the oldest. */
+    private static final int VOICES = 3;
+
+    /**
+     * Sounds by resource path, including ones that turned out missing. The map only
+     * holds them; each decodes itself on first use, so a slow decode never blocks
+     * lookups of other sounds.
+     */
+    private static final Map<String, Sound> SOUNDS = new ConcurrentHashMap<>();
+
+    // the sound whose loop clip is playing as background music
+    private static Sound loopSound;
+
+    /** Decode a sound and open its first clip now, so its first play has no delay. */
+    public static void preload(String resourcePath) {
+        sound(resourcePath).openVoice();
+    }
 
     /** Play a short, one-shot sound. */
     public static void play(String resourcePath) {
-        try {
-            URL url = SoundFX.class.getResource(resourcePath);
-            if (url == null) {
-                System.err.println("SoundFX error: Resource not found: " + resourcePath);
+        sound(resourcePath).play();
+    }
+
+    /** Start looping background music (stops any previous loop). */
+    public static synchronized void loop(String resourcePath) {
+        stopLoop();
+        final Sound s = sound(resourcePath);
+        if (s.startLoop()) loopSound = s;
+    }
+
+    /** Stop current loop if any. */
+    public static synchronized void stopLoop() {
+        if (loopSound != null) {
+            loopSound.stopLoop();
+            loopSound = null;
+        }
+    }
+
+    /** Is background music currently running? */
+    public static synchronized boolean isLooping() {
+        return loopSound != null && loopSound.isLooping();
+    }
+
+    /** Close every open clip, e.g. before exiting. Sounds reopen on their next play. */
+    public static synchronized void closeAll() {
+        loopSound = null;
+        for (Sound s : SOUNDS.values()) s.close();
+    }
+
+    private static Sound sound(String resourcePath) {
+        return SOUNDS.computeIfAbsent(resourcePath, Sound::new);
+    }
+
+    /**
+     * One sound, decoded on first use, and the clips opened on it. A sound that
+     * could not be loaded is kept, unplayable, so it is only reported once.
+     */
+    private static final class Sound {
+        private final String path;
+        private AudioFormat format;
+        private byte[] pcm;
+        private boolean decoded;
+
+        // one-shot voices, oldest start first
+        private final List<Clip> voices = new ArrayList<>(VOICES);
+        private Clip loopClip;
+
+        // set once the sound failed to decode or its first clip failed to open,
+        // e.g. when there is no audio device
+        private boolean unplayable;
+
+        private Sound(String path) {
+            this.path = path;
+        }
+
+        /** Decode the sound the first time it is needed; false if it cannot be played. */
+        private boolean ready() {
+            if (!decoded) {
+                decoded = true;
+                decode();
+            }
+            return !unplayable;
+        }
+
+        /** Read the resource and convert it to PCM if it is compressed. */
+        private void decode() {
+            final InputStream raw = SoundFX.class.getResourceAsStream(path);
+            if (raw == null) {
+                System.err.println("SoundFX error: Resource not found: " + path);
+                unplayable = true;
                 return;
             }
-            AudioInputStream in = AudioSystem.getAudioInputStream(url);
-            Clip clip = AudioSystem.getClip();
-            clip.open(in);
-            // auto-close when finished to avoid holding onto lines
-            clip.addLineListener(ev -> {
-                if (ev.getType() == LineEvent.Type.STOP) {
-                    try { clip.close(); } catch (Exception ignored) {}
+            try (AudioInputStream in = AudioSystem.getAudioInputStream(new BufferedInputStream(raw))) {
+                AudioInputStream pcmIn = in;
+                AudioFormat f = in.getFormat();
+                if (f.getEncoding() != AudioFormat.Encoding.PCM_SIGNED
+                        && f.getEncoding() != AudioFormat.Encoding.PCM_UNSIGNED) {
+                    f = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, f.getSampleRate(), 16,
+                            f.getChannels(), f.getChannels() * 2, f.getSampleRate(), false);
+                    pcmIn = AudioSystem.getAudioInputStream(f, in);
                 }
-            });
+                pcm = pcmIn.readAllBytes();
+                format = f;
+            } catch (UnsupportedAudioFileException | IOException | IllegalArgumentException e) {
+                System.err.println("SoundFX error: " + path + ": " + e.getMessage());
+                unplayable = true;
+            }
+        }
+
+        synchronized void play() {
+            if (!ready()) return;
+            Clip clip = idleVoice();
+            if (clip == null && voices.size() < VOICES) clip = open();
+            if (clip == null && !voices.isEmpty()) {
+                clip = voices.remove(0); // all busy, or no line for another: cut off the oldest
+                clip.stop();
+            }
+            if (clip == null) return;
+            voices.add(clip);
+            clip.setFramePosition(0);
             clip.start();
-        } catch (Exception e) {
-            System.err.println("SoundFX error: " + e.getMessage());
         }
-    }
 
-    /** Start looping background music (stops any previous loop). */
-    public static void loop(String resourcePath) {
-        stopLoop();
-        try {
-            URL url = SoundFX.class.getResource(resourcePath);
-            if (url == null) {
-                System.err.println("SoundFX error: Resource not found: " + resourcePath);
-                return;
+        /** Open one idle voice ahead of the first play, unless one is already open. */
+        synchronized void openVoice() {
+            if (!ready() || !voices.isEmpty()) return;
+            final Clip clip = open();
+            if (clip != null) voices.add(clip);
+        }
+
+        synchronized boolean startLoop() {
+            if (!ready()) return false;
+            if (loopClip == null) loopClip = idleVoice(); // a preloaded clip serves the music
+            if (loopClip == null) loopClip = open();
+            if (loopClip == null && !voices.isEmpty()) {
+                loopClip = voices.remove(0); // no line for another: the music takes a voice
+                loopClip.stop();
             }
-            AudioInputStream in = AudioSystem.getAudioInputStream(url);
-            loopClip = AudioSystem.getClip();
-            loopClip.open(in);
+            if (loopClip == null) return false;
+            loopClip.setFramePosition(0);
             loopClip.loop(Clip.LOOP_CONTINUOUSLY);
-            loopClip.start();
-        } catch (Exception e) {
-            System.err.println("SoundFX loop error: " + e.getMessage());
-            stopLoop();
+            return true;
         }
-    }
 
-    /** Stop current loop if any. */
-    public static void stopLoop() {
-        if (loopClip != null) {
-            try { loopClip.stop(); } catch (Exception ignored) {}
-            try { loopClip.close(); } catch (Exception ignored) {}
+        synchronized void stopLoop() {
+            if (loopClip != null) loopClip.stop();
+        }
+
+        synchronized boolean isLooping() {
+            return loopClip != null && loopClip.isRunning();
+        }
+
+        synchronized void close() {
+            for (Clip c : voices) c.close();
+            voices.clear();
+            if (loopClip != null) loopClip.close();
             loopClip = null;
         }
-    }
 
-    /** Is background music currently running? */
-    public static boolean isLooping() {
-        return loopClip != null && loopClip.isRunning();
+        /** Take an idle one-shot voice out of the pool, or null if there is none. */
+        private Clip idleVoice() {
+            for (Clip c : voices) {
+                if (!c.isRunning()) {
+                    voices.remove(c);
+                    return c;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Open a clip on the decoded data, or return null if that fails. Only a sound
+         * with no clip at all gives up, since the failure may be for good (no audio
+         * device); one that has clips keeps playing on them.
+         */
+        private Clip open() {
+            Clip clip = null;
+            try {
+                clip = AudioSystem.getClip();
+                clip.open(format, pcm, 0, pcm.length);
+                return clip;
+            } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+                if (clip != null) clip.close();
+                if (voices.isEmpty() && loopClip == null) {
+                    System.err.println("SoundFX error: cannot play " + path + ": " + e.getMessage());
+                    unplayable = true;
+                }
+                return null;
+            }
+        }
     }
 }
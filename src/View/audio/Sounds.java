@@ -21,6 +21,11 @@ public enum Sounds {
 
     public static void stopLoop() { SoundFX.stopLoop(); } // convenience
     public static boolean isLooping() { return SoundFX.isLooping(); }
+
+    /** Decode every sound and open a clip for it up front, so none of them stalls its first play. */
+    public static void preloadAll() {
+        for (Sounds s : values()) SoundFX.preload(s.path);
+    }
 }
 
 